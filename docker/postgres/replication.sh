@@ -0,0 +1,2 @@
+#!/bin/bash
+echo 'host replication all all scram-sha-256' >> "$PGDATA/pg_hba.conf"
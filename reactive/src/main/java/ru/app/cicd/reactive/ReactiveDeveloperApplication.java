@@ -0,0 +1,13 @@
+package ru.app.cicd.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveDeveloperApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveDeveloperApplication.class, args);
+	}
+
+}
@@ -0,0 +1,239 @@
+package ru.app.cicd.reactive.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.app.cicd.reactive.dto.BulkDeleteResultDto;
+import ru.app.cicd.reactive.dto.DeveloperBatchItemDto;
+import ru.app.cicd.reactive.dto.DeveloperDto;
+import ru.app.cicd.reactive.dto.DeveloperLookupDto;
+import ru.app.cicd.reactive.dto.DeveloperPageDto;
+import ru.app.cicd.reactive.dto.ErrorDto;
+import ru.app.cicd.reactive.entity.Developer;
+import ru.app.cicd.reactive.exception.DeveloperNotFoundException;
+import ru.app.cicd.reactive.exception.DeveloperVersionConflictException;
+import ru.app.cicd.reactive.exception.DeveloperWithDuplicateEmailException;
+import ru.app.cicd.reactive.service.DeveloperService;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Реактивный вариант {@code /api/v1/developers} с тем же контрактом и теми же кодами ошибок,
+ * что и у сервлетного контроллера. Списки отдаются потоком с учётом backpressure клиента.
+ * <p>
+ * Отличия: нет {@code ?fields=} и форматов CBOR/Smile; ETag списка по специальности — хэш пар (id, version),
+ * а не тела ответа, поэтому теги двух стеков не взаимозаменяемы.
+ * <p>
+ * Кэши разработчиков и специальностей, фильтр email и поисковый индекс сервлетного приложения узнают
+ * об изменениях только из собственных записей. Этот стек пишет в БД мимо них, поэтому на одной живой БД
+ * с сервлетным приложением он не запускается — иначе сервлетный стек будет отдавать устаревшие данные.
+ */
+@RestController
+@RequestMapping("/api/v1/developers")
+@RequiredArgsConstructor
+public class DeveloperController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private static final int MAX_LOOKUP_IDS = 5000;
+
+    private static final int MAX_DELETE_IDS = 5000;
+
+    private final DeveloperService developerService;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Object>> getDeveloperById(@PathVariable("id") Integer id, ServerWebExchange exchange) {
+        if (Objects.isNull(exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH))) {
+            return loadDeveloper(id);
+        }
+        return developerService.getDeveloperVersion(id)
+                .filter(version -> exchange.checkNotModified(String.valueOf(version)))
+                .map(version -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(String.valueOf(version)).build())
+                .switchIfEmpty(Mono.defer(() -> loadDeveloper(id)));
+    }
+
+    private Mono<ResponseEntity<Object>> loadDeveloper(Integer id) {
+        return developerService.getDeveloperById(id)
+                .map(entity -> okWithETag(DeveloperDto.toDeveloperDto(entity)))
+                .onErrorResume(DeveloperNotFoundException.class, e -> Mono.just(error(404, e.getMessage())));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> getAllDevelopers(@RequestParam(value = "after", required = false) String after,
+                                                         @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        Integer afterId;
+
+        try {
+            afterId = DeveloperPageDto.decodeCursor(after);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(error(400, e.getMessage()));
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return developerService.getAllDevelopers(afterId, pageSize)
+                .map(DeveloperDto::toDeveloperDto)
+                .collectList()
+                .map(dtos -> {
+                    String nextCursor = dtos.size() == pageSize
+                            ? DeveloperPageDto.encodeCursor(dtos.get(dtos.size() - 1).getId())
+                            : null;
+                    return ResponseEntity.ok(DeveloperPageDto.builder().items(dtos).nextCursor(nextCursor).build());
+                });
+    }
+
+    @GetMapping(params = "ids")
+    public Mono<ResponseEntity<Object>> getDevelopersByIds(@RequestParam("ids") List<Integer> ids) {
+        return lookupDevelopers(ids);
+    }
+
+    @PostMapping("/lookup")
+    public Mono<ResponseEntity<Object>> lookupDevelopers(@RequestBody List<Integer> ids) {
+        if (ids.size() > MAX_LOOKUP_IDS) {
+            return Mono.just(error(400, "Too many ids, at most " + MAX_LOOKUP_IDS + " per request"));
+        }
+        return developerService.getDevelopersByIds(ids)
+                .map(DeveloperDto::toDeveloperDto)
+                .collectList()
+                .map(items -> {
+                    Set<Integer> foundIds = items.stream().map(DeveloperDto::getId).collect(Collectors.toSet());
+                    List<Integer> missing = ids.stream()
+                            .filter(Objects::nonNull)
+                            .distinct()
+                            .filter(id -> !foundIds.contains(id))
+                            .toList();
+                    return ResponseEntity.ok(DeveloperLookupDto.builder().items(items).missing(missing).build());
+                });
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DeveloperDto> exportDevelopers() {
+        return developerService.streamActiveDevelopers().map(DeveloperDto::toDeveloperDto);
+    }
+
+    /**
+     * ETag считается отдельным запросом по (id, version) до выдачи тела, чтобы тело шло потоком; тело
+     * читается позже и может быть только новее тега, так что условный запрос не вернёт 304 на устаревший ответ.
+     */
+    @GetMapping("/specialty/{specialty}")
+    public Mono<ResponseEntity<Flux<DeveloperDto>>> getAllDevelopersBySpecialty(
+            @PathVariable("specialty") String specialty, ServerWebExchange exchange) {
+        return developerService.getSpecialtyVersion(specialty).map(eTag -> {
+            if (exchange.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<Flux<DeveloperDto>>build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .body(developerService.getAllActiveBySpeciality(specialty).map(DeveloperDto::toDeveloperDto));
+        });
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> createDeveloper(@RequestBody DeveloperDto dto) {
+        return developerService.saveDeveloper(dto.toDeveloperEntity())
+                .map(created -> ResponseEntity.ok((Object) DeveloperDto.toDeveloperDto(created)))
+                .onErrorResume(DeveloperWithDuplicateEmailException.class, e -> Mono.just(error(400, e.getMessage())));
+    }
+
+    @PostMapping("/batch")
+    public Flux<DeveloperBatchItemDto> createDevelopers(@RequestBody List<DeveloperDto> dtos) {
+        List<Developer> entities = dtos.stream().map(DeveloperDto::toDeveloperEntity).toList();
+        return developerService.saveDevelopers(entities).map(DeveloperBatchItemDto::toDeveloperBatchItemDto);
+    }
+
+    @PutMapping
+    public Mono<ResponseEntity<Object>> updateDeveloper(@RequestBody DeveloperDto dto,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Developer entity = dto.toDeveloperEntity();
+
+        if (Objects.nonNull(ifMatch)) {
+            try {
+                entity.setVersion(parseIfMatch(ifMatch));
+            } catch (IllegalArgumentException e) {
+                return Mono.just(error(400, e.getMessage()));
+            } catch (DeveloperVersionConflictException e) {
+                return Mono.just(error(412, e.getMessage()));
+            }
+        }
+        return developerService.updateDeveloper(entity)
+                .map(updated -> okWithETag(DeveloperDto.toDeveloperDto(updated)))
+                .onErrorResume(DeveloperNotFoundException.class, e -> Mono.just(error(404, e.getMessage())))
+                .onErrorResume(DeveloperVersionConflictException.class,
+                        e -> Mono.just(error(Objects.isNull(ifMatch) ? 409 : 412, e.getMessage())))
+                .onErrorResume(DeveloperWithDuplicateEmailException.class, e -> Mono.just(error(400, e.getMessage())));
+    }
+
+    private static ResponseEntity<Object> okWithETag(DeveloperDto dto) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+
+        if (Objects.nonNull(dto.getVersion())) {
+            builder.eTag(String.valueOf(dto.getVersion()));
+        }
+        return builder.body(dto);
+    }
+
+    private static ResponseEntity<Object> error(int status, String message) {
+        return ResponseEntity.status(status).body(ErrorDto.builder().status(status).message(message).build());
+    }
+
+    /**
+     * If-Match сравнивает теги строго (RFC 9110, 13.1.1): слабый тег не совпадает ни с одной версией.
+     */
+    private static Long parseIfMatch(String ifMatch) {
+        String tag = ifMatch.trim();
+
+        if (tag.equals("*")) {
+            return Developer.ANY_VERSION;
+        }
+        if (tag.startsWith("W/")) {
+            throw new DeveloperVersionConflictException("If-Match requires a strong entity tag");
+        }
+        long version;
+
+        try {
+            version = Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header");
+        }
+        if (version < 0) {
+            throw new DeveloperVersionConflictException("Developer was modified concurrently");
+        }
+        return version;
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Object>> deleteDeveloperById(@PathVariable("id") Integer id,
+                                                            @RequestParam(value = "isHard", defaultValue = "false") boolean isHard) {
+        Mono<Void> deletion = isHard ? developerService.hardDeleteById(id) : developerService.softDeleteById(id);
+        return deletion
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok().build()))
+                .onErrorResume(DeveloperNotFoundException.class, e -> Mono.just(error(400, e.getMessage())));
+    }
+
+    @DeleteMapping
+    public Mono<ResponseEntity<Object>> deleteDevelopersByIds(@RequestParam("ids") Set<Integer> ids,
+                                                              @RequestParam(value = "isHard", defaultValue = "false") boolean isHard) {
+        if (ids.size() > MAX_DELETE_IDS) {
+            return Mono.just(error(400, "Too many ids, at most " + MAX_DELETE_IDS + " per request"));
+        }
+        Mono<Integer> deletion = isHard ? developerService.hardDeleteByIds(ids) : developerService.softDeleteByIds(ids);
+        return deletion.map(deleted ->
+                ResponseEntity.ok(BulkDeleteResultDto.builder().requested(ids.size()).deleted(deleted).build()));
+    }
+}
@@ -0,0 +1,19 @@
+package ru.app.cicd.reactive.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkDeleteResultDto {
+
+    private Integer requested;
+
+    private Integer deleted;
+}
@@ -0,0 +1,35 @@
+package ru.app.cicd.reactive.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.app.cicd.reactive.service.BatchItemResult;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeveloperBatchItemDto {
+
+    private Integer index;
+
+    private DeveloperDto developer;
+
+    private ErrorDto error;
+
+    public static DeveloperBatchItemDto toDeveloperBatchItemDto(BatchItemResult result) {
+        if (result.isSuccess()) {
+            return DeveloperBatchItemDto.builder()
+                    .index(result.getIndex())
+                    .developer(DeveloperDto.toDeveloperDto(result.getDeveloper()))
+                    .build();
+        }
+        return DeveloperBatchItemDto.builder()
+                .index(result.getIndex())
+                .error(ErrorDto.builder().status(400).message(result.getError().getMessage()).build())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package ru.app.cicd.reactive.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.app.cicd.reactive.entity.Developer;
+import ru.app.cicd.reactive.entity.Status;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeveloperDto {
+
+    private Integer id;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String specialty;
+
+    private String email;
+
+    private Status status;
+
+    private Long version;
+
+    public Developer toDeveloperEntity() {
+        return Developer.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .specialty(specialty)
+                .email(email)
+                .status(status)
+                .version(version)
+                .build();
+    }
+
+    public static DeveloperDto toDeveloperDto(Developer developer) {
+        return DeveloperDto.builder()
+                .id(developer.getId())
+                .firstName(developer.getFirstName())
+                .lastName(developer.getLastName())
+                .email(developer.getEmail())
+                .specialty(developer.getSpecialty())
+                .status(developer.getStatus())
+                .version(developer.getVersion())
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package ru.app.cicd.reactive.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeveloperVersionDto {
+
+    private Integer id;
+
+    private Long version;
+}
@@ -0,0 +1,40 @@
+package ru.app.cicd.reactive.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("developers")
+public class Developer {
+
+    public static final String EMAIL_UNIQUE_INDEX = "ux_developers_email";
+
+    /**
+     * Версия в запросе на обновление, означающая {@code If-Match: *}: обновить любую текущую версию.
+     */
+    public static final long ANY_VERSION = -1;
+
+    @Id
+    private Integer id;
+
+    private String email;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String specialty;
+
+    private Status status;
+
+    @Version
+    private Long version;
+}
@@ -0,0 +1,5 @@
+package ru.app.cicd.reactive.entity;
+
+public enum Status {
+    ACTIVE, DELETED
+}
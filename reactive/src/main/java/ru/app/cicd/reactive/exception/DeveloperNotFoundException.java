@@ -0,0 +1,8 @@
+package ru.app.cicd.reactive.exception;
+
+public class DeveloperNotFoundException extends RuntimeException {
+
+    public DeveloperNotFoundException(String message) {
+        super(message);
+    }
+}
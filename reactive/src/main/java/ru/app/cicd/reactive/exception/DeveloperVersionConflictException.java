@@ -0,0 +1,8 @@
+package ru.app.cicd.reactive.exception;
+
+public class DeveloperVersionConflictException extends RuntimeException {
+
+    public DeveloperVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package ru.app.cicd.reactive.exception;
+
+public class DeveloperWithDuplicateEmailException extends RuntimeException {
+
+    public DeveloperWithDuplicateEmailException(String message) {
+        super(message);
+    }
+}
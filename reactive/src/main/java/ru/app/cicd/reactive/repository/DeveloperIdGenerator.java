@@ -0,0 +1,50 @@
+package ru.app.cicd.reactive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * Выдаёт id из последовательности developers_seq, общей с сервлетным приложением.
+ * Повторяет pooled-оптимизатор Hibernate: значение последовательности резервирует блок
+ * (value - 50, value], поэтому id двух приложений не пересекаются.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeveloperIdGenerator {
+
+    static final int ALLOCATION_SIZE = 50;
+
+    private final DatabaseClient databaseClient;
+
+    private long next = 1;
+
+    private long hi = 0;
+
+    public Mono<Integer> nextId() {
+        return Mono.defer(() -> {
+            Integer id = takeFromBlock();
+
+            if (Objects.nonNull(id)) {
+                return Mono.just(id);
+            }
+            return databaseClient.sql("SELECT nextval('developers_seq')")
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .doOnNext(this::allocate)
+                    .then(nextId());
+        });
+    }
+
+    private synchronized Integer takeFromBlock() {
+        return next <= hi ? Math.toIntExact(next++) : null;
+    }
+
+    private synchronized void allocate(long value) {
+        hi = value;
+        next = Math.max(1, value - ALLOCATION_SIZE + 1);
+    }
+}
@@ -0,0 +1,52 @@
+package ru.app.cicd.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.app.cicd.reactive.dto.DeveloperVersionDto;
+import ru.app.cicd.reactive.entity.Developer;
+import ru.app.cicd.reactive.entity.Status;
+
+import java.util.Collection;
+
+public interface DeveloperRepository extends R2dbcRepository<Developer, Integer> {
+
+    @Query("SELECT version FROM developers WHERE id = :id")
+    Mono<Long> findVersionById(Integer id);
+
+    @Query("SELECT email FROM developers WHERE email IN (:emails)")
+    Flux<String> findExistingEmails(Collection<String> emails);
+
+    @Query("SELECT * FROM developers WHERE status = 'ACTIVE' AND specialty = :specialty")
+    Flux<Developer> findAllActiveBySpecialty(String specialty);
+
+    @Query("SELECT id, version FROM developers WHERE status = 'ACTIVE' AND specialty = :specialty ORDER BY id")
+    Flux<DeveloperVersionDto> findActiveVersionsBySpecialty(String specialty);
+
+    @Query("SELECT * FROM developers WHERE status = 'ACTIVE' AND id > :afterId ORDER BY id LIMIT :limit")
+    Flux<Developer> findActivePageAfter(Integer afterId, int limit);
+
+    @Query("SELECT * FROM developers WHERE status = 'ACTIVE' ORDER BY id")
+    Flux<Developer> streamAllActive();
+
+    @Modifying
+    @Query("UPDATE developers SET first_name = :firstName, last_name = :lastName, specialty = :specialty, "
+            + "email = :email, version = version + 1 WHERE id = :id AND version = :version")
+    Mono<Integer> updateIfVersion(Integer id, Long version, String firstName, String lastName, String specialty,
+                                  String email);
+
+    @Modifying
+    @Query("UPDATE developers SET first_name = :firstName, last_name = :lastName, specialty = :specialty, "
+            + "email = :email, version = version + 1 WHERE id = :id")
+    Mono<Integer> updateById(Integer id, String firstName, String lastName, String specialty, String email);
+
+    @Modifying
+    @Query("UPDATE developers SET status = :status, version = version + 1 WHERE id IN (:ids)")
+    Mono<Integer> updateStatusByIds(Collection<Integer> ids, Status status);
+
+    @Modifying
+    @Query("DELETE FROM developers WHERE id IN (:ids)")
+    Mono<Integer> deleteByIds(Collection<Integer> ids);
+}
@@ -0,0 +1,39 @@
+package ru.app.cicd.reactive.service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.app.cicd.reactive.entity.Developer;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface DeveloperService {
+
+    Mono<Developer> saveDeveloper(Developer developer);
+
+    Flux<BatchItemResult> saveDevelopers(List<Developer> developers);
+
+    Mono<Developer> updateDeveloper(Developer developer);
+
+    Mono<Developer> getDeveloperById(Integer id);
+
+    Mono<Long> getDeveloperVersion(Integer id);
+
+    Flux<Developer> getDevelopersByIds(Collection<Integer> ids);
+
+    Flux<Developer> getAllDevelopers(Integer afterId, int limit);
+
+    Flux<Developer> getAllActiveBySpeciality(String speciality);
+
+    Mono<String> getSpecialtyVersion(String speciality);
+
+    Flux<Developer> streamActiveDevelopers();
+
+    Mono<Void> softDeleteById(Integer id);
+
+    Mono<Void> hardDeleteById(Integer id);
+
+    Mono<Integer> softDeleteByIds(Collection<Integer> ids);
+
+    Mono<Integer> hardDeleteByIds(Collection<Integer> ids);
+}
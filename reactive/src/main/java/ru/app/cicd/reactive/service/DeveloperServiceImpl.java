@@ -0,0 +1,223 @@
+package ru.app.cicd.reactive.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.app.cicd.reactive.entity.Developer;
+import ru.app.cicd.reactive.entity.Status;
+import ru.app.cicd.reactive.exception.DeveloperNotFoundException;
+import ru.app.cicd.reactive.exception.DeveloperVersionConflictException;
+import ru.app.cicd.reactive.exception.DeveloperWithDuplicateEmailException;
+import ru.app.cicd.reactive.repository.DeveloperIdGenerator;
+import ru.app.cicd.reactive.repository.DeveloperRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class DeveloperServiceImpl implements DeveloperService {
+
+    private static final int EMAIL_LOOKUP_CHUNK = 5000;
+
+    private static final int ID_LOOKUP_CHUNK = 1000;
+
+    private static final int STREAM_PREFETCH = 500;
+
+    private final DeveloperRepository developerRepository;
+
+    private final DeveloperIdGenerator idGenerator;
+
+    private final R2dbcEntityTemplate entityTemplate;
+
+    @Override
+    public Mono<Developer> saveDeveloper(Developer developer) {
+        developer.setStatus(Status.ACTIVE);
+        developer.setVersion(null);
+        return insert(developer);
+    }
+
+    @Override
+    public Flux<BatchItemResult> saveDevelopers(List<Developer> developers) {
+        return findExistingEmails(developers).flatMapMany(takenEmails -> Flux.range(0, developers.size())
+                .concatMap(index -> {
+                    Developer developer = developers.get(index);
+                    String email = developer.getEmail();
+
+                    if (Objects.nonNull(email) && !takenEmails.add(email)) {
+                        return Mono.just(BatchItemResult.failed(index,
+                                new DeveloperWithDuplicateEmailException("Developer with defined email is already exists")));
+                    }
+                    return saveDeveloper(developer)
+                            .map(saved -> BatchItemResult.created(index, saved))
+                            .onErrorResume(DeveloperWithDuplicateEmailException.class,
+                                    e -> Mono.just(BatchItemResult.failed(index, e)));
+                }));
+    }
+
+    private Mono<Set<String>> findExistingEmails(List<Developer> developers) {
+        List<String> emails = developers.stream()
+                .map(Developer::getEmail)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        return Flux.fromIterable(emails)
+                .buffer(EMAIL_LOOKUP_CHUNK)
+                .concatMap(developerRepository::findExistingEmails)
+                .collect(HashSet::new, Set::add);
+    }
+
+    private Mono<Developer> insert(Developer developer) {
+        return idGenerator.nextId()
+                .flatMap(id -> {
+                    developer.setId(id);
+                    return entityTemplate.insert(developer);
+                })
+                .onErrorMap(DataIntegrityViolationException.class, DeveloperServiceImpl::translateDuplicateEmail);
+    }
+
+    /**
+     * {@link Developer#ANY_VERSION} обновляет строку без проверки версии и перечитывает её: статус и новая
+     * версия известны только после UPDATE.
+     */
+    @Override
+    public Mono<Developer> updateDeveloper(Developer developer) {
+        if (Objects.equals(developer.getVersion(), Developer.ANY_VERSION)) {
+            return developerRepository.updateById(developer.getId(), developer.getFirstName(), developer.getLastName(),
+                            developer.getSpecialty(), developer.getEmail())
+                    .onErrorMap(DataIntegrityViolationException.class, DeveloperServiceImpl::translateDuplicateEmail)
+                    .flatMap(updated -> updated == 0
+                            ? Mono.error(new DeveloperNotFoundException("Developer not found"))
+                            : getDeveloperById(developer.getId()));
+        }
+        return getDeveloperById(developer.getId()).flatMap(previous -> {
+            Long expectedVersion = Objects.isNull(developer.getVersion()) ? previous.getVersion() : developer.getVersion();
+
+            return developerRepository.updateIfVersion(developer.getId(), expectedVersion,
+                            developer.getFirstName(), developer.getLastName(), developer.getSpecialty(), developer.getEmail())
+                    .onErrorMap(DataIntegrityViolationException.class, DeveloperServiceImpl::translateDuplicateEmail)
+                    .flatMap(updated -> {
+                        if (updated == 0) {
+                            return developerRepository.existsById(developer.getId())
+                                    .flatMap(exists -> Mono.error(exists
+                                            ? new DeveloperVersionConflictException("Developer was modified concurrently")
+                                            : new DeveloperNotFoundException("Developer not found")));
+                        }
+                        return Mono.just(Developer.builder()
+                                .id(developer.getId())
+                                .email(developer.getEmail())
+                                .firstName(developer.getFirstName())
+                                .lastName(developer.getLastName())
+                                .specialty(developer.getSpecialty())
+                                .status(previous.getStatus())
+                                .version(expectedVersion + 1)
+                                .build());
+                    });
+        });
+    }
+
+    private static Throwable translateDuplicateEmail(DataIntegrityViolationException e) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+
+        if (Objects.nonNull(message) && message.toLowerCase(Locale.ROOT).contains(Developer.EMAIL_UNIQUE_INDEX)) {
+            return new DeveloperWithDuplicateEmailException("Developer with defined email is already exists");
+        }
+        return e;
+    }
+
+    @Override
+    public Mono<Developer> getDeveloperById(Integer id) {
+        return developerRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new DeveloperNotFoundException("Developer not found")));
+    }
+
+    @Override
+    public Mono<Long> getDeveloperVersion(Integer id) {
+        return developerRepository.findVersionById(id);
+    }
+
+    @Override
+    public Flux<Developer> getDevelopersByIds(Collection<Integer> ids) {
+        List<Integer> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+
+        return Flux.fromIterable(distinctIds)
+                .buffer(ID_LOOKUP_CHUNK)
+                .concatMap(developerRepository::findAllById)
+                .collectMap(Developer::getId)
+                .flatMapIterable(found -> distinctIds.stream().map(found::get).filter(Objects::nonNull).toList());
+    }
+
+    @Override
+    public Flux<Developer> getAllDevelopers(Integer afterId, int limit) {
+        return developerRepository.findActivePageAfter(afterId, limit);
+    }
+
+    @Override
+    public Flux<Developer> getAllActiveBySpeciality(String specialty) {
+        return developerRepository.findAllActiveBySpecialty(specialty).limitRate(STREAM_PREFETCH);
+    }
+
+    /**
+     * MD5 от пар (id, version) активных разработчиков специальности: меняется при любом изменении,
+     * попадании в список или выпадении из него, и не требует читать сами строки.
+     */
+    @Override
+    public Mono<String> getSpecialtyVersion(String specialty) {
+        return developerRepository.findActiveVersionsBySpecialty(specialty)
+                .reduce(md5(), (digest, row) -> {
+                    digest.update((row.getId() + ":" + row.getVersion() + ",").getBytes(StandardCharsets.US_ASCII));
+                    return digest;
+                })
+                .map(digest -> HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public Flux<Developer> streamActiveDevelopers() {
+        return developerRepository.streamAllActive().limitRate(STREAM_PREFETCH);
+    }
+
+    @Override
+    public Mono<Void> softDeleteById(Integer id) {
+        return developerRepository.updateStatusByIds(List.of(id), Status.DELETED).flatMap(DeveloperServiceImpl::requireAffected);
+    }
+
+    @Override
+    public Mono<Void> hardDeleteById(Integer id) {
+        return developerRepository.deleteByIds(List.of(id)).flatMap(DeveloperServiceImpl::requireAffected);
+    }
+
+    private static Mono<Void> requireAffected(Integer affected) {
+        return affected == 0 ? Mono.error(new DeveloperNotFoundException("Developer not found")) : Mono.empty();
+    }
+
+    @Override
+    public Mono<Integer> softDeleteByIds(Collection<Integer> ids) {
+        return ids.isEmpty() ? Mono.just(0) : developerRepository.updateStatusByIds(ids, Status.DELETED);
+    }
+
+    @Override
+    public Mono<Integer> hardDeleteByIds(Collection<Integer> ids) {
+        return ids.isEmpty() ? Mono.just(0) : developerRepository.deleteByIds(ids);
+    }
+}
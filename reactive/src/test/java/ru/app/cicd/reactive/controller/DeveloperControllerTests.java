@@ -0,0 +1,324 @@
+package ru.app.cicd.reactive.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.app.cicd.reactive.dto.DeveloperDto;
+import ru.app.cicd.reactive.entity.Developer;
+import ru.app.cicd.reactive.exception.DeveloperNotFoundException;
+import ru.app.cicd.reactive.exception.DeveloperVersionConflictException;
+import ru.app.cicd.reactive.exception.DeveloperWithDuplicateEmailException;
+import ru.app.cicd.reactive.service.BatchItemResult;
+import ru.app.cicd.reactive.service.DeveloperService;
+import ru.app.cicd.reactive.storage.DeveloperStorage;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@WebFluxTest(controllers = DeveloperController.class)
+public class DeveloperControllerTests {
+
+    @MockBean
+    private DeveloperService developerService;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("Test create developer functionality")
+    public void givenDeveloperDto_whenCreateDeveloper_thenSuccessResponse() {
+        //given
+        BDDMockito.given(developerService.saveDeveloper(any(Developer.class)))
+                .willReturn(Mono.just(DeveloperStorage.getJohnDoePersisted()));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.post().uri("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(DeveloperStorage.getJohnDoeDtoTransient())
+                .exchange();
+        //then
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.firstName").isEqualTo("John")
+                .jsonPath("$.status").isEqualTo("ACTIVE");
+    }
+
+    @Test
+    @DisplayName("Test create developer with duplicate email functionality")
+    public void givenDuplicateEmail_whenCreateDeveloper_thenErrorResponse() {
+        //given
+        BDDMockito.given(developerService.saveDeveloper(any(Developer.class)))
+                .willReturn(Mono.error(new DeveloperWithDuplicateEmailException("Developer with defined email is already exists")));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.post().uri("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(DeveloperStorage.getJohnDoeDtoTransient())
+                .exchange();
+        //then
+        response.expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").isEqualTo("Developer with defined email is already exists");
+    }
+
+    @Test
+    @DisplayName("Test batch create developers functionality")
+    public void givenDeveloperDtos_whenCreateDevelopers_thenPerItemResultsAreReturned() {
+        //given
+        BDDMockito.given(developerService.saveDevelopers(any())).willReturn(Flux.just(
+                BatchItemResult.created(0, DeveloperStorage.getJohnDoePersisted()),
+                BatchItemResult.failed(1, new DeveloperWithDuplicateEmailException("Developer with defined email is already exists"))));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.post().uri("/api/v1/developers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(DeveloperStorage.getJohnDoeDtoTransient(), DeveloperStorage.getJohnDoeDtoTransient()))
+                .exchange();
+        //then
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].developer.id").isEqualTo(1)
+                .jsonPath("$[1].index").isEqualTo(1)
+                .jsonPath("$[1].error.status").isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("Test get developer by id functionality")
+    public void givenId_whenGetById_thenSuccessResponseWithETag() {
+        //given
+        BDDMockito.given(developerService.getDeveloperById(1)).willReturn(Mono.just(DeveloperStorage.getJohnDoePersisted()));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/v1/developers/1").exchange();
+        //then
+        response.expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"")
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("John")
+                .jsonPath("$.lastName").isEqualTo("Doe");
+    }
+
+    @Test
+    @DisplayName("Test get developer by incorrect id functionality")
+    public void givenIncorrectId_whenGetById_thenErrorResponse() {
+        //given
+        BDDMockito.given(developerService.getDeveloperById(anyInt()))
+                .willReturn(Mono.error(new DeveloperNotFoundException("Developer not found")));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/v1/developers/1").exchange();
+        //then
+        response.expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.message").isEqualTo("Developer not found");
+    }
+
+    @Test
+    @DisplayName("Test get developer by id with matching If-None-Match functionality")
+    public void givenMatchingIfNoneMatch_whenGetById_thenNotModifiedWithoutLoadingDeveloper() {
+        //given
+        BDDMockito.given(developerService.getDeveloperVersion(1)).willReturn(Mono.just(3L));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/v1/developers/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                .exchange();
+        //then
+        response.expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+                .expectBody().isEmpty();
+        verify(developerService, never()).getDeveloperById(anyInt());
+    }
+
+    @Test
+    @DisplayName("Test get developers page functionality")
+    public void givenLimit_whenGetAll_thenPageWithCursorIsReturned() {
+        //given
+        BDDMockito.given(developerService.getAllDevelopers(0, 1)).willReturn(Flux.just(DeveloperStorage.getJohnDoePersisted()));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/v1/developers?limit=1").exchange();
+        //then
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[0].firstName").isEqualTo("John")
+                .jsonPath("$.nextCursor").isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Test get developers page with invalid cursor functionality")
+    public void givenInvalidCursor_whenGetAll_thenErrorResponse() {
+        //given
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/v1/developers?after=garbage").exchange();
+        //then
+        response.expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("Test get developers by ids functionality")
+    public void givenIds_whenGetByIds_thenFoundAndMissingAreReturned() {
+        //given
+        BDDMockito.given(developerService.getDevelopersByIds(List.of(1, 3, 7)))
+                .willReturn(Flux.just(DeveloperStorage.getJohnDoePersisted(), DeveloperStorage.getDeveloperMiaPersisted()));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/v1/developers?ids=1,3,7").exchange();
+        //then
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(2)
+                .jsonPath("$.items[1].firstName").isEqualTo("Mia")
+                .jsonPath("$.missing[0]").isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Test export developers as ndjson functionality")
+    public void givenActiveDevelopers_whenExport_thenOneJsonObjectPerLine() {
+        //given
+        BDDMockito.given(developerService.streamActiveDevelopers())
+                .willReturn(Flux.just(DeveloperStorage.getJohnDoePersisted(), DeveloperStorage.getDeveloperMiaPersisted()));
+        //when
+        List<DeveloperDto> exported = webTestClient.get().uri("/api/v1/developers/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(DeveloperDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+        //then
+        assertThat(exported).extracting(DeveloperDto::getFirstName).containsExactly("John", "Mia");
+    }
+
+    @Test
+    @DisplayName("Test get developers by specialty functionality")
+    public void givenSpecialty_whenGetBySpecialty_thenJsonArrayIsReturned() {
+        //given
+        BDDMockito.given(developerService.getSpecialtyVersion("Kotlin")).willReturn(Mono.just("abc"));
+        BDDMockito.given(developerService.getAllActiveBySpeciality("Kotlin"))
+                .willReturn(Flux.just(DeveloperStorage.getJohnDoePersisted()));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/v1/developers/specialty/Kotlin").exchange();
+        //then
+        response.expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"abc\"")
+                .expectBody()
+                .jsonPath("$[0].firstName").isEqualTo("John");
+    }
+
+    @Test
+    @DisplayName("Test get developers by specialty with matching If-None-Match functionality")
+    public void givenMatchingIfNoneMatch_whenGetBySpecialty_thenNotModifiedWithoutLoadingDevelopers() {
+        //given
+        BDDMockito.given(developerService.getSpecialtyVersion("Kotlin")).willReturn(Mono.just("abc"));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/v1/developers/specialty/Kotlin")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"abc\"")
+                .exchange();
+        //then
+        response.expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"abc\"")
+                .expectBody().isEmpty();
+        verify(developerService, never()).getAllActiveBySpeciality(anyString());
+    }
+
+    @Test
+    @DisplayName("Test update developer with stale If-Match functionality")
+    public void givenStaleIfMatch_whenUpdateDeveloper_thenPreconditionFailed() {
+        //given
+        BDDMockito.given(developerService.updateDeveloper(any(Developer.class)))
+                .willReturn(Mono.error(new DeveloperVersionConflictException("Developer was modified concurrently")));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.put().uri("/api/v1/developers")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(DeveloperStorage.getJohnDoeDtoTransient())
+                .exchange();
+        //then
+        response.expectStatus().isEqualTo(412)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(412);
+    }
+
+    @Test
+    @DisplayName("Test update developer with weak If-Match functionality")
+    public void givenWeakIfMatch_whenUpdateDeveloper_thenPreconditionFailedWithoutUpdate() {
+        //given
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.put().uri("/api/v1/developers")
+                .header(HttpHeaders.IF_MATCH, "W/\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(DeveloperStorage.getJohnDoeDtoTransient())
+                .exchange();
+        //then
+        response.expectStatus().isEqualTo(412)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("If-Match requires a strong entity tag");
+        verify(developerService, never()).updateDeveloper(any(Developer.class));
+    }
+
+    @Test
+    @DisplayName("Test update developer with If-Match any functionality")
+    public void givenIfMatchAny_whenUpdateDeveloper_thenAnyVersionIsPassed() {
+        //given
+        BDDMockito.given(developerService.updateDeveloper(argThat(developer ->
+                        developer.getVersion() == Developer.ANY_VERSION)))
+                .willReturn(Mono.just(DeveloperStorage.getJohnDoePersisted()));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.put().uri("/api/v1/developers")
+                .header(HttpHeaders.IF_MATCH, "*")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(DeveloperStorage.getJohnDoeDtoTransient())
+                .exchange();
+        //then
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("John");
+    }
+
+    @Test
+    @DisplayName("Test update developer with stale body version functionality")
+    public void givenStaleBodyVersion_whenUpdateDeveloper_thenConflict() {
+        //given
+        BDDMockito.given(developerService.updateDeveloper(any(Developer.class)))
+                .willReturn(Mono.error(new DeveloperVersionConflictException("Developer was modified concurrently")));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.put().uri("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(DeveloperStorage.getJohnDoeDtoTransient())
+                .exchange();
+        //then
+        response.expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Developer was modified concurrently");
+    }
+
+    @Test
+    @DisplayName("Test soft delete by incorrect id functionality")
+    public void givenIncorrectId_whenSoftDelete_thenErrorResponse() {
+        //given
+        BDDMockito.given(developerService.softDeleteById(anyInt()))
+                .willReturn(Mono.error(new DeveloperNotFoundException("Developer not found")));
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.delete().uri("/api/v1/developers/1").exchange();
+        //then
+        response.expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").isEqualTo("Developer not found");
+    }
+}
@@ -0,0 +1,159 @@
+package ru.app.cicd.reactive.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import ru.app.cicd.reactive.dto.DeveloperVersionDto;
+import ru.app.cicd.reactive.entity.Developer;
+import ru.app.cicd.reactive.entity.Status;
+import ru.app.cicd.reactive.storage.DeveloperStorage;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тестируем R2DBC-репозиторий на H2 со схемой из миграций сервлетного приложения.
+ */
+@DataR2dbcTest
+@ActiveProfiles("test")
+@Import(DeveloperIdGenerator.class)
+public class DeveloperRepositoryTests {
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperIdGenerator idGenerator;
+
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll().block();
+    }
+
+    @Test
+    @DisplayName("Test insert developer with sequence id functionality")
+    public void givenDeveloperObject_whenInsert_thenIdAndVersionAreAssigned() {
+        //given
+        Developer developer = DeveloperStorage.getDeveloperTransient();
+        //when
+        Developer saved = insert(developer);
+        //then
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getVersion()).isZero();
+        StepVerifier.create(developerRepository.findById(saved.getId()))
+                .assertNext(found -> assertThat(found.getFirstName()).isEqualTo("Jully"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test id generator hands out unique ids functionality")
+    public void givenManyRequests_whenNextId_thenIdsAreUnique() {
+        //given
+        int count = DeveloperIdGenerator.ALLOCATION_SIZE * 3;
+        //when
+        List<Integer> ids = Flux.range(0, count).flatMap(i -> idGenerator.nextId()).collectList().block();
+        //then
+        assertThat(ids).hasSize(count).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Test find version by id functionality")
+    public void givenSavedDeveloper_whenFindVersionById_thenOnlyVersionIsReturned() {
+        //given
+        Developer saved = insert(DeveloperStorage.getDeveloperTransient());
+        //when
+        //then
+        StepVerifier.create(developerRepository.findVersionById(saved.getId())).expectNext(0L).verifyComplete();
+        StepVerifier.create(developerRepository.findVersionById(saved.getId() + 1000)).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test find active page after cursor functionality")
+    public void givenActiveAndDeletedDevelopers_whenFindActivePageAfter_thenOnlyActiveAfterCursorAreReturned() {
+        //given
+        Developer first = insert(DeveloperStorage.getDeveloperTransient());
+        Developer deleted = DeveloperStorage.getDeveloperHaloTransient();
+        deleted.setStatus(Status.DELETED);
+        insert(deleted);
+        //when
+        List<Developer> fromStart = developerRepository.findActivePageAfter(0, 10).collectList().block();
+        List<Developer> afterFirst = developerRepository.findActivePageAfter(first.getId(), 10).collectList().block();
+        //then
+        assertThat(fromStart).extracting(Developer::getId).containsExactly(first.getId());
+        assertThat(afterFirst).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test versioned update functionality")
+    public void givenSavedDeveloper_whenUpdateIfVersion_thenOnlyMatchingVersionIsUpdated() {
+        //given
+        Developer saved = insert(DeveloperStorage.getDeveloperTransient());
+        //when
+        Integer stale = developerRepository.updateIfVersion(saved.getId(), 1L, "Stale", "Stale", "php",
+                saved.getEmail()).block();
+        Integer fresh = developerRepository.updateIfVersion(saved.getId(), 0L, "Fresh", "Fresh", "php",
+                saved.getEmail()).block();
+        //then
+        assertThat(stale).isZero();
+        assertThat(fresh).isEqualTo(1);
+        StepVerifier.create(developerRepository.findById(saved.getId()))
+                .assertNext(found -> {
+                    assertThat(found.getFirstName()).isEqualTo("Fresh");
+                    assertThat(found.getVersion()).isEqualTo(1L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test find active versions by specialty functionality")
+    public void givenSavedDevelopers_whenFindActiveVersionsBySpecialty_thenIdsAndVersionsAreReturned() {
+        //given
+        Developer first = insert(DeveloperStorage.getDeveloperTransient());
+        Developer second = insert(DeveloperStorage.getDeveloperHaloTransient());
+        developerRepository.updateIfVersion(first.getId(), 0L, "Fresh", "Fresh", "java", first.getEmail()).block();
+        //when
+        //then
+        StepVerifier.create(developerRepository.findActiveVersionsBySpecialty("java"))
+                .expectNext(new DeveloperVersionDto(first.getId(), 1L), new DeveloperVersionDto(second.getId(), 0L))
+                .verifyComplete();
+        StepVerifier.create(developerRepository.findActiveVersionsBySpecialty("php")).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test bulk status update and delete by ids functionality")
+    public void givenDevelopersSaved_whenUpdateStatusAndDeleteByIds_thenAffectedRowsAreReturned() {
+        //given
+        Developer first = insert(DeveloperStorage.getDeveloperTransient());
+        Developer second = insert(DeveloperStorage.getDeveloperHaloTransient());
+        //when
+        Integer updated = developerRepository.updateStatusByIds(List.of(first.getId(), second.getId()), Status.DELETED)
+                .block();
+        Integer deleted = developerRepository.deleteByIds(List.of(first.getId(), second.getId() + 1000)).block();
+        //then
+        assertThat(updated).isEqualTo(2);
+        assertThat(deleted).isEqualTo(1);
+        StepVerifier.create(developerRepository.findById(second.getId()))
+                .assertNext(found -> assertThat(found.getStatus()).isEqualTo(Status.DELETED))
+                .verifyComplete();
+    }
+
+    private Developer insert(Developer developer) {
+        return idGenerator.nextId()
+                .flatMap(id -> {
+                    developer.setId(id);
+                    return entityTemplate.insert(developer);
+                })
+                .block();
+    }
+}
@@ -0,0 +1,228 @@
+package ru.app.cicd.reactive.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import ru.app.cicd.reactive.dto.DeveloperVersionDto;
+import ru.app.cicd.reactive.entity.Developer;
+import ru.app.cicd.reactive.entity.Status;
+import ru.app.cicd.reactive.exception.DeveloperNotFoundException;
+import ru.app.cicd.reactive.exception.DeveloperVersionConflictException;
+import ru.app.cicd.reactive.exception.DeveloperWithDuplicateEmailException;
+import ru.app.cicd.reactive.repository.DeveloperIdGenerator;
+import ru.app.cicd.reactive.repository.DeveloperRepository;
+import ru.app.cicd.reactive.storage.DeveloperStorage;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Тестирование (unit) реактивного сервисного слоя при помощи Mockito и StepVerifier.
+ */
+@ExtendWith(MockitoExtension.class)
+public class DeveloperServiceImplTests {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+    @Mock
+    private DeveloperIdGenerator idGenerator;
+    @Mock
+    private R2dbcEntityTemplate entityTemplate;
+    @InjectMocks
+    private DeveloperServiceImpl developerService;
+
+    @Test
+    @DisplayName("Test save developer functionality")
+    public void givenDeveloperToSave_whenSaveDeveloper_thenInsertedWithSequenceId() {
+        //given
+        Developer developer = DeveloperStorage.getDeveloperTransient();
+        developer.setStatus(null);
+        BDDMockito.given(idGenerator.nextId()).willReturn(Mono.just(42));
+        BDDMockito.given(entityTemplate.insert(any(Developer.class))).willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        //when
+        //then
+        StepVerifier.create(developerService.saveDeveloper(developer))
+                .assertNext(saved -> {
+                    assertThat(saved.getId()).isEqualTo(42);
+                    assertThat(saved.getStatus()).isEqualTo(Status.ACTIVE);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test save developer with duplicate email functionality")
+    public void givenDuplicateEmailViolation_whenSaveDeveloper_thenExceptionIsTranslated() {
+        //given
+        BDDMockito.given(idGenerator.nextId()).willReturn(Mono.just(42));
+        BDDMockito.given(entityTemplate.insert(any(Developer.class))).willReturn(Mono.error(
+                new DataIntegrityViolationException("Unique index violation: PUBLIC.UX_DEVELOPERS_EMAIL ON PUBLIC.DEVELOPERS(EMAIL)")));
+        //when
+        //then
+        StepVerifier.create(developerService.saveDeveloper(DeveloperStorage.getDeveloperTransient()))
+                .expectError(DeveloperWithDuplicateEmailException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Test batch save skips taken and repeated emails functionality")
+    public void givenDevelopersWithDuplicates_whenSaveDevelopers_thenOnlyUniqueAreSaved() {
+        //given
+        Developer taken = DeveloperStorage.getDeveloperTransient();
+        Developer fresh = DeveloperStorage.getDeveloperHaloTransient();
+        Developer repeated = DeveloperStorage.getDeveloperHaloTransient();
+        BDDMockito.given(developerRepository.findExistingEmails(anyCollection())).willReturn(Flux.just(taken.getEmail()));
+        BDDMockito.given(idGenerator.nextId()).willReturn(Mono.just(7));
+        BDDMockito.given(entityTemplate.insert(any(Developer.class))).willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        //when
+        List<BatchItemResult> results = developerService.saveDevelopers(List.of(taken, fresh, repeated)).collectList().block();
+        //then
+        assertThat(results).extracting(BatchItemResult::isSuccess).containsExactly(false, true, false);
+        assertThat(results).extracting(BatchItemResult::getIndex).containsExactly(0, 1, 2);
+        verify(entityTemplate, times(1)).insert(any(Developer.class));
+    }
+
+    @Test
+    @DisplayName("Test update developer functionality")
+    public void givenDeveloperToUpdate_whenUpdateDeveloper_thenSingleVersionedUpdateIsExecuted() {
+        //given
+        Developer previous = DeveloperStorage.getDeveloperMiaPersisted();
+        Developer update = DeveloperStorage.getDeveloperMiaPersisted();
+        update.setVersion(null);
+        update.setFirstName("Updated");
+        BDDMockito.given(developerRepository.findById(3)).willReturn(Mono.just(previous));
+        BDDMockito.given(developerRepository.updateIfVersion(eq(3), eq(0L), eq("Updated"), anyString(), anyString(), anyString()))
+                .willReturn(Mono.just(1));
+        //when
+        //then
+        StepVerifier.create(developerService.updateDeveloper(update))
+                .assertNext(updated -> {
+                    assertThat(updated.getFirstName()).isEqualTo("Updated");
+                    assertThat(updated.getVersion()).isEqualTo(1L);
+                    assertThat(updated.getStatus()).isEqualTo(Status.ACTIVE);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test update developer with any version functionality")
+    public void givenAnyVersion_whenUpdateDeveloper_thenRowIsUpdatedWithoutVersionCheck() {
+        //given
+        Developer developer = DeveloperStorage.getJohnDoePersisted();
+        developer.setVersion(Developer.ANY_VERSION);
+        Developer stored = DeveloperStorage.getJohnDoePersisted();
+        stored.setVersion(5L);
+        BDDMockito.given(developerRepository.updateById(eq(1), any(), any(), any(), any())).willReturn(Mono.just(1));
+        BDDMockito.given(developerRepository.findById(1)).willReturn(Mono.just(stored));
+        //when
+        //then
+        StepVerifier.create(developerService.updateDeveloper(developer))
+                .assertNext(updated -> assertThat(updated.getVersion()).isEqualTo(5L))
+                .verifyComplete();
+        verify(developerRepository, never()).updateIfVersion(anyInt(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Test specialty version changes with rows functionality")
+    public void givenVersionChange_whenGetSpecialtyVersion_thenTagChanges() {
+        //given
+        BDDMockito.given(developerRepository.findActiveVersionsBySpecialty("java"))
+                .willReturn(Flux.just(new DeveloperVersionDto(1, 0L), new DeveloperVersionDto(2, 0L)))
+                .willReturn(Flux.just(new DeveloperVersionDto(1, 0L), new DeveloperVersionDto(2, 0L)))
+                .willReturn(Flux.just(new DeveloperVersionDto(1, 0L), new DeveloperVersionDto(2, 1L)));
+        //when
+        String first = developerService.getSpecialtyVersion("java").block();
+        String same = developerService.getSpecialtyVersion("java").block();
+        String changed = developerService.getSpecialtyVersion("java").block();
+        //then
+        assertThat(same).isEqualTo(first);
+        assertThat(changed).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Test update developer with stale version functionality")
+    public void givenStaleVersion_whenUpdateDeveloper_thenConflictIsSignalled() {
+        //given
+        Developer update = DeveloperStorage.getDeveloperMiaPersisted();
+        update.setVersion(5L);
+        BDDMockito.given(developerRepository.findById(3)).willReturn(Mono.just(DeveloperStorage.getDeveloperMiaPersisted()));
+        BDDMockito.given(developerRepository.updateIfVersion(eq(3), eq(5L), anyString(), anyString(), anyString(), anyString()))
+                .willReturn(Mono.just(0));
+        BDDMockito.given(developerRepository.existsById(3)).willReturn(Mono.just(true));
+        //when
+        //then
+        StepVerifier.create(developerService.updateDeveloper(update))
+                .expectError(DeveloperVersionConflictException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Test update developer with incorrect id functionality")
+    public void givenIncorrectId_whenUpdateDeveloper_thenNotFoundIsSignalled() {
+        //given
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Mono.empty());
+        //when
+        //then
+        StepVerifier.create(developerService.updateDeveloper(DeveloperStorage.getDeveloperMiaPersisted()))
+                .expectError(DeveloperNotFoundException.class)
+                .verify();
+        verify(developerRepository, never()).updateIfVersion(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Test get developers by ids is chunked functionality")
+    public void givenManyIds_whenGetDevelopersByIds_thenQueriedInChunksAndOrdered() {
+        //given
+        List<Integer> ids = IntStream.rangeClosed(1, 2500).boxed().toList();
+        BDDMockito.given(developerRepository.findAllById(anyCollection())).willReturn(Flux.empty());
+        //when
+        List<Developer> developers = developerService.getDevelopersByIds(ids).collectList().block();
+        //then
+        assertThat(developers).isEmpty();
+        verify(developerRepository, times(3)).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Test get developers by ids keeps request order functionality")
+    public void givenIdsInArbitraryOrder_whenGetDevelopersByIds_thenFoundAreReturnedInRequestOrder() {
+        //given
+        Developer john = DeveloperStorage.getJohnDoePersisted();
+        Developer mia = DeveloperStorage.getDeveloperMiaPersisted();
+        BDDMockito.given(developerRepository.findAllById(List.of(3, 9, 1))).willReturn(Flux.just(john, mia));
+        //when
+        //then
+        StepVerifier.create(developerService.getDevelopersByIds(List.of(3, 9, 1, 3)))
+                .expectNext(mia, john)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test soft delete by incorrect id functionality")
+    public void givenIncorrectId_whenSoftDeleteById_thenNotFoundIsSignalled() {
+        //given
+        BDDMockito.given(developerRepository.updateStatusByIds(List.of(1), Status.DELETED)).willReturn(Mono.just(0));
+        //when
+        //then
+        StepVerifier.create(developerService.softDeleteById(1))
+                .expectError(DeveloperNotFoundException.class)
+                .verify();
+    }
+}
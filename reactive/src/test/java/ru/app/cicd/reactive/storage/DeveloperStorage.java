@@ -0,0 +1,61 @@
+package ru.app.cicd.reactive.storage;
+
+import ru.app.cicd.reactive.dto.DeveloperDto;
+import ru.app.cicd.reactive.entity.Developer;
+import ru.app.cicd.reactive.entity.Status;
+
+public class DeveloperStorage {
+
+    public static Developer getDeveloperTransient() {
+        return Developer.builder()
+                .firstName("Jully")
+                .lastName("Nino")
+                .email("haha@mail.ru")
+                .specialty("java")
+                .status(Status.ACTIVE)
+                .build();
+    }
+
+    public static Developer getDeveloperHaloTransient() {
+        return Developer.builder()
+                .firstName("Halo")
+                .lastName("Nino")
+                .email("halo@mail.ru")
+                .specialty("java")
+                .status(Status.ACTIVE)
+                .build();
+    }
+
+    public static Developer getJohnDoePersisted() {
+        return Developer.builder()
+                .id(1)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@mail.com")
+                .specialty("Kotlin")
+                .status(Status.ACTIVE)
+                .version(0L)
+                .build();
+    }
+
+    public static Developer getDeveloperMiaPersisted() {
+        return Developer.builder()
+                .id(3)
+                .firstName("Mia")
+                .lastName("Nino")
+                .email("mia@mail.ru")
+                .specialty("java")
+                .status(Status.ACTIVE)
+                .version(0L)
+                .build();
+    }
+
+    public static DeveloperDto getJohnDoeDtoTransient() {
+        return DeveloperDto.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@mail.com")
+                .specialty("Kotlin")
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package ru.app.cicd.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.entity.Developer;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeveloperMappingBenchmark {
+
+    private Developer developer;
+
+    private DeveloperDto developerDto;
+
+    @Setup
+    public void setUp() {
+        developer = Developers.developer(42);
+        developer.setId(42);
+        developerDto = DeveloperDto.toDeveloperDto(developer);
+    }
+
+    @Benchmark
+    public DeveloperDto toDeveloperDto() {
+        return DeveloperDto.toDeveloperDto(developer);
+    }
+
+    @Benchmark
+    public Developer toDeveloperEntity() {
+        return developerDto.toDeveloperEntity();
+    }
+}
@@ -0,0 +1,121 @@
+package ru.app.cicd.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.app.cicd.DeveloperApplication;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperField;
+import ru.app.cicd.entity.Developer;
+import ru.app.cicd.service.DeveloperService;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает чтение списков через сущности (гидрация, снимки для dirty checking, второй проход маппинга)
+ * с проекцией прямо в {@link DeveloperDto} в read-only транзакции, в том числе суженной до пары полей
+ * через {@code ?fields=}. Выделение памяти на запрос
+ * видно в {@code gc.alloc.rate.norm} при запуске с {@code -PjmhArgs="-prof gc DeveloperReadPathBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeveloperReadPathBenchmark {
+
+    private static final int SEEDED = 10_000;
+
+    private static final int PAGE_SIZE = 50;
+
+    private static final Set<DeveloperField> ID_AND_EMAIL = DeveloperField.parse("id,email");
+
+    private ConfigurableApplicationContext context;
+
+    private DeveloperService developerService;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(DeveloperApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:jmh-read;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        developerService = context.getBean(DeveloperService.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        developerService.saveDevelopers(Developers.developers(SEEDED));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DeveloperDto> pageViaEntities() {
+        int afterId = ThreadLocalRandom.current().nextInt(SEEDED - PAGE_SIZE);
+        return transactionTemplate.execute(status -> entityManager.createQuery(
+                        "SELECT d FROM Developer d WHERE d.status = 'ACTIVE' AND d.id > ?1 ORDER BY d.id", Developer.class)
+                .setParameter(1, afterId)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList().stream()
+                .map(DeveloperDto::toDeveloperDto)
+                .toList());
+    }
+
+    @Benchmark
+    public List<DeveloperDto> pageViaProjection() {
+        return developerService.getAllDevelopers(ThreadLocalRandom.current().nextInt(SEEDED - PAGE_SIZE), PAGE_SIZE,
+                DeveloperField.ALL);
+    }
+
+    @Benchmark
+    public List<DeveloperDto> pageViaNarrowProjection() {
+        return developerService.getAllDevelopers(ThreadLocalRandom.current().nextInt(SEEDED - PAGE_SIZE), PAGE_SIZE,
+                ID_AND_EMAIL);
+    }
+
+    @Benchmark
+    public List<DeveloperDto> specialtyViaEntities() {
+        String specialty = Developers.specialty(ThreadLocalRandom.current().nextInt(Developers.SPECIALTIES));
+        return transactionTemplate.execute(status -> entityManager.createQuery(
+                        "SELECT d FROM Developer d WHERE d.status = 'ACTIVE' AND d.specialty = ?1", Developer.class)
+                .setParameter(1, specialty)
+                .getResultList().stream()
+                .map(DeveloperDto::toDeveloperDto)
+                .toList());
+    }
+
+    @Benchmark
+    public List<DeveloperDto> specialtyViaProjection() {
+        return developerService.getAllActiveBySpeciality(
+                Developers.specialty(ThreadLocalRandom.current().nextInt(Developers.SPECIALTIES)),
+                DeveloperField.ALL);
+    }
+}
@@ -0,0 +1,128 @@
+package ru.app.cicd.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.app.cicd.DeveloperApplication;
+import ru.app.cicd.cache.DeveloperCache;
+import ru.app.cicd.cache.EmailFilter;
+import ru.app.cicd.cache.SpecialtyCache;
+import ru.app.cicd.changes.DeveloperChangeFeed;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperField;
+import ru.app.cicd.entity.Developer;
+import ru.app.cicd.repository.DeveloperRepository;
+import ru.app.cicd.search.DeveloperSearchIndex;
+import ru.app.cicd.service.DeveloperService;
+import ru.app.cicd.service.DeveloperServiceImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Бенчмарк методов сервиса на репозитории в памяти (только накладные расходы сервиса и кэшей)
+ * и на встроенной H2 (полный путь через JPA).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeveloperServiceBenchmark {
+
+    private static final int SEEDED = 10_000;
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"in-memory", "h2"})
+    private String backend;
+
+    private ConfigurableApplicationContext context;
+
+    private DeveloperService developerService;
+
+    private List<Integer> ids;
+
+    private final AtomicInteger created = new AtomicInteger(SEEDED);
+
+    @Setup
+    public void setUp() {
+        if ("h2".equals(backend)) {
+            context = new SpringApplicationBuilder(DeveloperApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                            "--spring.datasource.driver-class-name=org.h2.Driver",
+                            "--spring.datasource.username=sa",
+                            "--spring.datasource.password=",
+                            "--spring.jpa.show-sql=false",
+                            "--logging.level.root=WARN");
+            developerService = context.getBean(DeveloperService.class);
+            ids = developerService.saveDevelopers(Developers.developers(SEEDED)).stream()
+                    .map(result -> result.getDeveloper().getId())
+                    .toList();
+        } else {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            DeveloperRepository developerRepository = InMemoryDeveloperRepository.create();
+            developerService = new DeveloperServiceImpl(developerRepository, null,
+                    new DeveloperCache(100_000, Duration.ofMinutes(10), meterRegistry),
+                    new SpecialtyCache(1000, Duration.ofMinutes(10), meterRegistry),
+                    new EmailFilter(developerRepository, new TransactionTemplate(), meterRegistry, false, 1, 0.01,
+                            Duration.ZERO),
+                    new DeveloperSearchIndex(developerRepository, new TransactionTemplate(), meterRegistry, false),
+                    new DeveloperChangeFeed(meterRegistry, 1024, 0, Duration.ofMinutes(1), Duration.ofMinutes(1)));
+            ids = Developers.developers(SEEDED).stream()
+                    .map(developerRepository::save)
+                    .map(Developer::getId)
+                    .toList();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (Objects.nonNull(context)) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Developer getDeveloperById() {
+        return developerService.getDeveloperById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+
+    @Benchmark
+    public List<DeveloperDto> getAllDevelopers() {
+        return developerService.getAllDevelopers(ids.get(ThreadLocalRandom.current().nextInt(ids.size() - PAGE_SIZE)),
+                PAGE_SIZE, DeveloperField.ALL);
+    }
+
+    @Benchmark
+    public List<DeveloperDto> getAllActiveBySpeciality() {
+        return developerService.getAllActiveBySpeciality(
+                Developers.specialty(ThreadLocalRandom.current().nextInt(Developers.SPECIALTIES)),
+                DeveloperField.ALL);
+    }
+
+    @Benchmark
+    public Developer saveDeveloper() {
+        return developerService.saveDeveloper(Developers.developer(created.incrementAndGet()));
+    }
+}
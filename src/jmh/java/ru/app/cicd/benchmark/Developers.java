@@ -0,0 +1,41 @@
+package ru.app.cicd.benchmark;
+
+import ru.app.cicd.entity.Developer;
+import ru.app.cicd.entity.Status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Генерация синтетических разработчиков для бенчмарков.
+ */
+final class Developers {
+
+    static final int SPECIALTIES = 20;
+
+    private Developers() {
+    }
+
+    static Developer developer(int n) {
+        return Developer.builder()
+                .firstName("First" + n)
+                .lastName("Last" + n)
+                .email("dev" + n + "@mail.com")
+                .specialty(specialty(n))
+                .status(Status.ACTIVE)
+                .build();
+    }
+
+    static List<Developer> developers(int count) {
+        List<Developer> developers = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            developers.add(developer(i));
+        }
+        return developers;
+    }
+
+    static String specialty(int n) {
+        return "specialty" + (n % SPECIALTIES);
+    }
+}
@@ -0,0 +1,85 @@
+package ru.app.cicd.benchmark;
+
+import org.springframework.data.domain.Pageable;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.entity.Developer;
+import ru.app.cicd.entity.Status;
+import ru.app.cicd.repository.DeveloperRepository;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Репозиторий в памяти, чтобы мерить накладные расходы сервиса без БД.
+ * Поддерживает только методы, которые вызывают бенчмарки, остальные бросают {@link UnsupportedOperationException}.
+ */
+final class InMemoryDeveloperRepository {
+
+    private final ConcurrentNavigableMap<Integer, Developer> byId = new ConcurrentSkipListMap<>();
+
+    private final Map<String, Developer> byEmail = new ConcurrentHashMap<>();
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private InMemoryDeveloperRepository() {
+    }
+
+    static DeveloperRepository create() {
+        InMemoryDeveloperRepository repository = new InMemoryDeveloperRepository();
+        return (DeveloperRepository) Proxy.newProxyInstance(DeveloperRepository.class.getClassLoader(),
+                new Class<?>[]{DeveloperRepository.class},
+                (proxy, method, args) -> repository.invoke(proxy, method, args));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object invoke(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "save", "saveAndFlush" -> save((Developer) args[0]);
+            case "findById" -> Optional.ofNullable(byId.get((Integer) args[0]));
+            case "findByEmail" -> byEmail.get((String) args[0]);
+            case "findExistingEmails" -> ((Collection<String>) args[0]).stream()
+                    .filter(byEmail::containsKey)
+                    .toList();
+            case "findSpecialtyById" -> Optional.ofNullable(byId.get((Integer) args[0])).map(Developer::getSpecialty);
+            case "findAllActiveBySpecialty" -> byId.values().stream()
+                    .filter(developer -> developer.getStatus() == Status.ACTIVE)
+                    .filter(developer -> Objects.equals(developer.getSpecialty(), args[0]))
+                    .map(DeveloperDto::toDeveloperDto)
+                    .toList();
+            case "findActivePageAfter" -> findActivePageAfter((Integer) args[0], (Pageable) args[1]);
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "InMemoryDeveloperRepository";
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+    private Developer save(Developer developer) {
+        if (Objects.isNull(developer.getId())) {
+            developer.setId(sequence.incrementAndGet());
+        }
+        byId.put(developer.getId(), developer);
+
+        if (Objects.nonNull(developer.getEmail())) {
+            byEmail.put(developer.getEmail(), developer);
+        }
+        return developer;
+    }
+
+    private List<DeveloperDto> findActivePageAfter(Integer afterId, Pageable pageable) {
+        return byId.tailMap(afterId, false).values().stream()
+                .filter(developer -> developer.getStatus() == Status.ACTIVE)
+                .limit(pageable.getPageSize())
+                .map(DeveloperDto::toDeveloperDto)
+                .toList();
+    }
+}
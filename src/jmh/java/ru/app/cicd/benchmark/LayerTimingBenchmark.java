@@ -0,0 +1,52 @@
+package ru.app.cicd.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.app.cicd.timing.Layer;
+import ru.app.cicd.timing.RequestTimings;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Накладные расходы замера по слоям на один запрос: накопление времени и формирование Server-Timing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayerTimingBenchmark {
+
+    @Setup
+    public void setUp() {
+        RequestTimings.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestTimings.clear();
+    }
+
+    @Benchmark
+    public RequestTimings recordLayer() {
+        RequestTimings timings = RequestTimings.current();
+        long startedAt = System.nanoTime();
+        timings.record(Layer.DB, System.nanoTime() - startedAt);
+        return timings;
+    }
+
+    @Benchmark
+    public String serverTimingHeader() {
+        return RequestTimings.current().toServerTiming();
+    }
+}
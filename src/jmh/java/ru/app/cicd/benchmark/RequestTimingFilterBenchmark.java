@@ -0,0 +1,91 @@
+package ru.app.cicd.benchmark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.app.cicd.filter.RequestTimingFilter;
+import ru.app.cicd.timing.Layer;
+import ru.app.cicd.timing.RequestTimings;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Полная стоимость замера по слоям на один запрос: {@link RequestTimingFilter} с заголовком Server-Timing
+ * и записью гистограмм вокруг цепочки, которая замеряет сервис, БД и сериализацию.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestTimingFilterBenchmark {
+
+    /**
+     * Делает то же, что LayerTimingInterceptor и TimedSerialization для вызова сервиса с одним
+     * обращением к БД и сериализацией ответа, но без самих прокси.
+     */
+    private static final FilterChain CHAIN = (request, response) -> {
+        RequestTimings timings = RequestTimings.current();
+        long serviceStartedAt = System.nanoTime();
+        long dbStartedAt = System.nanoTime();
+        timings.record(Layer.DB, System.nanoTime() - dbStartedAt);
+        timings.record(Layer.SERVICE, System.nanoTime() - serviceStartedAt);
+        long serializationStartedAt = System.nanoTime();
+        timings.record(Layer.SERIALIZATION, System.nanoTime() - serializationStartedAt);
+    };
+
+    private TimedFilter filter;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        filter = new TimedFilter(new SimpleMeterRegistry());
+        request = new MockHttpServletRequest("GET", "/api/v1/developers/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/developers/{id}");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterRequest() throws ServletException, IOException {
+        filter.doFilterInternal(request, response, CHAIN);
+        return response;
+    }
+
+    /**
+     * Открывает {@code doFilterInternal}, чтобы не мерить проверку повторного входа OncePerRequestFilter
+     * на атрибутах MockHttpServletRequest.
+     */
+    private static final class TimedFilter extends RequestTimingFilter {
+
+        private TimedFilter(MeterRegistry meterRegistry) {
+            super(meterRegistry);
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            super.doFilterInternal(request, response, filterChain);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package ru.app.cicd.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.format.ResponseFormat;
+import ru.app.cicd.format.ResponseMappers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Время сериализации списка разработчиков в каждом формате ответа, без сжатия и с gzip, как его
+ * делает Tomcat. Размер тела на проводе для каждой пары формат/сжатие печатается при старте прогона.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private ResponseFormat format;
+
+    @Param({"10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<DeveloperDto> developerDtos;
+
+    @Setup
+    public void setUp() throws IOException {
+        ResponseMappers responseMappers = new ResponseMappers(Jackson2ObjectMapperBuilder.json().build(),
+                Jackson2ObjectMapperBuilder.json());
+        objectMapper = responseMappers.get(format);
+        developerDtos = Developers.developers(size).stream().map(DeveloperDto::toDeveloperDto).toList();
+
+        for (int i = 0; i < developerDtos.size(); i++) {
+            developerDtos.get(i).setId(i + 1);
+        }
+        System.out.printf("%n%s, %d developers: %d bytes, %d bytes gzipped%n", format, size,
+                serialize().length, serializeGzipped().length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(developerDtos);
+    }
+
+    @Benchmark
+    public byte[] serializeGzipped() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(gzip, developerDtos);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,137 @@
+package ru.app.cicd.load;
+
+import ru.app.cicd.entity.Developer;
+import ru.app.cicd.entity.Status;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Синтетические разработчики в стиле тестового {@code DeveloperStorage}, но в любом количестве. Разработчик
+ * с номером {@code n} всегда одинаков для одного {@code seed}, поэтому прогоны воспроизводимы, а
+ * нагрузка может восстановить email любого засеянного id без обращения к базе.
+ */
+final class DeveloperGenerator {
+
+    private static final String[] FIRST_NAMES = {"John", "Paul", "Mia", "Nina", "Halo", "Jully", "Anna", "Ivan",
+            "Olga", "Maria", "Sergey", "Elena", "Dmitry", "Kate", "Alex", "Sofia"};
+
+    private static final String[] LAST_NAMES = {"Doe", "Rysef", "Milova", "Nino", "Nono", "Petrov", "Ivanova",
+            "Smith", "Brown", "Sidorov", "Popov", "Volkova", "Morozov", "Novikova", "Lee", "Garcia"};
+
+    private static final String INSERT = "INSERT INTO developers (id, email, first_name, last_name, specialty, status, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 0)";
+
+    private static final int INSERT_BATCH = 1000;
+
+    private final Weighted<String> specialties;
+
+    private final Weighted<Status> statuses;
+
+    private final long seed;
+
+    DeveloperGenerator(Weighted<String> specialties, Weighted<Status> statuses, long seed) {
+        this.specialties = specialties;
+        this.statuses = statuses;
+        this.seed = seed;
+    }
+
+    Developer developerPersisted(int id) {
+        long hash = mix(seed + id);
+        return Developer.builder()
+                .id(id)
+                .firstName(FIRST_NAMES[(int) ((hash >>> 8) % FIRST_NAMES.length)])
+                .lastName(LAST_NAMES[(int) ((hash >>> 16) % LAST_NAMES.length)])
+                .email(email(id))
+                .specialty(specialties.pick(uniform(mix(hash + 1))))
+                .status(statuses.pick(uniform(mix(hash + 2))))
+                .build();
+    }
+
+    String email(int id) {
+        return "dev" + id + "@load.test";
+    }
+
+    String specialty(double uniform) {
+        return specialties.pick(uniform);
+    }
+
+    String toJson(Developer developer) {
+        return String.format(Locale.ROOT,
+                "{%s\"firstName\":\"%s\",\"lastName\":\"%s\",\"email\":\"%s\",\"specialty\":\"%s\"}",
+                developer.getId() == null ? "" : "\"id\":" + developer.getId() + ",",
+                developer.getFirstName(), developer.getLastName(), developer.getEmail(), developer.getSpecialty());
+    }
+
+    /**
+     * Пишет разработчиков с id от 1 до {@code count} пачками JDBC в {@code threads} потоков и сдвигает
+     * последовательность, чтобы id, выдаваемые приложением, начинались после засеянных.
+     */
+    void seed(DataSource dataSource, int count, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> parts = new ArrayList<>();
+            int partSize = (count + threads - 1) / threads;
+
+            for (int from = 1; from <= count; from += partSize) {
+                int first = from;
+                int last = Math.min(count, from + partSize - 1);
+                parts.add(executor.submit(() -> {
+                    insert(dataSource, first, last);
+                    return null;
+                }));
+            }
+            for (Future<?> part : parts) {
+                part.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("ALTER SEQUENCE developers_seq RESTART WITH " + (count + 50));
+        }
+    }
+
+    private void insert(DataSource dataSource, int first, int last) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            connection.setAutoCommit(false);
+
+            for (int id = first; id <= last; id++) {
+                Developer developer = developerPersisted(id);
+                statement.setInt(1, id);
+                statement.setString(2, developer.getEmail());
+                statement.setString(3, developer.getFirstName());
+                statement.setString(4, developer.getLastName());
+                statement.setString(5, developer.getSpecialty());
+                statement.setString(6, developer.getStatus().name());
+                statement.addBatch();
+
+                if ((id - first + 1) % INSERT_BATCH == 0 || id == last) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+    }
+
+    private static double uniform(long bits) {
+        return (bits >>> 11) / (double) (1L << 53);
+    }
+
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,226 @@
+package ru.app.cicd.load;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import ru.app.cicd.DeveloperApplication;
+import ru.app.cicd.cache.EmailFilter;
+import ru.app.cicd.dto.DeveloperPageDto;
+import ru.app.cicd.entity.Developer;
+import ru.app.cicd.entity.Status;
+import ru.app.cicd.search.DeveloperSearchIndex;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Воспроизводимый нагрузочный прогон {@code /api/v1/developers} перед релизом. Поднимает приложение на H2
+ * или на Postgres из Testcontainers, засеивает базу синтетическими разработчиками через JDBC и подаёт
+ * открытую нагрузку смесью операций, печатая пропускную способность и перцентили задержки по каждой.
+ * <p>
+ * Чтение и обновление идут по нижней половине засеянных id, удаление забирает id сверху вниз, поэтому
+ * операции не мешают друг другу и ошибки означают проблемы сервиса, а не коллизии генератора.
+ * <p>
+ * Параметры: {@code bench.db} (h2 | postgres), {@code bench.developers} (1000000),
+ * {@code bench.specialties} (java:30,python:20,javascript:20,go:10,kotlin:10,php:10),
+ * {@code bench.statuses} (ACTIVE:90,DELETED:10), {@code bench.mix}
+ * (read:60,list:20,specialty:5,create:5,update:7,delete:3), {@code bench.rate} (1000 запросов/с),
+ * {@code bench.warmup} (10s), {@code bench.duration} (60s), {@code bench.maxInFlight} (5000),
+ * {@code bench.seedThreads} (4), {@code bench.randomSeed} (42), {@code bench.output} (файл для JSON),
+ * {@code spring.datasource.*} для запуска против уже поднятой базы, {@code bench.replicaUrls} (список
+ * JDBC-адресов реплик через запятую) для сравнения прогона с чтением из реплик, например с {@code db-replica}
+ * из docker-compose, и без него.
+ */
+public class DeveloperLoadTest {
+
+    private enum Operation {
+        READ,
+        LIST,
+        SPECIALTY,
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    public static void main(String[] args) throws Exception {
+        String db = System.getProperty("bench.db", "h2");
+        int developers = Integer.getInteger("bench.developers", 1_000_000);
+        int rate = Integer.getInteger("bench.rate", 1000);
+        Duration warmup = Duration.parse("PT" + System.getProperty("bench.warmup", "10s"));
+        Duration duration = Duration.parse("PT" + System.getProperty("bench.duration", "60s"));
+        int maxInFlight = Integer.getInteger("bench.maxInFlight", 5000);
+        int seedThreads = Integer.getInteger("bench.seedThreads", 4);
+        long randomSeed = Long.getLong("bench.randomSeed", 42);
+        DeveloperGenerator generator = new DeveloperGenerator(
+                Weighted.parse(System.getProperty("bench.specialties",
+                        "java:30,python:20,javascript:20,go:10,kotlin:10,php:10"), specialty -> specialty),
+                Weighted.parse(System.getProperty("bench.statuses", "ACTIVE:90,DELETED:10"),
+                        status -> Status.valueOf(status.toUpperCase(Locale.ROOT))),
+                randomSeed);
+        Weighted<Operation> mix = Weighted.parse(System.getProperty("bench.mix",
+                        "read:60,list:20,specialty:5,create:5,update:7,delete:3"),
+                operation -> Operation.valueOf(operation.toUpperCase(Locale.ROOT)));
+
+        PostgreSQLContainer<?> postgres = null;
+        List<String> appArgs = new ArrayList<>(List.of("--server.port=0", "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"));
+
+        if (Objects.nonNull(System.getProperty("spring.datasource.url"))) {
+            String url = System.getProperty("spring.datasource.url");
+            appArgs.addAll(datasourceArgs(url, System.getProperty("spring.datasource.username", "sa"),
+                    System.getProperty("spring.datasource.password", "")));
+        } else if (db.equals("postgres")) {
+            postgres = new PostgreSQLContainer<>("postgres:latest")
+                    .withUsername("postgres")
+                    .withPassword("postgres")
+                    .withDatabaseName("cicd_load");
+            postgres.start();
+            appArgs.addAll(datasourceArgs(postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+                    postgres.getUsername(), postgres.getPassword()));
+        } else {
+            appArgs.addAll(datasourceArgs("jdbc:h2:mem:load;DB_CLOSE_DELAY=-1", "sa", ""));
+        }
+        if (Objects.nonNull(System.getProperty("bench.replicaUrls"))) {
+            appArgs.add("--developer.datasource.replica-urls=" + System.getProperty("bench.replicaUrls"));
+        }
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DeveloperApplication.class)
+                .run(appArgs.toArray(String[]::new))) {
+            awaitSearchIndex(context.getBean(DeveloperSearchIndex.class));
+            long seedStartedAt = System.nanoTime();
+            generator.seed(context.getBean(DataSource.class), developers, seedThreads);
+            double seedSeconds = (System.nanoTime() - seedStartedAt) / 1_000_000_000.0;
+            System.out.printf(Locale.ROOT, "Seeded %d developers in %.1f s (%.0f rows/s)%n",
+                    developers, seedSeconds, developers / seedSeconds);
+            context.getBean(EmailFilter.class).scheduleRebuild();
+            context.getBean(DeveloperSearchIndex.class).scheduleRebuild();
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/developers";
+            ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+            try {
+                HttpClient client = LoadDriver.newClient(executor);
+                Supplier<LoadDriver.Call> calls = new TrafficMix(baseUrl, generator, mix, developers, randomSeed);
+                LoadDriver.driveOpen(client, calls, rate, warmup, maxInFlight);
+                List<LoadDriver.OperationStats> stats = LoadDriver.driveOpen(client, calls, rate, duration,
+                        maxInFlight);
+                String json = "[" + String.join(",\n", stats.stream().map(LoadDriver.OperationStats::toJson).toList())
+                        + "]";
+                System.out.println(json);
+
+                if (Objects.nonNull(System.getProperty("bench.output"))) {
+                    Files.writeString(Path.of(System.getProperty("bench.output")), json);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        } finally {
+            if (Objects.nonNull(postgres)) {
+                postgres.stop();
+            }
+        }
+    }
+
+    private static List<String> datasourceArgs(String url, String username, String password) {
+        String driver = url.startsWith("jdbc:h2") ? "org.h2.Driver" : "org.postgresql.Driver";
+        return List.of("--spring.datasource.url=" + url,
+                "--spring.datasource.driver-class-name=" + driver,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password);
+    }
+
+    /**
+     * Стартовое перестроение индекса по пустой базе должно закончиться до засева, иначе повторное
+     * перестроение после засева будет пропущено.
+     */
+    private static void awaitSearchIndex(DeveloperSearchIndex searchIndex) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+
+        while (!searchIndex.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * Следующий запрос смеси. Вызывается только из потока, задающего темп нагрузки.
+     */
+    private static final class TrafficMix implements Supplier<LoadDriver.Call> {
+
+        private static final String JSON = "application/json";
+
+        private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+        private final String baseUrl;
+
+        private final DeveloperGenerator generator;
+
+        private final Weighted<Operation> mix;
+
+        private final int stableIds;
+
+        private final SplittableRandom random;
+
+        private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        private final AtomicInteger created = new AtomicInteger();
+
+        private final AtomicInteger nextDeleteId;
+
+        private TrafficMix(String baseUrl, DeveloperGenerator generator, Weighted<Operation> mix, int developers,
+                           long randomSeed) {
+            this.baseUrl = baseUrl;
+            this.generator = generator;
+            this.mix = mix;
+            this.stableIds = Math.max(1, developers / 2);
+            this.random = new SplittableRandom(randomSeed);
+            this.nextDeleteId = new AtomicInteger(developers);
+        }
+
+        @Override
+        public LoadDriver.Call get() {
+            Operation operation = mix.pick(random.nextDouble());
+            HttpRequest.Builder request = switch (operation) {
+                case READ -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + stableId())).GET();
+                case LIST -> HttpRequest.newBuilder(URI.create(baseUrl + "?limit=50&after="
+                        + DeveloperPageDto.encodeCursor(stableId()))).GET();
+                case SPECIALTY -> HttpRequest.newBuilder(URI.create(baseUrl + "/specialty/"
+                        + generator.specialty(random.nextDouble()))).GET();
+                case CREATE -> {
+                    Developer developer = generator.developerPersisted(stableId());
+                    developer.setId(null);
+                    developer.setEmail("load-" + runId + "-" + created.incrementAndGet() + "@load.test");
+                    yield HttpRequest.newBuilder(URI.create(baseUrl)).header("Content-Type", JSON)
+                            .POST(HttpRequest.BodyPublishers.ofString(generator.toJson(developer)));
+                }
+                case UPDATE -> {
+                    Developer developer = generator.developerPersisted(stableId());
+                    developer.setLastName(developer.getLastName() + random.nextInt(1000));
+                    yield HttpRequest.newBuilder(URI.create(baseUrl)).header("Content-Type", JSON)
+                            .PUT(HttpRequest.BodyPublishers.ofString(generator.toJson(developer)));
+                }
+                case DELETE -> HttpRequest.newBuilder(URI.create(baseUrl + "/"
+                        + Math.max(stableIds + 1, nextDeleteId.getAndDecrement()))).DELETE();
+            };
+            return new LoadDriver.Call(operation.name().toLowerCase(Locale.ROOT),
+                    request.timeout(REQUEST_TIMEOUT).build());
+        }
+
+        private int stableId() {
+            return 1 + random.nextInt(stableIds);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package ru.app.cicd.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Общая часть нагрузочных прогонов: наполнение базы через {@code /batch}, замкнутая нагрузка
+ * с фиксированным числом запросов в полёте и открытая нагрузка с фиксированной частотой.
+ */
+final class LoadDriver {
+
+    private LoadDriver() {
+    }
+
+    static HttpClient newClient(Executor executor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    static void seed(HttpClient client, String baseUrl, String emailPrefix, int count) throws Exception {
+        StringJoiner body = new StringJoiner(",", "[", "]");
+
+        for (int i = 0; i < count; i++) {
+            body.add(String.format(Locale.ROOT,
+                    "{\"firstName\":\"First%d\",\"lastName\":\"Last%d\",\"email\":\"%s-%d@mail.com\",\"specialty\":\"s%d\"}",
+                    i, i, emailPrefix, i, i % 20));
+        }
+        client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+    }
+
+    static Result drive(HttpClient client, String url, int clients, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(clients);
+        CountDownLatch done = new CountDownLatch(requests);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
+        long startedAt = System.nanoTime();
+
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int slot = i;
+            long sentAt = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                latencies[slot] = System.nanoTime() - sentAt;
+                if (error != null || response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                }
+                inFlight.release();
+                done.countDown();
+            });
+        }
+        done.await();
+        return new Result(latencies, System.nanoTime() - startedAt, errors.get());
+    }
+
+    /**
+     * Открытая модель: запросы уходят с частотой {@code rate} в секунду независимо от ответов, а задержка
+     * считается от запланированного момента отправки, чтобы очередь на стороне сервера не пряталась
+     * (coordinated omission). Если в полёте уже {@code maxInFlight} запросов, очередной не отправляется
+     * и учитывается как отброшенный.
+     */
+    static List<OperationStats> driveOpen(HttpClient client, Supplier<Call> calls, int rate, Duration duration,
+                                          int maxInFlight) throws Exception {
+        int total = (int) Math.max(1, rate * duration.toMillis() / 1000);
+        long intervalNanos = 1_000_000_000L / rate;
+        String[] operations = new String[total];
+        long[] latencies = new long[total];
+        Outcome[] outcomes = new Outcome[total];
+        AtomicInteger inFlight = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(total);
+        long startedAt = System.nanoTime();
+
+        for (int i = 0; i < total; i++) {
+            long scheduledAt = startedAt + i * intervalNanos;
+            long wait = scheduledAt - System.nanoTime();
+
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Call call = calls.get();
+            operations[i] = call.operation();
+
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                outcomes[i] = Outcome.DROPPED;
+                done.countDown();
+                continue;
+            }
+            int slot = i;
+            client.sendAsync(call.request(), HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                latencies[slot] = System.nanoTime() - scheduledAt;
+                outcomes[slot] = error == null && response.statusCode() / 100 == 2 ? Outcome.OK : Outcome.ERROR;
+                inFlight.decrementAndGet();
+                done.countDown();
+            });
+        }
+        done.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        Map<String, List<Integer>> slotsByOperation = new LinkedHashMap<>();
+
+        for (int i = 0; i < total; i++) {
+            slotsByOperation.computeIfAbsent(operations[i], key -> new ArrayList<>()).add(i);
+        }
+        List<OperationStats> stats = new ArrayList<>();
+        slotsByOperation.forEach((operation, slots) ->
+                stats.add(OperationStats.of(operation, slots, latencies, outcomes, elapsedNanos)));
+        stats.add(OperationStats.of("total", IntStream.range(0, total).boxed().toList(),
+                latencies, outcomes, elapsedNanos));
+        return stats;
+    }
+
+    static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    record Call(String operation, HttpRequest request) {
+    }
+
+    private enum Outcome {
+        OK,
+        ERROR,
+        DROPPED
+    }
+
+    record OperationStats(String operation, int requests, int errors, int dropped, double throughputRps,
+                          double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+
+        private static OperationStats of(String operation, List<Integer> slots, long[] latencies, Outcome[] outcomes,
+                                         long elapsedNanos) {
+            long[] sent = new long[slots.size()];
+            int count = 0;
+            int errors = 0;
+            int dropped = 0;
+
+            for (int slot : slots) {
+                if (outcomes[slot] == Outcome.DROPPED) {
+                    dropped++;
+                    continue;
+                }
+                if (outcomes[slot] == Outcome.ERROR) {
+                    errors++;
+                }
+                sent[count++] = latencies[slot];
+            }
+            long[] sorted = Arrays.copyOf(sent, count);
+            Arrays.sort(sorted);
+            return new OperationStats(operation, slots.size(), errors, dropped,
+                    (count - errors) / (elapsedNanos / 1_000_000_000.0),
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+        }
+
+        String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"operation\":\"%s\",\"requests\":%d,\"errors\":%d,\"dropped\":%d,\"throughputRps\":%.1f,"
+                            + "\"p50Ms\":%.3f,\"p90Ms\":%.3f,\"p99Ms\":%.3f,\"p999Ms\":%.3f,\"maxMs\":%.3f}",
+                    operation, requests, errors, dropped, throughputRps, p50Ms, p90Ms, p99Ms, p999Ms, maxMs);
+        }
+    }
+
+    record Result(long[] latencies, long elapsedNanos, int errors) {
+
+        String toJson(String mode, int clients) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            double throughput = sorted.length / (elapsedNanos / 1_000_000_000.0);
+            return String.format(Locale.ROOT,
+                    "{\"mode\":\"%s\",\"clients\":%d,\"requests\":%d,\"errors\":%d,\"throughputRps\":%.1f,"
+                            + "\"p50Ms\":%.3f,\"p99Ms\":%.3f,\"maxMs\":%.3f}",
+                    mode, clients, sorted.length, errors, throughput,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1_000_000.0);
+        }
+    }
+}
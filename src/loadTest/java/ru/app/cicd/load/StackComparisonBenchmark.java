@@ -0,0 +1,46 @@
+package ru.app.cicd.load;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Сравнивает сервлетный и реактивный (модуль {@code reactive}) варианты API под одинаковой нагрузкой.
+ * Приложения запускаются заранее против одной базы, например
+ * {@code docker compose up db}, {@code ./gradlew bootRun} и {@code ./gradlew :reactive:bootRun}.
+ * <p>
+ * Параметры: {@code bench.targets} (servlet=http://localhost:8787,reactive=http://localhost:8788),
+ * {@code bench.path} (?limit=50), {@code bench.clients} (1000), {@code bench.requests} (50000),
+ * {@code bench.seed} (1000).
+ */
+public class StackComparisonBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String targets = System.getProperty("bench.targets", "servlet=http://localhost:8787,reactive=http://localhost:8788");
+        String path = System.getProperty("bench.path", "?limit=50");
+        int clients = Integer.getInteger("bench.clients", 1000);
+        int requests = Integer.getInteger("bench.requests", 50_000);
+        int seed = Integer.getInteger("bench.seed", 1000);
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        List<String> results = new ArrayList<>();
+
+        try {
+            HttpClient client = LoadDriver.newClient(executor);
+
+            for (String target : targets.split(",")) {
+                String[] nameAndUrl = target.trim().split("=", 2);
+                String name = nameAndUrl[0];
+                String baseUrl = nameAndUrl[1] + "/api/v1/developers";
+
+                LoadDriver.seed(client, baseUrl, name + "-" + System.currentTimeMillis(), seed);
+                LoadDriver.drive(client, baseUrl + path, clients, Math.min(requests, 5_000));
+                results.add(LoadDriver.drive(client, baseUrl + path, clients, requests).toJson(name, clients));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        System.out.println("[" + String.join(",\n", results) + "]");
+    }
+}
@@ -0,0 +1,66 @@
+package ru.app.cicd.load;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.app.cicd.DeveloperApplication;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Сравнивает пропускную способность и p99 API при обработке запросов платформенными и виртуальными потоками.
+ * Для каждого режима поднимает приложение на случайном порту и держит {@code bench.clients} запросов в полёте.
+ * Виртуальные потоки требуют Java 21+, на более старой JVM режим пропускается.
+ * <p>
+ * Параметры: {@code bench.clients} (1000), {@code bench.requests} (50000), {@code bench.seed} (1000),
+ * {@code spring.datasource.*} для запуска против Postgres вместо H2.
+ */
+public class ThreadModeBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("bench.clients", 1000);
+        int requests = Integer.getInteger("bench.requests", 50_000);
+        int seed = Integer.getInteger("bench.seed", 1000);
+        List<String> results = new ArrayList<>();
+
+        results.add(run("platform", false, clients, requests, seed));
+        if (Runtime.version().feature() >= 21) {
+            results.add(run("virtual", true, clients, requests, seed));
+        } else {
+            System.out.println("Virtual threads need Java 21+, running on " + Runtime.version() + ", skipping");
+        }
+        System.out.println("[" + String.join(",\n", results) + "]");
+    }
+
+    private static String run(String mode, boolean virtual, int clients, int requests, int seed) throws Exception {
+        String url = System.getProperty("spring.datasource.url", "jdbc:h2:mem:bench-" + mode + ";DB_CLOSE_DELAY=-1");
+        String driver = url.startsWith("jdbc:h2") ? "org.h2.Driver" : "org.postgresql.Driver";
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DeveloperApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--spring.datasource.url=" + url,
+                        "--spring.datasource.driver-class-name=" + driver,
+                        "--spring.datasource.username=" + System.getProperty("spring.datasource.username", "sa"),
+                        "--spring.datasource.password=" + System.getProperty("spring.datasource.password", ""),
+                        "--spring.jpa.show-sql=false",
+                        "--server.tomcat.threads.max=200",
+                        "--logging.level.root=WARN")) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/developers";
+            ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            HttpClient client = LoadDriver.newClient(executor);
+
+            try {
+                LoadDriver.seed(client, baseUrl, mode, seed);
+                LoadDriver.drive(client, baseUrl + "?limit=50", clients, Math.min(requests, 5_000));
+                return LoadDriver.drive(client, baseUrl + "?limit=50", clients, requests).toJson(mode, clients);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package ru.app.cicd.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Выбор значения по весам из строки вида {@code java:30,python:20,go:10}.
+ */
+final class Weighted<T> {
+
+    private final List<T> values;
+
+    private final double[] cumulative;
+
+    private Weighted(List<T> values, double[] cumulative) {
+        this.values = values;
+        this.cumulative = cumulative;
+    }
+
+    static <T> Weighted<T> parse(String spec, Function<String, T> parser) {
+        List<T> values = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        double total = 0;
+
+        for (String entry : spec.split(",")) {
+            String[] valueAndWeight = entry.trim().split(":", 2);
+            double weight = valueAndWeight.length == 2 ? Double.parseDouble(valueAndWeight[1]) : 1;
+
+            if (weight > 0) {
+                values.add(parser.apply(valueAndWeight[0].trim()));
+                weights.add(weight);
+                total += weight;
+            }
+        }
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("No positive weights in '" + spec + "'");
+        }
+        double[] cumulative = new double[values.size()];
+        double sum = 0;
+
+        for (int i = 0; i < cumulative.length; i++) {
+            sum += weights.get(i);
+            cumulative[i] = sum / total;
+        }
+        return new Weighted<>(List.copyOf(values), cumulative);
+    }
+
+    /**
+     * @param uniform число из [0, 1)
+     */
+    T pick(double uniform) {
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (uniform < cumulative[i]) {
+                return values.get(i);
+            }
+        }
+        return values.get(values.size() - 1);
+    }
+
+    List<T> values() {
+        return values;
+    }
+}
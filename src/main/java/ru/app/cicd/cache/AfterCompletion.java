@@ -0,0 +1,43 @@
+package ru.app.cicd.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Выполняет изменение кэша сразу и повторно после завершения транзакции, чтобы конкурентное чтение
+ * или перестроение не потеряли изменение, сделанное до коммита.
+ */
+public final class AfterCompletion {
+
+    private AfterCompletion() {
+    }
+
+    static void nowAndAfterCompletion(Runnable action) {
+        action.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Выполняет действие только после успешного коммита текущей транзакции, без транзакции - сразу.
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package ru.app.cicd.cache;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * Сериализованное тело ответа вместе с его ETag. Хэш считается один раз
+ * при загрузке в кэш, а не на каждый запрос.
+ */
+public record CachedResponse(byte[] body, String eTag) {
+
+    public static CachedResponse of(byte[] body) {
+        return new CachedResponse(body, DigestUtils.md5DigestAsHex(body));
+    }
+}
@@ -0,0 +1,143 @@
+package ru.app.cicd.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.app.cicd.entity.Developer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Кэш разработчиков по id и email. Email хранится как индекс email -> id,
+ * поэтому данные разработчика лежат в кэше в единственном экземпляре.
+ */
+@Component
+public class DeveloperCache {
+
+    private final Cache<Integer, Developer> byId;
+
+    private final Cache<String, Integer> idByEmail;
+
+    public DeveloperCache(@Value("${developer.cache.maximum-size:100000}") long maximumSize,
+                          @Value("${developer.cache.ttl:10m}") Duration ttl,
+                          MeterRegistry meterRegistry) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "developersById");
+        CaffeineCacheMetrics.monitor(meterRegistry, idByEmail, "developersByEmail");
+    }
+
+    public Optional<Developer> getById(Integer id) {
+        return Optional.ofNullable(byId.getIfPresent(id)).map(DeveloperCache::copyOf);
+    }
+
+    public Optional<Developer> getByEmail(String email) {
+        Integer id = idByEmail.getIfPresent(email);
+
+        if (Objects.isNull(id)) {
+            return Optional.empty();
+        }
+        Developer cached = byId.getIfPresent(id);
+
+        if (Objects.isNull(cached) || !email.equals(cached.getEmail())) {
+            idByEmail.invalidate(email);
+            return Optional.empty();
+        }
+        return Optional.of(copyOf(cached));
+    }
+
+    /**
+     * Кладёт записанного разработчика после коммита текущей транзакции: до него другие читатели
+     * не видят изменение в БД, а при откате оно не должно попасть в кэш.
+     */
+    public void put(Developer developer) {
+        Developer copy = copyOf(developer);
+        AfterCompletion.afterCommit(() -> putNow(copy));
+    }
+
+    /**
+     * Кладёт прочитанного из БД разработчика сразу, но не поверх записи с большей версией:
+     * чтение, начатое до конкурентного обновления, не должно затереть его результат.
+     */
+    public void putLoaded(Developer developer) {
+        putNow(copyOf(developer));
+    }
+
+    private void putNow(Developer developer) {
+        AtomicReference<Developer> previous = new AtomicReference<>();
+        Developer stored = byId.asMap().compute(developer.getId(), (id, cached) -> {
+            if (isNewer(cached, developer)) {
+                return cached;
+            }
+            previous.set(cached);
+            return developer;
+        });
+
+        if (stored != developer) {
+            return;
+        }
+        if (Objects.nonNull(previous.get()) && !Objects.equals(previous.get().getEmail(), developer.getEmail())) {
+            invalidateEmail(previous.get().getEmail());
+        }
+        if (Objects.nonNull(developer.getEmail())) {
+            idByEmail.put(developer.getEmail(), developer.getId());
+        }
+    }
+
+    private static boolean isNewer(Developer cached, Developer candidate) {
+        return Objects.nonNull(cached) && Objects.nonNull(cached.getVersion()) && Objects.nonNull(candidate.getVersion())
+                && cached.getVersion() > candidate.getVersion();
+    }
+
+    public void evict(Integer id) {
+        evictAll(List.of(id));
+    }
+
+    public void evictAll(Collection<Integer> ids) {
+        AfterCompletion.nowAndAfterCompletion(() -> evictNow(ids));
+    }
+
+    private void evictNow(Collection<Integer> ids) {
+        for (Integer id : ids) {
+            Developer previous = byId.asMap().remove(id);
+
+            if (Objects.nonNull(previous)) {
+                invalidateEmail(previous.getEmail());
+            }
+        }
+    }
+
+    private void invalidateEmail(String email) {
+        if (Objects.nonNull(email)) {
+            idByEmail.invalidate(email);
+        }
+    }
+
+    private static Developer copyOf(Developer developer) {
+        return Developer.builder()
+                .id(developer.getId())
+                .email(developer.getEmail())
+                .firstName(developer.getFirstName())
+                .lastName(developer.getLastName())
+                .specialty(developer.getSpecialty())
+                .status(developer.getStatus())
+                .version(developer.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,185 @@
+package ru.app.cicd.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.app.cicd.repository.DeveloperRepository;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Вероятностный фильтр существующих email. Положительный ответ означает "возможно есть", отрицательный
+ * точен для записей этого процесса. Строки, добавленные мимо сервиса (другой экземпляр, реактивное
+ * приложение, ручной SQL), фильтр видит только после перестроения, которое повторяется раз в
+ * {@code developer.email-filter.refresh-interval}: до него поиск по такому email отвечает 404 без БД.
+ * Если это отставание недопустимо, фильтр выключается {@code developer.email-filter.enabled=false}.
+ * До первой сборки и при отключении фильтр всегда отвечает "возможно есть".
+ */
+@Slf4j
+@Component
+public class EmailFilter {
+
+    private static final double STALE_RATIO_TO_REBUILD = 0.1;
+
+    private final DeveloperRepository developerRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveRate;
+
+    private final Duration refreshInterval;
+
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "email-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final AtomicLong staleEntries = new AtomicLong();
+
+    private final Counter negativeChecks;
+
+    private final Counter positiveChecks;
+
+    private volatile BloomFilter current;
+
+    private volatile BloomFilter next;
+
+    public EmailFilter(DeveloperRepository developerRepository,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${developer.email-filter.enabled:true}") boolean enabled,
+                       @Value("${developer.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                       @Value("${developer.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                       @Value("${developer.email-filter.refresh-interval:5m}") Duration refreshInterval) {
+        this.developerRepository = developerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.refreshInterval = refreshInterval;
+        this.negativeChecks = Counter.builder("developer.email.filter.checks").tag("result", "negative")
+                .register(meterRegistry);
+        this.positiveChecks = Counter.builder("developer.email.filter.checks").tag("result", "positive")
+                .register(meterRegistry);
+        Gauge.builder("developer.email.filter.memory", this, EmailFilter::sizeInBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("developer.email.filter.stale", staleEntries, AtomicLong::get).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        scheduleRebuild();
+
+        if (enabled && refreshInterval.toMillis() > 0) {
+            rebuildExecutor.scheduleWithFixedDelay(this::scheduleRebuild, refreshInterval.toMillis(),
+                    refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean mightContain(String email) {
+        BloomFilter filter = current;
+
+        if (!enabled || Objects.isNull(filter) || Objects.isNull(email)) {
+            return true;
+        }
+        if (filter.mightContain(email)) {
+            positiveChecks.increment();
+            return true;
+        }
+        negativeChecks.increment();
+        return false;
+    }
+
+    public void put(String email) {
+        if (enabled && Objects.nonNull(email)) {
+            AfterCompletion.nowAndAfterCompletion(() -> putNow(email));
+        }
+    }
+
+    private void putNow(String email) {
+        BloomFilter filter = current;
+        BloomFilter pending = next;
+
+        if (Objects.nonNull(filter)) {
+            filter.put(email);
+
+            if (filter.insertions() > filter.capacity()) {
+                scheduleRebuild();
+            }
+        }
+        if (Objects.nonNull(pending)) {
+            pending.put(email);
+        }
+    }
+
+    public void recordRemoved(int removed) {
+        if (!enabled || removed <= 0) {
+            return;
+        }
+        BloomFilter filter = current;
+        long stale = staleEntries.addAndGet(removed);
+
+        if (Objects.nonNull(filter) && stale > filter.insertions() * STALE_RATIO_TO_REBUILD) {
+            scheduleRebuild();
+        }
+    }
+
+    public long sizeInBytes() {
+        BloomFilter filter = current;
+        return Objects.isNull(filter) ? 0 : filter.sizeInBytes();
+    }
+
+    public void scheduleRebuild() {
+        if (enabled && rebuilding.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.warn("Email filter rebuild failed, lookups fall back to the database", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    void rebuild() {
+        BloomFilter filter = current;
+        long capacity = Math.max(expectedInsertions, Objects.isNull(filter) ? 0 : filter.insertions() * 2);
+        BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+        next = rebuilt;
+        long staleBefore = staleEntries.get();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> emails = developerRepository.streamAllEmails()) {
+                emails.forEach(rebuilt::put);
+            }
+        });
+        current = rebuilt;
+        next = null;
+        staleEntries.addAndGet(-staleBefore);
+        log.info("Email filter built: {} emails, {} bytes", rebuilt.insertions(), rebuilt.sizeInBytes());
+    }
+}
@@ -0,0 +1,89 @@
+package ru.app.cicd.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.app.cicd.dto.DeveloperField;
+import ru.app.cicd.format.ResponseFormat;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Кэш готовых (сериализованных) ответов по специальности, отдельно для каждого формата ответа и набора полей.
+ * Конкурентные промахи по одному ключу схлопываются в один вызов загрузчика. ETag ответа
+ * вычисляется по содержимому при загрузке. Инвалидация специальности сбрасывает все её варианты: ключи
+ * перебираются, но кэш ограничен maximumSize, а перебор не ждёт идущих загрузок.
+ * <p>
+ * Загрузчик ходит в БД, поэтому выполняется в потоке запроса вне блокировки кэша: в кэш сразу кладётся
+ * незавершённый future, а инвалидация просто выбрасывает его. Иначе пишущие транзакции, держащие соединения
+ * пула, ждали бы в инвалидации загрузчика, который сам ждёт соединение.
+ */
+@Component
+public class SpecialtyCache {
+
+    private final AsyncCache<Key, CachedResponse> bySpecialty;
+
+    public SpecialtyCache(@Value("${developer.specialty-cache.maximum-size:1000}") long maximumSize,
+                          @Value("${developer.specialty-cache.ttl:10m}") Duration ttl,
+                          MeterRegistry meterRegistry) {
+        this.bySpecialty = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, bySpecialty, "developersBySpecialty");
+    }
+
+    public CachedResponse get(String specialty, ResponseFormat format, Set<DeveloperField> fields,
+                              Function<String, byte[]> loader) {
+        CompletableFuture<CachedResponse> loading = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> response = bySpecialty.get(new Key(specialty, format, fields),
+                (key, executor) -> loading);
+
+        if (response == loading) {
+            try {
+                loading.complete(CachedResponse.of(loader.apply(specialty)));
+            } catch (RuntimeException | Error e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void invalidate(String specialty) {
+        if (Objects.nonNull(specialty)) {
+            invalidateAll(List.of(specialty));
+        }
+    }
+
+    public void invalidateAll(Collection<String> specialties) {
+        Set<String> keys = specialties.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+
+        if (!keys.isEmpty()) {
+            AfterCompletion.nowAndAfterCompletion(
+                    () -> bySpecialty.asMap().keySet().removeIf(key -> keys.contains(key.specialty())));
+        }
+    }
+
+    private record Key(String specialty, ResponseFormat format, Set<DeveloperField> fields) {
+    }
+}
@@ -0,0 +1,8 @@
+package ru.app.cicd.changes;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    SOFT_DELETED,
+    HARD_DELETED
+}
@@ -0,0 +1,281 @@
+package ru.app.cicd.changes;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.app.cicd.cache.AfterCompletion;
+import ru.app.cicd.dto.DeveloperChangeDto;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.entity.Developer;
+import ru.app.cicd.exception.ChangeFeedOverloadedException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Лента изменений разработчиков для SSE. События получают последовательный номер после коммита и
+ * складываются в кольцевой буфер; писатель только кладёт событие в буфер и будит отправителей, а
+ * отправка каждому подписчику идёт в отдельной задаче, поэтому медленный клиент не тормозит запись.
+ * Подписчик, отставший больше чем на размер буфера (или пришедший с неизвестным Last-Event-ID),
+ * получает событие {@code reset} с номером, с которого лента продолжается, и должен перечитать состояние.
+ * Порядок событий совпадает с порядком afterCommit, а не с порядком коммитов в БД, поэтому
+ * конкурентные изменения одной записи стоит сверять по version.
+ */
+@Slf4j
+@Component
+public class DeveloperChangeFeed {
+
+    static final String RESET_EVENT = "reset";
+
+    private static final int SEND_BATCH = 256;
+
+    private final DeveloperChangeDto[] ring;
+
+    private final int maxSubscribers;
+
+    private final long timeoutMillis;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger senderThreads = new AtomicInteger();
+
+    private final ExecutorService sender = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "developer-changes-sender-" + senderThreads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "developer-changes-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter resets;
+
+    private long lastSequence;
+
+    public DeveloperChangeFeed(MeterRegistry meterRegistry,
+                               @Value("${developer.changes.buffer-size:10000}") int bufferSize,
+                               @Value("${developer.changes.max-subscribers:100}") int maxSubscribers,
+                               @Value("${developer.changes.timeout:30m}") Duration timeout,
+                               @Value("${developer.changes.heartbeat:15s}") Duration heartbeatInterval) {
+        this.ring = new DeveloperChangeDto[bufferSize];
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.resets = Counter.builder("developer.changes.resets").register(meterRegistry);
+        Gauge.builder("developer.changes.subscribers", subscribers, Set::size).register(meterRegistry);
+        heartbeat.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval.toMillis(), heartbeatInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void publish(ChangeType type, Developer developer) {
+        publishAll(type, List.of(developer));
+    }
+
+    public void publishAll(ChangeType type, Collection<Developer> developers) {
+        if (!developers.isEmpty()) {
+            List<DeveloperChangeDto> changes = developers.stream()
+                    .map(developer -> DeveloperChangeDto.builder()
+                            .type(type)
+                            .id(developer.getId())
+                            .developer(DeveloperDto.toDeveloperDto(developer))
+                            .build())
+                    .toList();
+            AfterCompletion.afterCommit(() -> append(changes));
+        }
+    }
+
+    /**
+     * Сервис передаёт только существовавшие id, но строку могли удалить конкурентно,
+     * поэтому потребители должны обрабатывать удаления идемпотентно.
+     */
+    public void publishDeleted(ChangeType type, Collection<Integer> ids) {
+        if (!ids.isEmpty()) {
+            List<DeveloperChangeDto> changes = ids.stream()
+                    .map(id -> DeveloperChangeDto.builder().type(type).id(id).build())
+                    .toList();
+            AfterCompletion.afterCommit(() -> append(changes));
+        }
+    }
+
+    /**
+     * Изменения в обход событий (массовый импорт): все подписчики получают reset и перечитывают состояние.
+     */
+    public void publishReset() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.resetPending = true;
+            schedule(subscriber);
+        }
+    }
+
+    void append(List<DeveloperChangeDto> changes) {
+        synchronized (this) {
+            for (DeveloperChangeDto change : changes) {
+                change.setSequence(++lastSequence);
+                ring[(int) (lastSequence % ring.length)] = change;
+            }
+        }
+        subscribers.forEach(this::schedule);
+    }
+
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * События после {@code after}, начиная с самого старого, что ещё есть в буфере.
+     */
+    synchronized List<DeveloperChangeDto> readAfter(long after, int max) {
+        long from = Math.max(after + 1, Math.max(1, lastSequence - ring.length + 1));
+        long to = Math.min(lastSequence, from + max - 1);
+        List<DeveloperChangeDto> changes = new ArrayList<>((int) Math.max(0, to - from + 1));
+
+        for (long sequence = from; sequence <= to; sequence++) {
+            changes.add(ring[(int) (sequence % ring.length)]);
+        }
+        return changes;
+    }
+
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ChangeFeedOverloadedException("Too many change feed subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber;
+
+        synchronized (this) {
+            boolean known = Objects.nonNull(lastEventId) && lastEventId <= lastSequence;
+            subscriber = new Subscriber(emitter, known ? lastEventId : lastSequence,
+                    Objects.nonNull(lastEventId) && !known);
+        }
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+        subscribers.add(subscriber);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatPending = true;
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.open && subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Флаги и новые события, выставленные после последней проверки в {@link #send}, но до сброса
+     * {@code draining}, не смогли запланировать отправку сами — поэтому после сброса проверяем их ещё раз.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            send(subscriber);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Change feed subscriber disconnected: {}", e.getMessage());
+            close(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (subscriber.open && (subscriber.cursor < lastSequence()
+                || subscriber.resetPending || subscriber.heartbeatPending)) {
+            schedule(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber) throws IOException {
+        while (subscriber.open) {
+            if (subscriber.resetPending) {
+                long head = lastSequence();
+                subscriber.emitter.send(SseEmitter.event().name(RESET_EVENT).data(head));
+                subscriber.cursor = head;
+                subscriber.resetPending = false;
+                resets.increment();
+            }
+            List<DeveloperChangeDto> changes = readAfter(subscriber.cursor, SEND_BATCH);
+
+            if (changes.isEmpty()) {
+                break;
+            }
+            if (changes.get(0).getSequence() > subscriber.cursor + 1) {
+                subscriber.resetPending = true;
+                continue;
+            }
+            for (DeveloperChangeDto change : changes) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(change.getSequence()))
+                        .data(change, MediaType.APPLICATION_JSON));
+                subscriber.cursor = change.getSequence();
+            }
+            subscriber.heartbeatPending = false;
+        }
+        if (subscriber.heartbeatPending) {
+            subscriber.emitter.send(SseEmitter.event().comment(""));
+            subscriber.heartbeatPending = false;
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        subscriber.open = false;
+        subscribers.remove(subscriber);
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        subscribers.forEach(subscriber -> {
+            close(subscriber);
+            subscriber.emitter.complete();
+        });
+        sender.shutdown();
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private volatile long cursor;
+
+        private volatile boolean resetPending;
+
+        private volatile boolean heartbeatPending;
+
+        private volatile boolean open = true;
+
+        private Subscriber(SseEmitter emitter, long cursor, boolean resetPending) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+            this.resetPending = resetPending;
+        }
+    }
+}
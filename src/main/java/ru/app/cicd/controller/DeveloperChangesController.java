@@ -0,0 +1,63 @@
+package ru.app.cicd.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.app.cicd.changes.DeveloperChangeFeed;
+import ru.app.cicd.dto.ErrorDto;
+import ru.app.cicd.exception.ChangeFeedOverloadedException;
+
+import java.util.Objects;
+
+/**
+ * SSE-лента изменений. Вынесена из {@link DeveloperController}, потому что обработчик SSE выбирается
+ * по объявленному типу {@link SseEmitter}, а ошибки отдаются обычным JSON.
+ */
+@RestController
+@RequestMapping("/api/v1/developers/changes")
+@RequiredArgsConstructor
+public class DeveloperChangesController {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final DeveloperChangeFeed changeFeed;
+
+    @GetMapping
+    public SseEmitter streamChanges(@RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventId) {
+        return changeFeed.subscribe(parseLastEventId(lastEventId));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorDto> handleInvalidLastEventId(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorDto.builder().status(400).message(e.getMessage()).build());
+    }
+
+    @ExceptionHandler(ChangeFeedOverloadedException.class)
+    public ResponseEntity<ErrorDto> handleOverloaded(ChangeFeedOverloadedException e) {
+        return ResponseEntity.status(503).contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorDto.builder().status(503).message(e.getMessage()).build());
+    }
+
+    private static Long parseLastEventId(String lastEventId) {
+        if (Objects.isNull(lastEventId) || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            long sequence = Long.parseLong(lastEventId.trim());
+
+            if (sequence < 0) {
+                throw new IllegalArgumentException("Invalid Last-Event-ID header");
+            }
+            return sequence;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid Last-Event-ID header");
+        }
+    }
+}
@@ -1,55 +1,241 @@
 package ru.app.cicd.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import ru.app.cicd.cache.CachedResponse;
+import ru.app.cicd.cache.SpecialtyCache;
+import ru.app.cicd.dto.BulkDeleteResultDto;
+import ru.app.cicd.dto.DeveloperBatchItemDto;
 import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperField;
+import ru.app.cicd.dto.DeveloperLookupDto;
+import ru.app.cicd.dto.DeveloperPageDto;
 import ru.app.cicd.dto.ErrorDto;
 import ru.app.cicd.entity.Developer;
 import ru.app.cicd.exception.DeveloperNotFoundException;
+import ru.app.cicd.exception.DeveloperVersionConflictException;
 import ru.app.cicd.exception.DeveloperWithDuplicateEmailException;
+import ru.app.cicd.exception.SearchIndexNotReadyException;
+import ru.app.cicd.format.ResponseFormat;
+import ru.app.cicd.format.ResponseMappers;
+import ru.app.cicd.service.BatchItemResult;
 import ru.app.cicd.service.DeveloperService;
+import ru.app.cicd.timing.Layer;
+import ru.app.cicd.timing.RequestTimings;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/developers")
 @RequiredArgsConstructor
 public class DeveloperController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private static final int EXPORT_FLUSH_ROWS = 1000;
+
+    private static final int MAX_LOOKUP_IDS = 5000;
+
+    /**
+     * Все id уходят одним {@code IN}; предел держит запрос далеко от лимита bind-параметров Postgres.
+     */
+    private static final int MAX_DELETE_IDS = 5000;
+
+    private static final int MAX_SEARCH_LIMIT = 100;
+
+    /**
+     * Попытки пачки, откатившейся из-за email, вставленного конкурентно: повтор видит его в проверке
+     * существующих email и возвращает для этой записи ошибку вместо отката всей пачки.
+     */
+    private static final int BATCH_ATTEMPTS = 3;
+
+    private static final int MAX_SUGGEST_LIMIT = 50;
+
     private final DeveloperService developerService;
 
+    private final ObjectMapper objectMapper;
+
+    private final SpecialtyCache specialtyCache;
+
+    private final ResponseMappers responseMappers;
+
     @GetMapping("/{id}")
-    public ResponseEntity<?> getDeveloperById(@PathVariable("id") Integer id) {
+    public ResponseEntity<?> getDeveloperById(@PathVariable("id") Integer id,
+                                              @RequestParam(value = "fields", required = false) String fields,
+                                              WebRequest webRequest) {
+        Set<DeveloperField> requested = DeveloperField.parse(fields);
         try {
+            if (Objects.nonNull(webRequest.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                Optional<Long> version = developerService.getDeveloperVersion(id);
+
+                if (version.isPresent() && webRequest.checkNotModified(String.valueOf(version.get()))) {
+                    return null;
+                }
+            }
             Developer entity = developerService.getDeveloperById(id);
             DeveloperDto result = DeveloperDto.toDeveloperDto(entity);
-            return ResponseEntity.ok(result);
+            return okWithETag(result, requested);
         } catch (DeveloperNotFoundException e) {
             return ResponseEntity.status(404).body(ErrorDto.builder().status(404).message(e.getMessage()).build());
         }
     }
 
     @GetMapping
-    public ResponseEntity<?> getAllDevelopers() {
-        List<Developer> entities = developerService.getAllDevelopers();
-        List<DeveloperDto> dtos = entities.stream().map(DeveloperDto::toDeveloperDto).toList();
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<?> getAllDevelopers(@RequestParam(value = "after", required = false) String after,
+                                              @RequestParam(value = "limit", defaultValue = "50") int limit,
+                                              @RequestParam(value = "fields", required = false) String fields) {
+        try {
+            Integer afterId = DeveloperPageDto.decodeCursor(after);
+            int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+            Set<DeveloperField> requested = DeveloperField.parse(fields);
+            List<DeveloperDto> dtos = developerService.getAllDevelopers(afterId, pageSize,
+                    DeveloperField.with(requested, DeveloperField.ID));
+            String nextCursor = dtos.size() == pageSize
+                    ? DeveloperPageDto.encodeCursor(dtos.get(dtos.size() - 1).getId())
+                    : null;
+
+            if (!requested.contains(DeveloperField.ID)) {
+                dtos.forEach(dto -> dto.setId(null));
+            }
+            return ResponseEntity.ok(DeveloperPageDto.builder().items(dtos).nextCursor(nextCursor).build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ErrorDto.builder().status(400).message(e.getMessage()).build());
+        }
     }
 
-    @GetMapping("/specialty/{specialty}")
-    public ResponseEntity<?> getAllDevelopersBySpecialty(@PathVariable("specialty") String specialty) {
-        List<Developer> entities = developerService.getAllActiveBySpeciality(specialty);
-        List<DeveloperDto> dtos = entities.stream().map(DeveloperDto::toDeveloperDto).toList();
-        return ResponseEntity.ok(dtos);
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getDevelopersByIds(@RequestParam("ids") List<Integer> ids,
+                                                @RequestParam(value = "fields", required = false) String fields) {
+        return lookupDevelopers(ids, fields);
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<?> lookupDevelopers(@RequestBody List<Integer> ids,
+                                              @RequestParam(value = "fields", required = false) String fields) {
+        Set<DeveloperField> requested = DeveloperField.parse(fields);
+
+        if (ids.size() > MAX_LOOKUP_IDS) {
+            String message = "Too many ids, at most " + MAX_LOOKUP_IDS + " per request";
+            return ResponseEntity.badRequest().body(ErrorDto.builder().status(400).message(message).build());
+        }
+        List<Developer> developers = developerService.getDevelopersByIds(ids);
+        Set<Integer> foundIds = developers.stream().map(Developer::getId).collect(Collectors.toSet());
+        List<Integer> missing = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(id -> !foundIds.contains(id))
+                .toList();
+        List<DeveloperDto> items = developers.stream()
+                .map(developer -> DeveloperField.project(DeveloperDto.toDeveloperDto(developer), requested))
+                .toList();
+        return ResponseEntity.ok(DeveloperLookupDto.builder().items(items).missing(missing).build());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchDevelopers(@RequestParam("q") String query,
+                                              @RequestParam(value = "limit", defaultValue = "20") int limit,
+                                              @RequestParam(value = "fields", required = false) String fields) {
+        try {
+            int size = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+            Set<DeveloperField> requested = DeveloperField.parse(fields);
+            return ResponseEntity.ok(developerService.searchDevelopers(query, size).stream()
+                    .map(dto -> DeveloperField.project(dto, requested))
+                    .toList());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ErrorDto.builder().status(400).message(e.getMessage()).build());
+        } catch (SearchIndexNotReadyException e) {
+            return ResponseEntity.status(503).body(ErrorDto.builder().status(503).message(e.getMessage()).build());
+        }
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggestDevelopers(@RequestParam("prefix") String prefix,
+                                               @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        try {
+            int size = Math.max(1, Math.min(limit, MAX_SUGGEST_LIMIT));
+            return ResponseEntity.ok(developerService.suggestDevelopers(prefix, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ErrorDto.builder().status(400).message(e.getMessage()).build());
+        } catch (SearchIndexNotReadyException e) {
+            return ResponseEntity.status(503).body(ErrorDto.builder().status(503).message(e.getMessage()).build());
+        }
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportDevelopers(
+            @RequestParam(value = "fields", required = false) String fields) {
+        Set<DeveloperField> requested = DeveloperField.parse(fields);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+                int[] written = {0};
+                developerService.streamActiveDevelopers(requested, developer -> {
+                    try {
+                        objectMapper.writeValue(generator, developer);
+                        generator.writeRaw('\n');
+                        if (written[0]++ % EXPORT_FLUSH_ROWS == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping(value = "/specialty/{specialty}", produces = {MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, ResponseFormat.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<?> getAllDevelopersBySpecialty(@PathVariable("specialty") String specialty,
+                                                         @RequestParam(value = "fields", required = false) String fields,
+                                                         WebRequest webRequest) {
+        ResponseFormat format = ResponseFormat.negotiate(
+                MediaType.parseMediaTypes(webRequest.getHeader(HttpHeaders.ACCEPT)));
+        Set<DeveloperField> requested = DeveloperField.parse(fields);
+        CachedResponse response = specialtyCache.get(specialty, format, requested, key -> {
+            List<DeveloperDto> dtos = developerService.getAllActiveBySpeciality(key, requested);
+            long startedAt = System.nanoTime();
+            try {
+                return responseMappers.writeValueAsBytes(format, dtos);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                RequestTimings.recordCurrent(Layer.SERIALIZATION, System.nanoTime() - startedAt);
+            }
+        });
+
+        if (webRequest.checkNotModified(response.eTag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(response.eTag())
+                .body(response.body());
     }
 
     @PostMapping
@@ -64,18 +250,85 @@ public class DeveloperController {
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<?> createDevelopers(@RequestBody List<DeveloperDto> dtos) {
+        for (int attempt = 1; ; attempt++) {
+            List<Developer> entities = dtos.stream().map(DeveloperDto::toDeveloperEntity).toList();
+
+            try {
+                List<BatchItemResult> results = developerService.saveDevelopers(entities);
+                List<DeveloperBatchItemDto> items = results.stream()
+                        .map(DeveloperBatchItemDto::toDeveloperBatchItemDto)
+                        .toList();
+                return ResponseEntity.ok(items);
+            } catch (DeveloperWithDuplicateEmailException e) {
+                if (attempt == BATCH_ATTEMPTS) {
+                    return ResponseEntity.status(409).body(ErrorDto.builder().status(409).message(e.getMessage()).build());
+                }
+            }
+        }
+    }
+
     @PutMapping
-    public ResponseEntity<?> updateDeveloper(@RequestBody DeveloperDto dto) {
+    public ResponseEntity<?> updateDeveloper(@RequestBody DeveloperDto dto,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
             Developer entity = dto.toDeveloperEntity();
+
+            if (Objects.nonNull(ifMatch)) {
+                entity.setVersion(parseIfMatch(ifMatch));
+            }
             Developer updatedEntity = developerService.updateDeveloper(entity);
             DeveloperDto result = DeveloperDto.toDeveloperDto(updatedEntity);
-            return ResponseEntity.ok(result);
+            return okWithETag(result);
         } catch (DeveloperNotFoundException e) {
+            return ResponseEntity.status(404).body(ErrorDto.builder().status(404).message(e.getMessage()).build());
+        } catch (DeveloperVersionConflictException e) {
+            int status = Objects.isNull(ifMatch) ? 409 : 412;
+            return ResponseEntity.status(status).body(ErrorDto.builder().status(status).message(e.getMessage()).build());
+        } catch (DeveloperWithDuplicateEmailException | IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(ErrorDto.builder().status(400).message(e.getMessage()).build());
         }
     }
 
+    private static ResponseEntity<DeveloperDto> okWithETag(DeveloperDto dto) {
+        return okWithETag(dto, DeveloperField.ALL);
+    }
+
+    private static ResponseEntity<DeveloperDto> okWithETag(DeveloperDto dto, Set<DeveloperField> fields) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+
+        if (Objects.nonNull(dto.getVersion())) {
+            builder.eTag(String.valueOf(dto.getVersion()));
+        }
+        return builder.body(DeveloperField.project(dto, fields));
+    }
+
+    /**
+     * If-Match сравнивает теги строго (RFC 9110, 13.1.1): слабый тег не совпадает ни с одной версией.
+     */
+    private static Long parseIfMatch(String ifMatch) {
+        String tag = ifMatch.trim();
+
+        if (tag.equals("*")) {
+            return Developer.ANY_VERSION;
+        }
+        if (tag.startsWith("W/")) {
+            throw new DeveloperVersionConflictException("If-Match requires a strong entity tag");
+        }
+        long version;
+
+        try {
+            version = Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header");
+        }
+        if (version < 0) {
+            throw new DeveloperVersionConflictException("Developer was modified concurrently");
+        }
+        return version;
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteDeveloperById(@PathVariable("id") Integer id,
                                                  @RequestParam(value = "isHard", defaultValue = "false") boolean isHard) {
@@ -90,4 +343,21 @@ public class DeveloperController {
             return ResponseEntity.badRequest().body(ErrorDto.builder().status(400).message(e.getMessage()).build());
         }
     }
+
+    @DeleteMapping
+    public ResponseEntity<?> deleteDevelopersByIds(@RequestParam("ids") Set<Integer> ids,
+                                                   @RequestParam(value = "isHard", defaultValue = "false") boolean isHard) {
+        if (ids.size() > MAX_DELETE_IDS) {
+            String message = "Too many ids, at most " + MAX_DELETE_IDS + " per request";
+            return ResponseEntity.badRequest().body(ErrorDto.builder().status(400).message(message).build());
+        }
+        int deleted = isHard ? developerService.hardDeleteByIds(ids) : developerService.softDeleteByIds(ids);
+        return ResponseEntity.ok(BulkDeleteResultDto.builder().requested(ids.size()).deleted(deleted).build());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorDto> handleInvalidFields(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorDto.builder().status(400).message(e.getMessage()).build());
+    }
 }
@@ -0,0 +1,50 @@
+package ru.app.cicd.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.app.cicd.dto.DeveloperImportResultDto;
+import ru.app.cicd.dto.ErrorDto;
+import ru.app.cicd.importer.DeveloperImporter;
+import ru.app.cicd.importer.ImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Импорт CSV ({@code text/csv}) или NDJSON из тела запроса. Тело читается потоком по мере загрузки;
+ * возобновление с контрольной точки доступно только в CLI, здесь в ответе - итоговые счётчики.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/developers/import")
+@RequiredArgsConstructor
+public class DeveloperImportController {
+
+    private final DeveloperImporter importer;
+
+    @PostMapping(consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<DeveloperImportResultDto> importDevelopers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body) throws IOException {
+        try (ReadableByteChannel channel = Channels.newChannel(body)) {
+            return ResponseEntity.ok(importer.importFrom(channel, ImportFormat.fromMediaType(contentType), null,
+                    progress -> log.debug("Import progress: {} records, {} imported",
+                            progress.getRecords(), progress.getImported())));
+        }
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorDto> handleInvalidInput(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorDto.builder().status(400).message(e.getMessage()).build());
+    }
+}
@@ -0,0 +1,54 @@
+package ru.app.cicd.datasource;
+
+import java.util.Objects;
+
+/**
+ * Состояние маршрутизации чтения в потоке, обрабатывающем запрос: какой {@link ReplicaRead} метод сейчас
+ * выполняется и привязан ли запрос к primary. Хранится в {@link ThreadLocal}, поэтому выбор источника
+ * при получении соединения не требует синхронизации.
+ */
+public final class ReadRoute {
+
+    private static final ThreadLocal<ReplicaRead> READ = new ThreadLocal<>();
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadRoute() {
+    }
+
+    /**
+     * Начинает выполнение метода {@code read}; возвращённое значение нужно передать в {@link #exit}.
+     */
+    public static ReplicaRead enter(ReplicaRead read) {
+        ReplicaRead previous = READ.get();
+        READ.set(read);
+        return previous;
+    }
+
+    public static void exit(ReplicaRead previous) {
+        if (Objects.isNull(previous)) {
+            READ.remove();
+        } else {
+            READ.set(previous);
+        }
+    }
+
+    public static ReplicaRead current() {
+        return READ.get();
+    }
+
+    /**
+     * Все чтения текущего потока до {@link #unpin()} идут в primary.
+     */
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() == Boolean.TRUE;
+    }
+}
@@ -0,0 +1,77 @@
+package ru.app.cicd.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Включается списком {@code developer.datasource.replica-urls}: вместо единственного пула Spring Boot
+ * приложение получает primary и пулы реплик с теми же учётными данными и настройками
+ * {@code spring.datasource.hikari}. Пул реплики не проверяет соединение при старте, поэтому приложение
+ * поднимается, пока реплика ещё догоняет primary. Без этого свойства используется обычный источник данных.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "developer.datasource.replica-urls")
+public class ReplicaDataSourceConfiguration {
+
+    @Bean
+    static ReplicaReadPostProcessor replicaReadPostProcessor() {
+        return new ReplicaReadPostProcessor();
+    }
+
+    @Bean
+    public ReplicaPools replicaPools(DataSourceProperties properties,
+                                     Environment environment,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${developer.datasource.replica-urls}") List<String> replicaUrls,
+                                     @Value("${developer.datasource.replica-selection:least-connections}")
+                                     ReplicaPools.Selection selection,
+                                     @Value("${developer.datasource.replica-pool-size:10}") int replicaPoolSize) {
+        HikariDataSource primary = pool(properties, properties.determineUrl(), "primary", environment, meterRegistry);
+        List<HikariDataSource> replicas = new ArrayList<>();
+
+        for (String url : replicaUrls) {
+            HikariDataSource replica = pool(properties, url.strip(), "replica-" + replicas.size(), environment,
+                    meterRegistry);
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        return new ReplicaPools(primary, replicas, selection);
+    }
+
+    @Bean
+    public DataSource dataSource(ReplicaPools replicaPools,
+                                 @Value("${developer.datasource.replica-lag:1s}") Duration replicaLag,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(replicaPools, replicaLag,
+                meterRegistry));
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String url, String name,
+                                         Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(name);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
@@ -0,0 +1,74 @@
+package ru.app.cicd.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Пулы соединений primary и реплик. Реплика выбирается по кругу либо по наименьшему числу занятых
+ * соединений; при равенстве выигрывает следующая по кругу, поэтому простаивающие реплики нагружаются
+ * поровну.
+ */
+public class ReplicaPools implements AutoCloseable {
+
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_CONNECTIONS
+    }
+
+    @Getter
+    private final HikariDataSource primary;
+
+    @Getter
+    private final List<HikariDataSource> replicas;
+
+    private final Selection selection;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPools(HikariDataSource primary, List<HikariDataSource> replicas, Selection selection) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+    }
+
+    public HikariDataSource replica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+
+        if (selection == Selection.ROUND_ROBIN || size == 1) {
+            return replicas.get(start);
+        }
+        HikariDataSource best = replicas.get(start);
+        int bestActive = activeConnections(best);
+
+        for (int i = 1; i < size && bestActive > 0; i++) {
+            HikariDataSource candidate = replicas.get((start + i) % size);
+            int active = activeConnections(candidate);
+
+            if (active < bestActive) {
+                best = candidate;
+                bestActive = active;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    private static int activeConnections(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return Objects.isNull(pool) ? 0 : pool.getActiveConnections();
+    }
+}
@@ -0,0 +1,23 @@
+package ru.app.cicd.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Метод сервиса, чтение которого можно отдать реплике. Реплика выбирается только внутри read-only
+ * транзакции и только если текущий запрос не привязан к primary после собственной записи.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+
+    /**
+     * Результат кладётся в общий кэш. Пока после последней записи не прошло время допустимого отставания
+     * реплики, такое чтение идёт в primary, иначе устаревшая строка реплики прожила бы в кэше до TTL.
+     */
+    boolean cached() default false;
+}
@@ -0,0 +1,41 @@
+package ru.app.cicd.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RequiredArgsConstructor
+class ReplicaReadInterceptor implements MethodInterceptor {
+
+    private final Class<?> targetClass;
+
+    private final Map<Method, Optional<ReplicaRead>> reads = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Optional<ReplicaRead> read = reads.computeIfAbsent(invocation.getMethod(), this::findReplicaRead);
+
+        if (read.isEmpty()) {
+            return invocation.proceed();
+        }
+        ReplicaRead previous = ReadRoute.enter(read.get());
+
+        try {
+            return invocation.proceed();
+        } finally {
+            ReadRoute.exit(previous);
+        }
+    }
+
+    private Optional<ReplicaRead> findReplicaRead(Method method) {
+        return Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(
+                AopUtils.getMostSpecificMethod(method, targetClass), ReplicaRead.class));
+    }
+}
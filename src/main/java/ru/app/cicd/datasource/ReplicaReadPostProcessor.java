@@ -0,0 +1,39 @@
+package ru.app.cicd.datasource;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Service;
+
+/**
+ * Отмечает вызовы {@link ReplicaRead} методов сервисов в {@link ReadRoute}. Как и замер слоёв, перехватчик
+ * добавляется в уже существующий прокси бина, а новый прокси создаётся только для бинов без него.
+ */
+class ReplicaReadPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+
+        if (!AnnotatedElementUtils.hasAnnotation(targetClass, Service.class) || !hasReplicaReads(targetClass)) {
+            return bean;
+        }
+        ReplicaReadInterceptor interceptor = new ReplicaReadInterceptor(targetClass);
+
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(targetClass.getClassLoader());
+    }
+
+    private static boolean hasReplicaReads(Class<?> targetClass) {
+        return !MethodIntrospector.selectMethods(targetClass, (MethodIntrospector.MetadataLookup<ReplicaRead>)
+                method -> AnnotatedElementUtils.findMergedAnnotation(method, ReplicaRead.class)).isEmpty();
+    }
+}
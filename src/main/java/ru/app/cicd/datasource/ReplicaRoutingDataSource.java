@@ -0,0 +1,97 @@
+package ru.app.cicd.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Выбирает пул в момент получения соединения. В реплику идут только {@link ReplicaRead} методы в read-only
+ * транзакции, если запрос не привязан к primary, а для кэшируемых чтений ещё и если после последней
+ * записи прошло больше допустимого отставания реплики. Всё остальное, включая записи, идёт в primary.
+ * <p>
+ * Работает за {@code LazyConnectionDataSourceProxy}: транзакция берёт физическое соединение только на
+ * первом запросе, когда её read-only флаг и текущий метод уже известны.
+ */
+@Slf4j
+class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final ReplicaPools pools;
+
+    private final long replicaLagNanos;
+
+    private final AtomicLong lastWriteAt;
+
+    private final Counter primaryConnections;
+
+    private final Counter replicaConnections;
+
+    private final Counter replicaFailures;
+
+    private final TransactionSynchronization writeCommitted = new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+            lastWriteAt.set(System.nanoTime());
+        }
+    };
+
+    ReplicaRoutingDataSource(ReplicaPools pools, Duration replicaLag, MeterRegistry meterRegistry) {
+        this.pools = pools;
+        this.replicaLagNanos = replicaLag.toNanos();
+        this.lastWriteAt = new AtomicLong(System.nanoTime() - replicaLagNanos);
+        this.primaryConnections = Counter.builder("developer.datasource.connections")
+                .tag("target", "primary")
+                .register(meterRegistry);
+        this.replicaConnections = Counter.builder("developer.datasource.connections")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        this.replicaFailures = Counter.builder("developer.datasource.replica.failures").register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (useReplica()) {
+            try {
+                Connection connection = pools.replica().getConnection();
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException e) {
+                replicaFailures.increment();
+                log.warn("Replica is unavailable, reading from primary: {}", e.getMessage());
+            }
+        } else if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            TransactionSynchronizationManager.registerSynchronization(writeCommitted);
+        }
+        primaryConnections.increment();
+        return pools.getPrimary().getConnection();
+    }
+
+    /**
+     * Реплики открываются только с настроенными учётными данными, поэтому соединение с явными всегда
+     * идёт на primary.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        primaryConnections.increment();
+        return pools.getPrimary().getConnection(username, password);
+    }
+
+    private boolean useReplica() {
+        ReplicaRead read = ReadRoute.current();
+
+        if (Objects.isNull(read) || ReadRoute.isPinned()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        return !read.cached() || System.nanoTime() - lastWriteAt.get() >= replicaLagNanos;
+    }
+}
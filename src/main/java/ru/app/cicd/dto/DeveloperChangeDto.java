@@ -0,0 +1,24 @@
+package ru.app.cicd.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.app.cicd.changes.ChangeType;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeveloperChangeDto {
+
+    private Long sequence;
+
+    private ChangeType type;
+
+    private Integer id;
+
+    private DeveloperDto developer;
+}
@@ -26,6 +26,8 @@ public class DeveloperDto {
 
     private Status status;
 
+    private Long version;
+
     public Developer toDeveloperEntity() {
         return Developer.builder()
                 .id(id)
@@ -34,6 +36,7 @@ public class DeveloperDto {
                 .specialty(specialty)
                 .email(email)
                 .status(status)
+                .version(version)
                 .build();
     }
 
@@ -45,6 +48,7 @@ public class DeveloperDto {
                 .email(developer.getEmail())
                 .specialty(developer.getSpecialty())
                 .status(developer.getStatus())
+                .version(developer.getVersion())
                 .build();
     }
 }
\ No newline at end of file
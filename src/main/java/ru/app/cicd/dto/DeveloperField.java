@@ -0,0 +1,119 @@
+package ru.app.cicd.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import ru.app.cicd.entity.Status;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Поля {@link DeveloperDto}, которые клиент может запросить через {@code ?fields=}. Для каждого поля известны
+ * путь в JPQL и аксессоры DTO, поэтому выборка и копирование идут без рефлексии, а незапрошенные поля
+ * остаются {@code null} и не сериализуются благодаря {@code JsonInclude.NON_NULL}.
+ */
+@RequiredArgsConstructor
+public enum DeveloperField {
+    ID("id", "d.id", DeveloperDto::getId, (dto, value) -> dto.setId((Integer) value)),
+    FIRST_NAME("firstName", "d.firstName", DeveloperDto::getFirstName,
+            (dto, value) -> dto.setFirstName((String) value)),
+    LAST_NAME("lastName", "d.lastName", DeveloperDto::getLastName, (dto, value) -> dto.setLastName((String) value)),
+    SPECIALTY("specialty", "d.specialty", DeveloperDto::getSpecialty,
+            (dto, value) -> dto.setSpecialty((String) value)),
+    EMAIL("email", "d.email", DeveloperDto::getEmail, (dto, value) -> dto.setEmail((String) value)),
+    STATUS("status", "d.status", DeveloperDto::getStatus, (dto, value) -> dto.setStatus((Status) value)),
+    VERSION("version", "d.version", DeveloperDto::getVersion, (dto, value) -> dto.setVersion((Long) value));
+
+    public static final Set<DeveloperField> ALL = Collections.unmodifiableSet(EnumSet.allOf(DeveloperField.class));
+
+    private static final DeveloperField[] FIELDS = values();
+
+    @Getter
+    private final String fieldName;
+
+    @Getter
+    private final String path;
+
+    private final Function<DeveloperDto, Object> getter;
+
+    private final BiConsumer<DeveloperDto, Object> setter;
+
+    /**
+     * Разбирает список имён через запятую; пустой параметр означает все поля.
+     */
+    public static Set<DeveloperField> parse(String fields) {
+        if (Objects.isNull(fields) || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<DeveloperField> parsed = EnumSet.noneOf(DeveloperField.class);
+
+        for (String name : fields.split(",")) {
+            String trimmed = name.strip();
+
+            if (!trimmed.isEmpty()) {
+                parsed.add(byName(trimmed));
+            }
+        }
+        if (parsed.isEmpty()) {
+            return ALL;
+        }
+        return parsed.size() == FIELDS.length ? ALL : Collections.unmodifiableSet(parsed);
+    }
+
+    public static boolean isAll(Set<DeveloperField> fields) {
+        return fields.size() == FIELDS.length;
+    }
+
+    /**
+     * Запрошенные поля плюс {@code required}, например id для курсора страницы.
+     */
+    public static Set<DeveloperField> with(Set<DeveloperField> fields, DeveloperField required) {
+        if (fields.contains(required)) {
+            return fields;
+        }
+        EnumSet<DeveloperField> extended = EnumSet.copyOf(fields);
+        extended.add(required);
+        return isAll(extended) ? ALL : Collections.unmodifiableSet(extended);
+    }
+
+    /**
+     * Копия DTO только с запрошенными полями; при всех полях возвращается сам DTO.
+     */
+    public static DeveloperDto project(DeveloperDto dto, Set<DeveloperField> fields) {
+        if (isAll(fields)) {
+            return dto;
+        }
+        DeveloperDto projected = new DeveloperDto();
+
+        for (DeveloperField field : fields) {
+            field.setter.accept(projected, field.getter.apply(dto));
+        }
+        return projected;
+    }
+
+    /**
+     * DTO из строки выборки, столбцы которой идут в порядке {@code fields}.
+     */
+    public static DeveloperDto fromRow(Object[] row, Set<DeveloperField> fields) {
+        DeveloperDto dto = new DeveloperDto();
+        int column = 0;
+
+        for (DeveloperField field : fields) {
+            field.setter.accept(dto, row[column++]);
+        }
+        return dto;
+    }
+
+    private static DeveloperField byName(String name) {
+        for (DeveloperField field : FIELDS) {
+            if (field.fieldName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field " + name);
+    }
+}
@@ -0,0 +1,37 @@
+package ru.app.cicd.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Итог (или промежуточное состояние) импорта. Он же служит контрольной точкой: {@code offset} - байт
+ * входа, до которого всё уже закоммичено, счётчики накапливаются между возобновлениями.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeveloperImportResultDto {
+
+    private long records;
+
+    private long imported;
+
+    private long duplicates;
+
+    private long invalid;
+
+    private long offset;
+
+    private long elapsedMillis;
+
+    private double rowsPerSecond;
+
+    private List<String> errors;
+}
@@ -0,0 +1,54 @@
+package ru.app.cicd.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeveloperPageDto {
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private List<DeveloperDto> items;
+
+    private String nextCursor;
+
+    public static String encodeCursor(Integer lastId) {
+        if (Objects.isNull(lastId)) {
+            return null;
+        }
+        byte[] raw = (CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    public static Integer decodeCursor(String cursor) {
+        if (Objects.isNull(cursor) || cursor.isBlank()) {
+            return 0;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        if (!raw.startsWith(CURSOR_PREFIX)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            return Integer.valueOf(raw.substring(CURSOR_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package ru.app.cicd.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeveloperSpecialtyDto {
+
+    private Integer id;
+
+    private String specialty;
+}
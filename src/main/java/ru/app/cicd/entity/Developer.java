@@ -11,11 +11,20 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "developers")
+@Table(name = "developers", indexes = @Index(name = Developer.EMAIL_UNIQUE_INDEX, columnList = "email", unique = true))
 public class Developer {
 
+    public static final String EMAIL_UNIQUE_INDEX = "ux_developers_email";
+
+    /**
+     * Версия в запросе на обновление, означающая {@code If-Match: *}: обновить любую текущую версию.
+     * Реальные версии начинаются с нуля, поэтому значение не пересекается с ними.
+     */
+    public static final long ANY_VERSION = -1;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developers_seq")
+    @SequenceGenerator(name = "developers_seq", sequenceName = "developers_seq", allocationSize = 50)
     private Integer id;
 
     private String email;
@@ -28,4 +37,7 @@ public class Developer {
 
     @Enumerated(EnumType.STRING)
     private Status status;
+
+    @Version
+    private Long version;
 }
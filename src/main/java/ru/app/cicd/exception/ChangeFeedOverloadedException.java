@@ -0,0 +1,8 @@
+package ru.app.cicd.exception;
+
+public class ChangeFeedOverloadedException extends RuntimeException {
+
+    public ChangeFeedOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package ru.app.cicd.exception;
+
+public class SearchIndexNotReadyException extends RuntimeException {
+
+    public SearchIndexNotReadyException(String message) {
+        super(message);
+    }
+}
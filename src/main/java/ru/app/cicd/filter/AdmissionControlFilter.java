@@ -0,0 +1,84 @@
+package ru.app.cicd.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.app.cicd.dto.ErrorDto;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ограничивает число одновременно обрабатываемых запросов к API, чтобы при виртуальных потоках
+ * тысячи запросов не выстраивались в очередь за соединениями пула. Лишние запросы ждут не дольше
+ * таймаута и получают 503.
+ */
+@Component
+@ConditionalOnProperty(name = "developer.admission.enabled", havingValue = "true")
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+
+    private final long timeoutNanos;
+
+    private final ObjectMapper objectMapper;
+
+    private final Counter rejected;
+
+    public AdmissionControlFilter(@Value("${developer.admission.max-concurrent:40}") int maxConcurrent,
+                                  @Value("${developer.admission.timeout:2s}") Duration timeout,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.timeoutNanos = timeout.toNanos();
+        this.objectMapper = objectMapper;
+        this.rejected = Counter.builder("developer.admission.rejected").register(meterRegistry);
+        Gauge.builder("developer.admission.available", permits, Semaphore::availablePermits).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+
+        try {
+            acquired = permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), ErrorDto.builder()
+                    .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                    .message("Server is busy, try again later")
+                    .build());
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
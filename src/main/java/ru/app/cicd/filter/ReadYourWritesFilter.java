@@ -0,0 +1,89 @@
+package ru.app.cicd.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.app.cicd.datasource.ReadRoute;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Read-your-writes при чтении с реплик. Изменяющий запрос целиком читает из primary и выставляет cookie,
+ * по которой следующие запросы того же клиента ещё {@code developer.datasource.replica-lag} читают
+ * из primary и видят свою запись, даже если реплика отстаёт.
+ */
+@Component
+@ConditionalOnProperty(name = "developer.datasource.replica-urls")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String PRIMARY_UNTIL_COOKIE = "developer-primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of(HttpMethod.GET.name(), HttpMethod.HEAD.name(),
+            HttpMethod.OPTIONS.name());
+
+    private final Duration replicaLag;
+
+    public ReadYourWritesFilter(@Value("${developer.datasource.replica-lag:1s}") Duration replicaLag) {
+        this.replicaLag = replicaLag;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie
+                    .from(PRIMARY_UNTIL_COOKIE, String.valueOf(now + replicaLag.toMillis()))
+                    .path("/api")
+                    .maxAge(Duration.ofSeconds(replicaLag.toSeconds() + 1))
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+            ReadRoute.pin();
+        } else if (primaryUntil(request) > now) {
+            ReadRoute.pin();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadRoute.unpin();
+        }
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+
+        if (Objects.isNull(cookies)) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (PRIMARY_UNTIL_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,122 @@
+package ru.app.cicd.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.app.cicd.timing.LayerHistograms;
+import ru.app.cicd.timing.RequestTimings;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Собирает время запроса к API по слоям: отдаёт разбивку клиенту в заголовке Server-Timing
+ * и пишет HDR-гистограммы {@code developer.request.layer} по эндпоинту и слою.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final String UNKNOWN_PATTERN = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Гистограммы по методу и затем по объекту шаблона эндпоинта: ключ не собирается из строк на каждый запрос.
+     */
+    private final Map<String, Map<Object, LayerHistograms>> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response, timings);
+
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            RequestTimings.clear();
+            timedResponse.addServerTiming();
+            record(request, timings);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestTimings timings) {
+        histograms(request.getMethod(), request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))
+                .record(timings);
+    }
+
+    private LayerHistograms histograms(String method, Object pattern) {
+        Object key = Objects.isNull(pattern) ? UNKNOWN_PATTERN : pattern;
+        Map<Object, LayerHistograms> byPattern = histograms.get(method);
+
+        if (Objects.isNull(byPattern)) {
+            byPattern = histograms.computeIfAbsent(method, ignored -> new ConcurrentHashMap<>());
+        }
+        LayerHistograms endpointHistograms = byPattern.get(key);
+
+        if (Objects.isNull(endpointHistograms)) {
+            endpointHistograms = byPattern.computeIfAbsent(key,
+                    ignored -> new LayerHistograms(method, key.toString(), meterRegistry));
+        }
+        return endpointHistograms;
+    }
+
+    /**
+     * Дописывает Server-Timing перед тем, как ответ начнёт уходить клиенту.
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+
+        private boolean headerAdded;
+
+        private ServerTimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        private void addServerTiming() {
+            if (!headerAdded && !isCommitted()) {
+                headerAdded = true;
+                setHeader(SERVER_TIMING_HEADER, timings.toServerTiming());
+            }
+        }
+    }
+}
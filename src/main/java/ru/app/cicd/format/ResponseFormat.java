@@ -0,0 +1,53 @@
+package ru.app.cicd.format;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Форматы тела ответа. JSON - формат по умолчанию, CBOR и Smile - компактные бинарные
+ * кодировки той же модели Jackson для клиентов, которые их запрашивают через {@code Accept}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ResponseFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(MediaType.parseMediaType(ResponseFormat.APPLICATION_SMILE_VALUE));
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private static final ResponseFormat[] FORMATS = values();
+
+    private final MediaType mediaType;
+
+    /**
+     * Выбирает формат с наибольшим q среди принимаемых клиентом; при равном q конкретный тип
+     * важнее маски, а при отсутствии совпадений отдаётся JSON.
+     */
+    public static ResponseFormat negotiate(List<MediaType> accepted) {
+        ResponseFormat best = JSON;
+        double bestQuality = -1;
+        boolean bestConcrete = false;
+
+        for (MediaType mediaType : accepted) {
+            double quality = mediaType.getQualityValue();
+            boolean concrete = mediaType.isConcrete();
+
+            if (quality == 0 || quality < bestQuality || quality == bestQuality && (bestConcrete || !concrete)) {
+                continue;
+            }
+            for (ResponseFormat format : FORMATS) {
+                if (mediaType.isCompatibleWith(format.mediaType)) {
+                    best = format;
+                    bestQuality = quality;
+                    bestConcrete = concrete;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,40 @@
+package ru.app.cicd.format;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * {@link ObjectMapper} для каждого {@link ResponseFormat}. Бинарные мапперы собираются тем же
+ * настроенным Spring Boot билдером, что и JSON, поэтому модель ответа во всех форматах одинакова.
+ * Smile дополнительно ссылается на уже записанные короткие строки (специальность, статус), которые
+ * в списках разработчиков повторяются почти в каждой записи.
+ */
+@Component
+public class ResponseMappers {
+
+    private final Map<ResponseFormat, ObjectMapper> mappers = new EnumMap<>(ResponseFormat.class);
+
+    public ResponseMappers(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder builder) {
+        mappers.put(ResponseFormat.JSON, objectMapper);
+        mappers.put(ResponseFormat.CBOR, builder.factory(new CBORFactory()).build());
+        mappers.put(ResponseFormat.SMILE, builder.factory(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build()).build());
+    }
+
+    public ObjectMapper get(ResponseFormat format) {
+        return mappers.get(format);
+    }
+
+    public byte[] writeValueAsBytes(ResponseFormat format, Object value) throws JsonProcessingException {
+        return mappers.get(format).writeValueAsBytes(value);
+    }
+}
@@ -0,0 +1,59 @@
+package ru.app.cicd.importer;
+
+import ru.app.cicd.dto.DeveloperDto;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Запасной путь для H2: JDBC batch из INSERT ... SELECT ... WHERE NOT EXISTS по email. Строки пачки
+ * выполняются по порядку в одной транзакции, поэтому повтор email внутри пачки тоже пропускается.
+ */
+class BatchImportWriter implements ImportWriter {
+
+    private static final String INSERT = "INSERT INTO developers (id, first_name, last_name, specialty, email, status) "
+            + "SELECT ?, ?, ?, ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM developers WHERE email = ?)";
+
+    @Override
+    public List<Long> nextSequenceValues(Connection connection, int count) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT NEXT VALUE FOR developers_seq FROM SYSTEM_RANGE(1, ?)")) {
+            statement.setInt(1, count);
+            List<Long> values = new ArrayList<>(count);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    values.add(resultSet.getLong(1));
+                }
+            }
+            return values;
+        }
+    }
+
+    @Override
+    public int write(Connection connection, List<DeveloperDto> developers) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            for (DeveloperDto developer : developers) {
+                statement.setInt(1, developer.getId());
+                statement.setString(2, developer.getFirstName());
+                statement.setString(3, developer.getLastName());
+                statement.setString(4, developer.getSpecialty());
+                statement.setString(5, developer.getEmail());
+                statement.setString(6, developer.getStatus().name());
+                statement.setString(7, developer.getEmail());
+                statement.addBatch();
+            }
+            int inserted = 0;
+
+            for (int count : statement.executeBatch()) {
+                inserted += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+            return inserted;
+        }
+    }
+}
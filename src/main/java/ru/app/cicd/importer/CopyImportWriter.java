@@ -0,0 +1,94 @@
+package ru.app.cicd.importer;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import ru.app.cicd.dto.DeveloperDto;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Postgres: пачка уходит протоколом COPY во временную таблицу, откуда переносится одним
+ * INSERT ... ON CONFLICT (email) DO NOTHING, так что дубликаты email не обрывают COPY.
+ */
+class CopyImportWriter implements ImportWriter {
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE IF NOT EXISTS developers_import (
+                id INTEGER,
+                first_name VARCHAR(255),
+                last_name VARCHAR(255),
+                specialty VARCHAR(255),
+                email VARCHAR(255),
+                status VARCHAR(255)
+            ) ON COMMIT DELETE ROWS
+            """;
+
+    private static final String COPY = "COPY developers_import (id, first_name, last_name, specialty, email, status) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    private static final String MOVE = "INSERT INTO developers (id, first_name, last_name, specialty, email, status) "
+            + "SELECT id, first_name, last_name, specialty, email, status FROM developers_import "
+            + "ON CONFLICT (email) DO NOTHING";
+
+    @Override
+    public List<Long> nextSequenceValues(Connection connection, int count) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT nextval('developers_seq') FROM generate_series(1, ?)")) {
+            statement.setInt(1, count);
+            List<Long> values = new ArrayList<>(count);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    values.add(resultSet.getLong(1));
+                }
+            }
+            return values;
+        }
+    }
+
+    @Override
+    public int write(Connection connection, List<DeveloperDto> developers) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING);
+        }
+        StringBuilder csv = new StringBuilder(developers.size() * 96);
+
+        for (DeveloperDto developer : developers) {
+            csv.append(developer.getId()).append(',');
+            appendQuoted(csv, developer.getFirstName()).append(',');
+            appendQuoted(csv, developer.getLastName()).append(',');
+            appendQuoted(csv, developer.getSpecialty()).append(',');
+            appendQuoted(csv, developer.getEmail()).append(',');
+            appendQuoted(csv, developer.getStatus().name()).append('\n');
+        }
+        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY);
+
+        try {
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            return statement.executeUpdate(MOVE);
+        }
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder csv, String value) {
+        if (Objects.isNull(value)) {
+            return csv;
+        }
+        return csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,105 @@
+package ru.app.cicd.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.app.cicd.dto.DeveloperImportResultDto;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Импорт из файла при старте: {@code developer.import.file} (формат по расширению или
+ * {@code developer.import.format}). После каждой пачки состояние пишется в контрольную точку
+ * ({@code developer.import.checkpoint}, по умолчанию рядом с файлом), и повторный запуск продолжает с неё;
+ * после успешного импорта файл контрольной точки удаляется.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("developer.import.file")
+public class DeveloperImportRunner implements ApplicationRunner {
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(5);
+
+    private final DeveloperImporter importer;
+
+    private final ObjectMapper objectMapper;
+
+    private final Path file;
+
+    private final ImportFormat format;
+
+    private final Path checkpoint;
+
+    private long lastProgressAt;
+
+    public DeveloperImportRunner(DeveloperImporter importer,
+                                 ObjectMapper objectMapper,
+                                 @Value("${developer.import.file}") String file,
+                                 @Value("${developer.import.format:#{null}}") String format,
+                                 @Value("${developer.import.checkpoint:#{null}}") String checkpoint) {
+        this.importer = importer;
+        this.objectMapper = objectMapper;
+        this.file = Path.of(file);
+        this.format = Objects.isNull(format)
+                ? ImportFormat.fromFileName(file)
+                : ImportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        this.checkpoint = Objects.isNull(checkpoint)
+                ? this.file.resolveSibling(this.file.getFileName() + ".checkpoint")
+                : Path.of(checkpoint);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        DeveloperImportResultDto resumeFrom = null;
+
+        if (Files.exists(checkpoint)) {
+            resumeFrom = objectMapper.readValue(checkpoint.toFile(), DeveloperImportResultDto.class);
+            log.info("Resuming import of {} from byte {} (record {})", file, resumeFrom.getOffset(),
+                    resumeFrom.getRecords());
+        }
+        long size = Files.size(file);
+        lastProgressAt = System.nanoTime();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            importer.importFrom(channel, format, resumeFrom, progress -> {
+                saveCheckpoint(progress);
+                logProgress(progress, size);
+            });
+        }
+        Files.deleteIfExists(checkpoint);
+    }
+
+    private void saveCheckpoint(DeveloperImportResultDto progress) {
+        try {
+            Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+            objectMapper.writeValue(temporary.toFile(), progress);
+            Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot save import checkpoint " + checkpoint, e);
+        }
+    }
+
+    private void logProgress(DeveloperImportResultDto progress, long size) {
+        long now = System.nanoTime();
+
+        if (now - lastProgressAt >= PROGRESS_INTERVAL.toNanos()) {
+            lastProgressAt = now;
+            log.info("Import progress: {}% ({} records, {} imported, {} rows/s)",
+                    size == 0 ? 100 : progress.getOffset() * 100 / size, progress.getRecords(),
+                    progress.getImported(), Math.round(progress.getRowsPerSecond()));
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package ru.app.cicd.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.app.cicd.cache.EmailFilter;
+import ru.app.cicd.cache.SpecialtyCache;
+import ru.app.cicd.changes.DeveloperChangeFeed;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperImportResultDto;
+import ru.app.cicd.entity.Status;
+import ru.app.cicd.search.DeveloperSearchIndex;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Массовая загрузка разработчиков из CSV или NDJSON. Вход читается потоком, записи проверяются и
+ * пишутся пачками, каждая пачка - отдельная транзакция (COPY на Postgres, JDBC batch на H2).
+ * Дубликаты email внутри пачки отсекаются в памяти, между пачками и с уже существующими записями - по
+ * уникальному индексу, так что память не растёт с размером файла. После каждой пачки вызывается
+ * {@code onBatch} с текущим состоянием, которое можно сохранить и передать как {@code resumeFrom}.
+ * <p>
+ * Импорт идёт мимо сервиса: кэш специальностей сбрасывается по пачкам, фильтр email пополняется, а
+ * поисковый индекс перестраивается и подписчики ленты изменений получают reset в конце.
+ */
+@Slf4j
+@Component
+public class DeveloperImporter {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    /**
+     * allocationSize последовательности developers_seq: значение {@code v} закрепляет за вызвавшим id
+     * {@code (v - 50, v]}, так же как пул-оптимизатор Hibernate, поэтому id импорта и приложения не пересекаются.
+     */
+    private static final int SEQUENCE_BLOCK = 50;
+
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final EmailFilter emailFilter;
+
+    private final SpecialtyCache specialtyCache;
+
+    private final DeveloperSearchIndex searchIndex;
+
+    private final DeveloperChangeFeed changeFeed;
+
+    private final int batchSize;
+
+    private final int maxRecordLength;
+
+    public DeveloperImporter(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             ObjectMapper objectMapper,
+                             EmailFilter emailFilter,
+                             SpecialtyCache specialtyCache,
+                             DeveloperSearchIndex searchIndex,
+                             DeveloperChangeFeed changeFeed,
+                             @Value("${developer.import.batch-size:5000}") int batchSize,
+                             @Value("${developer.import.max-record-length:8192}") int maxRecordLength) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.emailFilter = emailFilter;
+        this.specialtyCache = specialtyCache;
+        this.searchIndex = searchIndex;
+        this.changeFeed = changeFeed;
+        this.batchSize = batchSize;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    public DeveloperImportResultDto importFrom(ReadableByteChannel channel, ImportFormat format,
+                                               DeveloperImportResultDto resumeFrom,
+                                               Consumer<DeveloperImportResultDto> onBatch) throws IOException {
+        DeveloperImportResultDto progress = Objects.isNull(resumeFrom)
+                ? DeveloperImportResultDto.builder().build()
+                : resumeFrom.toBuilder().build();
+        progress.setErrors(new ArrayList<>(Objects.requireNonNullElse(progress.getErrors(), List.of())));
+        long startedAt = System.nanoTime();
+        long elapsedBefore = progress.getElapsedMillis();
+        long importedBefore = progress.getImported();
+        ImportRecordReader reader = new ImportRecordReader(channel, format, objectMapper,
+                ImportRecordReader.DEFAULT_BUFFER_SIZE, maxRecordLength);
+
+        if (progress.getOffset() > 0) {
+            reader.seek(progress.getOffset(), progress.getRecords());
+        }
+        List<DeveloperDto> batch = new ArrayList<>(batchSize);
+        Set<String> batchEmails = new HashSet<>();
+        ImportRecord record;
+
+        while (Objects.nonNull(record = reader.next())) {
+            progress.setRecords(record.number());
+            String error = Objects.nonNull(record.error()) ? record.error() : validate(record.developer());
+
+            if (Objects.nonNull(error)) {
+                progress.setInvalid(progress.getInvalid() + 1);
+
+                if (progress.getErrors().size() < MAX_REPORTED_ERRORS) {
+                    progress.getErrors().add("Record " + record.number() + ": " + error);
+                }
+            } else if (!batchEmails.add(record.developer().getEmail())) {
+                progress.setDuplicates(progress.getDuplicates() + 1);
+            } else {
+                batch.add(record.developer());
+            }
+            if (batch.size() == batchSize) {
+                flush(batch, progress);
+                progress.setOffset(reader.offset());
+                report(progress, startedAt, elapsedBefore, onBatch);
+                batchEmails.clear();
+            }
+        }
+        flush(batch, progress);
+        progress.setOffset(reader.offset());
+        report(progress, startedAt, elapsedBefore, onBatch);
+
+        if (progress.getImported() > importedBefore) {
+            searchIndex.scheduleRebuild();
+            changeFeed.publishReset();
+        }
+        log.info("Import finished: {} records, {} imported, {} duplicates, {} invalid, {} rows/s",
+                progress.getRecords(), progress.getImported(), progress.getDuplicates(), progress.getInvalid(),
+                Math.round(progress.getRowsPerSecond()));
+        return progress;
+    }
+
+    /**
+     * Нормализует запись и возвращает причину отказа или {@code null}, если запись годится.
+     */
+    static String validate(DeveloperDto developer) {
+        developer.setId(null);
+        developer.setVersion(null);
+        developer.setFirstName(strip(developer.getFirstName()));
+        developer.setLastName(strip(developer.getLastName()));
+        developer.setSpecialty(strip(developer.getSpecialty()));
+        developer.setEmail(strip(developer.getEmail()));
+
+        if (Objects.isNull(developer.getStatus())) {
+            developer.setStatus(Status.ACTIVE);
+        }
+        if (Objects.isNull(developer.getFirstName()) || Objects.isNull(developer.getLastName())) {
+            return "first and last name are required";
+        }
+        if (Objects.isNull(developer.getSpecialty())) {
+            return "specialty is required";
+        }
+        String email = developer.getEmail();
+
+        if (Objects.isNull(email) || email.indexOf('@') <= 0 || email.indexOf('@') == email.length() - 1) {
+            return "invalid email " + email;
+        }
+        if (Stream.of(developer.getFirstName(), developer.getLastName(), developer.getSpecialty(), email)
+                .anyMatch(value -> value.length() > MAX_COLUMN_LENGTH)) {
+            return "value longer than " + MAX_COLUMN_LENGTH + " characters";
+        }
+        return null;
+    }
+
+    private static String strip(String value) {
+        if (Objects.isNull(value) || value.isBlank()) {
+            return null;
+        }
+        return value.strip();
+    }
+
+    private void flush(List<DeveloperDto> batch, DeveloperImportResultDto progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        ConnectionCallback<Integer> write = connection -> {
+            ImportWriter writer = ImportWriter.forConnection(connection);
+            assignIds(writer, connection, batch);
+            batch.forEach(developer -> emailFilter.put(developer.getEmail()));
+            return writer.write(connection, batch);
+        };
+        int inserted = Objects.requireNonNull(transactionTemplate.execute(status -> jdbcTemplate.execute(write)));
+        progress.setImported(progress.getImported() + inserted);
+        progress.setDuplicates(progress.getDuplicates() + batch.size() - inserted);
+        specialtyCache.invalidateAll(batch.stream().map(DeveloperDto::getSpecialty).toList());
+        batch.clear();
+    }
+
+    private static void assignIds(ImportWriter writer, Connection connection, List<DeveloperDto> batch)
+            throws SQLException {
+        int assigned = 0;
+
+        while (assigned < batch.size()) {
+            int blocks = (batch.size() - assigned + SEQUENCE_BLOCK - 1) / SEQUENCE_BLOCK;
+
+            for (long value : writer.nextSequenceValues(connection, blocks)) {
+                for (long id = Math.max(1, value - SEQUENCE_BLOCK + 1); id <= value && assigned < batch.size(); id++) {
+                    batch.get(assigned++).setId(Math.toIntExact(id));
+                }
+            }
+        }
+    }
+
+    private static void report(DeveloperImportResultDto progress, long startedAt, long elapsedBefore,
+                               Consumer<DeveloperImportResultDto> onBatch) {
+        progress.setElapsedMillis(elapsedBefore + (System.nanoTime() - startedAt) / 1_000_000);
+        progress.setRowsPerSecond(progress.getElapsedMillis() == 0 ? 0
+                : progress.getRecords() * 1000.0 / progress.getElapsedMillis());
+        onBatch.accept(progress.toBuilder().errors(List.copyOf(progress.getErrors())).build());
+    }
+}
@@ -0,0 +1,34 @@
+package ru.app.cicd.importer;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    public static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+
+    public static ImportFormat fromFileName(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Cannot detect import format of " + fileName);
+    }
+
+    public static ImportFormat fromMediaType(MediaType mediaType) {
+        if (TEXT_CSV.isCompatibleWith(mediaType)) {
+            return CSV;
+        }
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(mediaType)) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Unsupported import content type " + mediaType);
+    }
+}
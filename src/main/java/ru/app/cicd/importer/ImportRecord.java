@@ -0,0 +1,17 @@
+package ru.app.cicd.importer;
+
+import ru.app.cicd.dto.DeveloperDto;
+
+/**
+ * Запись файла импорта: разобранный разработчик или причина, по которой запись не разобрана.
+ */
+record ImportRecord(long number, DeveloperDto developer, String error) {
+
+    static ImportRecord parsed(long number, DeveloperDto developer) {
+        return new ImportRecord(number, developer, null);
+    }
+
+    static ImportRecord failed(long number, String error) {
+        return new ImportRecord(number, null, error);
+    }
+}
@@ -0,0 +1,337 @@
+package ru.app.cicd.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.entity.Status;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Потоковое чтение CSV или NDJSON из канала через буфер фиксированного размера, без загрузки файла в память.
+ * Границы записей ищутся по байтам: в UTF-8 байты '\n' и '"' не встречаются внутри многобайтовых символов,
+ * поэтому декодируется только готовая запись, а смещение в байтах известно точно и годится для возобновления.
+ * CSV разбирается по RFC 4180 (кавычки, удвоенные кавычки, перевод строки внутри кавычек) с обязательным
+ * заголовком; пустые строки пропускаются.
+ * <p>
+ * Запись длиннее {@code maxRecordLength} байт не копируется: остаток дочитывается до конца записи без
+ * сохранения и возвращается как ошибочная запись, так что память ридера ограничена этим пределом.
+ * Незакрытая кавычка в CSV поэтому превращает остаток файла в одну ошибочную запись.
+ */
+class ImportRecordReader {
+
+    static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    static final int DEFAULT_MAX_RECORD_LENGTH = 1 << 13;
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("firstname", "lastname", "specialty", "email");
+
+    private final ReadableByteChannel channel;
+
+    private final ImportFormat format;
+
+    private final ObjectMapper objectMapper;
+
+    private final ByteBuffer buffer;
+
+    private final int maxRecordLength;
+
+    private byte[] line = new byte[1024];
+
+    private int lineLength;
+
+    private boolean lineTooLong;
+
+    private long offset;
+
+    private long recordNumber;
+
+    private Map<String, Integer> columns;
+
+    private boolean eof;
+
+    ImportRecordReader(ReadableByteChannel channel, ImportFormat format, ObjectMapper objectMapper, int bufferSize) {
+        this(channel, format, objectMapper, bufferSize, DEFAULT_MAX_RECORD_LENGTH);
+    }
+
+    ImportRecordReader(ReadableByteChannel channel, ImportFormat format, ObjectMapper objectMapper, int bufferSize,
+                       int maxRecordLength) {
+        this.channel = channel;
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.buffer = ByteBuffer.allocate(bufferSize).flip();
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Смещение в байтах сразу за последней прочитанной записью.
+     */
+    long offset() {
+        return offset;
+    }
+
+    /**
+     * Продолжает чтение с сохранённого смещения. Заголовок CSV перечитывается с начала; канал с
+     * произвольным доступом перематывается, остальные дочитываются до смещения.
+     */
+    void seek(long targetOffset, long targetRecordNumber) throws IOException {
+        readHeader();
+
+        if (targetOffset < offset) {
+            throw new IllegalArgumentException("Cannot seek back to byte " + targetOffset);
+        }
+        if (channel instanceof SeekableByteChannel seekable) {
+            seekable.position(targetOffset);
+            buffer.clear().flip();
+            eof = false;
+        } else {
+            long remaining = targetOffset - offset;
+
+            while (remaining > 0) {
+                if (!buffer.hasRemaining() && !fill()) {
+                    throw new IllegalArgumentException("Cannot seek beyond end of input to byte " + targetOffset);
+                }
+                int skipped = (int) Math.min(remaining, buffer.remaining());
+                buffer.position(buffer.position() + skipped);
+                remaining -= skipped;
+            }
+        }
+        offset = targetOffset;
+        recordNumber = targetRecordNumber;
+    }
+
+    /**
+     * Следующая непустая запись или {@code null}, если вход закончился.
+     */
+    ImportRecord next() throws IOException {
+        readHeader();
+
+        while (readLine()) {
+            if (lineTooLong) {
+                recordNumber++;
+                return ImportRecord.failed(recordNumber, "record is longer than " + maxRecordLength + " bytes");
+            }
+            if (isBlank()) {
+                continue;
+            }
+            String text = new String(line, 0, lineLength, StandardCharsets.UTF_8);
+            recordNumber++;
+            return format == ImportFormat.CSV ? parseCsv(text) : parseJson();
+        }
+        return null;
+    }
+
+    private void readHeader() throws IOException {
+        if (format != ImportFormat.CSV || Objects.nonNull(columns)) {
+            return;
+        }
+        while (readLine() && isBlank()) {
+            // пропускаем пустые строки перед заголовком
+        }
+        if (lineTooLong) {
+            throw new IllegalArgumentException("CSV header is longer than " + maxRecordLength + " bytes");
+        }
+        if (lineLength == 0) {
+            throw new IllegalArgumentException("CSV header is missing");
+        }
+        List<String> header = splitCsv(new String(line, 0, lineLength, StandardCharsets.UTF_8));
+
+        if (Objects.isNull(header)) {
+            throw new IllegalArgumentException("CSV header has an unterminated quoted field");
+        }
+        columns = new HashMap<>();
+
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).strip().replace("_", "").replace("-", "").toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header has no columns " + missing);
+        }
+    }
+
+    private ImportRecord parseCsv(String text) {
+        List<String> fields = splitCsv(text);
+
+        if (Objects.isNull(fields)) {
+            return ImportRecord.failed(recordNumber, "unterminated quoted field");
+        }
+        if (fields.size() != columns.size()) {
+            return ImportRecord.failed(recordNumber, "expected " + columns.size() + " columns, got " + fields.size());
+        }
+        String status = field(fields, "status");
+        DeveloperDto developer = DeveloperDto.builder()
+                .firstName(field(fields, "firstname"))
+                .lastName(field(fields, "lastname"))
+                .specialty(field(fields, "specialty"))
+                .email(field(fields, "email"))
+                .build();
+
+        if (Objects.nonNull(status)) {
+            try {
+                developer.setStatus(Status.valueOf(status.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                return ImportRecord.failed(recordNumber, "unknown status " + status);
+            }
+        }
+        return ImportRecord.parsed(recordNumber, developer);
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+
+        if (Objects.isNull(index) || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private ImportRecord parseJson() throws IOException {
+        try {
+            return ImportRecord.parsed(recordNumber, objectMapper.readValue(line, 0, lineLength, DeveloperDto.class));
+        } catch (JsonProcessingException e) {
+            return ImportRecord.failed(recordNumber, e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Поля CSV-записи или {@code null}, если кавычка не закрыта.
+     */
+    static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Читает байты записи до перевода строки вне кавычек. Возвращает {@code false}, если вход закончился
+     * и ничего не прочитано.
+     */
+    private boolean readLine() throws IOException {
+        boolean quoted = false;
+        boolean firstLine = offset == 0;
+        long startOffset = offset;
+        lineLength = 0;
+        lineTooLong = false;
+
+        while (true) {
+            if (!buffer.hasRemaining() && !fill()) {
+                break;
+            }
+            byte[] bytes = buffer.array();
+            int position = buffer.position();
+            int limit = buffer.limit();
+            int end = position;
+
+            while (end < limit && (bytes[end] != '\n' || quoted)) {
+                if (bytes[end] == '"' && format == ImportFormat.CSV) {
+                    quoted = !quoted;
+                }
+                end++;
+            }
+            append(bytes, position, end - position);
+            boolean found = end < limit;
+            int consumed = end - position + (found ? 1 : 0);
+            buffer.position(position + consumed);
+            offset += consumed;
+
+            if (found) {
+                break;
+            }
+        }
+        if (firstLine && lineLength >= UTF8_BOM.length
+                && Arrays.equals(line, 0, UTF8_BOM.length, UTF8_BOM, 0, UTF8_BOM.length)) {
+            System.arraycopy(line, UTF8_BOM.length, line, 0, lineLength - UTF8_BOM.length);
+            lineLength -= UTF8_BOM.length;
+        }
+        if (lineLength > 0 && line[lineLength - 1] == '\r') {
+            lineLength--;
+        }
+        return offset > startOffset;
+    }
+
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        buffer.clear();
+        int read;
+
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        buffer.flip();
+
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        return true;
+    }
+
+    private void append(byte[] bytes, int from, int length) {
+        if (lineTooLong) {
+            return;
+        }
+        if (lineLength + length > maxRecordLength) {
+            lineTooLong = true;
+            return;
+        }
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.min(Math.max(line.length * 2, lineLength + length), maxRecordLength));
+        }
+        System.arraycopy(bytes, from, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private boolean isBlank() {
+        for (int i = 0; i < lineLength; i++) {
+            if (line[i] != ' ' && line[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package ru.app.cicd.importer;
+
+import org.postgresql.PGConnection;
+import ru.app.cicd.dto.DeveloperDto;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Запись пачки импорта в таблицу developers внутри текущей транзакции.
+ */
+interface ImportWriter {
+
+    /**
+     * Значения developers_seq, по одному на каждый запрошенный блок id.
+     */
+    List<Long> nextSequenceValues(Connection connection, int count) throws SQLException;
+
+    /**
+     * Вставляет разработчиков с уже назначенными id, пропуская email, которые уже есть в таблице.
+     *
+     * @return число вставленных строк
+     */
+    int write(Connection connection, List<DeveloperDto> developers) throws SQLException;
+
+    static ImportWriter forConnection(Connection connection) throws SQLException {
+        return connection.isWrapperFor(PGConnection.class) ? new CopyImportWriter() : new BatchImportWriter();
+    }
+}
@@ -0,0 +1,20 @@
+package ru.app.cicd.repository;
+
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperField;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Выборки активных разработчиков только с запрошенными полями: в SELECT попадают лишь нужные столбцы.
+ */
+public interface DeveloperFieldsRepository {
+
+    List<DeveloperDto> findActivePageAfter(Integer afterId, int limit, Set<DeveloperField> fields);
+
+    List<DeveloperDto> findAllActiveBySpecialty(String specialty, Set<DeveloperField> fields);
+
+    Stream<DeveloperDto> streamAllActive(Set<DeveloperField> fields);
+}
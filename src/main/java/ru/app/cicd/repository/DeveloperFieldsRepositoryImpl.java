@@ -0,0 +1,65 @@
+package ru.app.cicd.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperField;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Текст запроса собирается из путей полей; Hibernate кэширует план по тексту, так что каждый набор полей
+ * компилируется один раз. Условия и порядок те же, что у запросов {@link DeveloperRepository} с полным DTO.
+ */
+@RequiredArgsConstructor
+class DeveloperFieldsRepositoryImpl implements DeveloperFieldsRepository {
+
+    private static final String ACTIVE_PAGE_AFTER =
+            "FROM Developer d WHERE d.status = 'ACTIVE' AND d.id > :afterId ORDER BY d.status, d.id";
+
+    private static final String ACTIVE_BY_SPECIALTY =
+            "FROM Developer d WHERE d.status = 'ACTIVE' AND d.specialty = :specialty";
+
+    private static final String ALL_ACTIVE = "FROM Developer d WHERE d.status = 'ACTIVE' ORDER BY d.status, d.id";
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<DeveloperDto> findActivePageAfter(Integer afterId, int limit, Set<DeveloperField> fields) {
+        return query(fields, ACTIVE_PAGE_AFTER)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(row -> DeveloperField.fromRow(row, fields))
+                .toList();
+    }
+
+    @Override
+    public List<DeveloperDto> findAllActiveBySpecialty(String specialty, Set<DeveloperField> fields) {
+        return query(fields, ACTIVE_BY_SPECIALTY)
+                .setParameter("specialty", specialty)
+                .getResultStream()
+                .map(row -> DeveloperField.fromRow(row, fields))
+                .toList();
+    }
+
+    @Override
+    public Stream<DeveloperDto> streamAllActive(Set<DeveloperField> fields) {
+        return query(fields, ALL_ACTIVE)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream()
+                .map(row -> DeveloperField.fromRow(row, fields));
+    }
+
+    private TypedQuery<Object[]> query(Set<DeveloperField> fields, String from) {
+        String select = fields.stream().map(DeveloperField::getPath).collect(Collectors.joining(", ", "SELECT ", " "));
+        return entityManager.createQuery(select + from, Object[].class);
+    }
+}
@@ -1,15 +1,81 @@
 package ru.app.cicd.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperSpecialtyDto;
 import ru.app.cicd.entity.Developer;
+import ru.app.cicd.entity.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface DeveloperRepository extends JpaRepository<Developer, Integer> {
+public interface DeveloperRepository extends JpaRepository<Developer, Integer>, DeveloperFieldsRepository {
+
+    String SELECT_DTO = "SELECT new ru.app.cicd.dto.DeveloperDto("
+            + "d.id, d.firstName, d.lastName, d.specialty, d.email, d.status, d.version) FROM Developer d ";
 
     Developer findByEmail(String email);
 
-    @Query("SELECT d FROM Developer d WHERE d.status = 'ACTIVE' AND d.specialty = ?1")
-    List<Developer> findAllActiveBySpecialty(String specialty);
+    @Query("SELECT d.version FROM Developer d WHERE d.id = ?1")
+    Optional<Long> findVersionById(Integer id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Developer d WHERE d.id = ?1")
+    Optional<Developer> findByIdForUpdate(Integer id);
+
+    @Query("SELECT d.email FROM Developer d WHERE d.email IN ?1")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Только существующие id из запрошенных — по ним массовое удаление рассылает события и чистит кэши.
+     */
+    @Query("SELECT new ru.app.cicd.dto.DeveloperSpecialtyDto(d.id, d.specialty) FROM Developer d "
+            + "WHERE d.id IN ?1")
+    List<DeveloperSpecialtyDto> findIdAndSpecialtyByIds(Collection<Integer> ids);
+
+    @Query(SELECT_DTO + "WHERE d.status = 'ACTIVE' AND d.specialty = ?1")
+    List<DeveloperDto> findAllActiveBySpecialty(String specialty);
+
+    /**
+     * Сортировка по (status, id) совпадает с индексом ix_developers_active_id: при одном лишь id H2 не
+     * узнаёт порядок индекса и сортирует весь хвост таблицы ради одной страницы.
+     */
+    @Query(SELECT_DTO + "WHERE d.status = 'ACTIVE' AND d.id > ?1 ORDER BY d.status, d.id")
+    List<DeveloperDto> findActivePageAfter(Integer afterId, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Developer d SET d.firstName = ?3, d.lastName = ?4, d.specialty = ?5, d.email = ?6, "
+            + "d.version = d.version + 1 WHERE d.id = ?1 AND d.version = ?2")
+    int updateIfVersion(Integer id, Long version, String firstName, String lastName, String specialty, String email);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Developer d SET d.firstName = ?2, d.lastName = ?3, d.specialty = ?4, d.email = ?5, "
+            + "d.version = d.version + 1 WHERE d.id = ?1")
+    int updateById(Integer id, String firstName, String lastName, String specialty, String email);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Developer d SET d.status = ?2, d.version = d.version + 1 WHERE d.id IN ?1")
+    int updateStatusByIds(Collection<Integer> ids, Status status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Developer d WHERE d.id IN ?1")
+    int deleteByIds(Collection<Integer> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + "WHERE d.status = 'ACTIVE' ORDER BY d.status, d.id")
+    Stream<DeveloperDto> streamAllActive();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT d.email FROM Developer d WHERE d.email IS NOT NULL")
+    Stream<String> streamAllEmails();
 }
@@ -0,0 +1,240 @@
+package ru.app.cicd.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.app.cicd.cache.AfterCompletion;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperSuggestionDto;
+import ru.app.cicd.entity.Developer;
+import ru.app.cicd.entity.Status;
+import ru.app.cicd.repository.DeveloperRepository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Поиск активных разработчиков по фрагментам имени, фамилии и email и автодополнение по префиксу
+ * полного имени или email без обращения к БД. Индексы строятся в фоне после старта и обновляются
+ * сервисом после коммита; изменения, пришедшие во время перестроения, применяются и к строящемуся
+ * индексу, а более старые строки из потока перестроения для уже изменённых id пропускаются.
+ */
+@Slf4j
+@Component
+public class DeveloperSearchIndex {
+
+    private final DeveloperRepository developerRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+
+    private final Executor rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile Indexes current;
+
+    private volatile Rebuild next;
+
+    public DeveloperSearchIndex(DeveloperRepository developerRepository,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${developer.search.enabled:true}") boolean enabled) {
+        this.developerRepository = developerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        Gauge.builder("developer.search.index.size", this, DeveloperSearchIndex::size).register(meterRegistry);
+        Gauge.builder("developer.search.index.memory", this, DeveloperSearchIndex::sizeInBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("developer.search.index.memory.per.developer", this, DeveloperSearchIndex::bytesPerDeveloper)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("developer.search.suggest.memory", this, DeveloperSearchIndex::suggestSizeInBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        scheduleRebuild();
+    }
+
+    public boolean isReady() {
+        return enabled && Objects.nonNull(current);
+    }
+
+    public List<Integer> search(String query, int limit) {
+        Indexes indexes = current;
+
+        if (Objects.isNull(indexes)) {
+            return List.of();
+        }
+        return indexes.ngrams().search(query, limit).stream().map(NgramIndex.Hit::id).toList();
+    }
+
+    public List<DeveloperSuggestionDto> suggest(String prefix, int limit) {
+        Indexes indexes = current;
+
+        if (Objects.isNull(indexes)) {
+            return List.of();
+        }
+        return indexes.prefixes().suggest(prefix, limit).stream()
+                .map(suggestion -> DeveloperSuggestionDto.builder()
+                        .id(suggestion.id())
+                        .label(suggestion.label())
+                        .build())
+                .toList();
+    }
+
+    public void put(Developer developer) {
+        putAll(List.of(developer));
+    }
+
+    public void putAll(Collection<Developer> developers) {
+        if (enabled && !developers.isEmpty()) {
+            List<Developer> snapshot = List.copyOf(developers);
+            AfterCompletion.afterCommit(() -> snapshot.forEach(this::putNow));
+        }
+    }
+
+    private void putNow(Developer developer) {
+        if (developer.getStatus() != Status.ACTIVE) {
+            apply(developer.getId(), indexes -> indexes.remove(developer.getId()));
+        } else {
+            apply(developer.getId(), indexes -> indexes.put(developer.getId(), developer.getFirstName(),
+                    developer.getLastName(), developer.getEmail()));
+        }
+    }
+
+    public void removeAll(Collection<Integer> ids) {
+        if (enabled && !ids.isEmpty()) {
+            List<Integer> snapshot = List.copyOf(ids);
+            AfterCompletion.afterCommit(() -> snapshot.forEach(id -> apply(id, indexes -> indexes.remove(id))));
+        }
+    }
+
+    /**
+     * Сначала читается {@code next}, потом {@code current}: перестроение публикует новый индекс в
+     * {@code current} раньше, чем обнуляет {@code next}, поэтому изменение попадёт в новый индекс при любом
+     * порядке с переключением. Повторное применение к тому же индексу безвредно.
+     */
+    private void apply(int id, Consumer<Indexes> change) {
+        Rebuild pending = next;
+        Indexes indexes = current;
+
+        if (Objects.nonNull(pending)) {
+            pending.apply(id, change);
+        }
+        if (Objects.nonNull(indexes) && (Objects.isNull(pending) || indexes != pending.indexes)) {
+            change.accept(indexes);
+        }
+    }
+
+    public int size() {
+        Indexes indexes = current;
+        return Objects.isNull(indexes) ? 0 : indexes.ngrams().size();
+    }
+
+    public long sizeInBytes() {
+        Indexes indexes = current;
+        return Objects.isNull(indexes) ? 0 : indexes.ngrams().sizeInBytes();
+    }
+
+    public long suggestSizeInBytes() {
+        Indexes indexes = current;
+        return Objects.isNull(indexes) ? 0 : indexes.prefixes().sizeInBytes();
+    }
+
+    public double bytesPerDeveloper() {
+        int size = size();
+        return size == 0 ? 0 : (double) sizeInBytes() / size;
+    }
+
+    public void scheduleRebuild() {
+        if (enabled && rebuilding.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.warn("Search index rebuild failed", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    void rebuild() {
+        Rebuild rebuild = new Rebuild();
+        Indexes rebuilt = rebuild.indexes;
+        next = rebuild;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<DeveloperDto> developers = developerRepository.streamAllActive()) {
+                developers.forEach(rebuild::load);
+            }
+        });
+        current = rebuilt;
+        next = null;
+        int size = rebuilt.ngrams().size();
+        long bytes = rebuilt.ngrams().sizeInBytes();
+        log.info("Search index built: {} developers, {} bytes, {} bytes per developer, {} bytes for suggestions",
+                size, bytes, size == 0 ? 0 : bytes / size, rebuilt.prefixes().sizeInBytes());
+    }
+
+    /**
+     * Строящийся индекс. Запоминает id, изменённые во время построения, чтобы строка из снимка потока,
+     * прочитанная раньше изменения, не перезаписала его и не вернула удалённого разработчика.
+     */
+    private static final class Rebuild {
+
+        private final Indexes indexes = new Indexes(new NgramIndex(), new PrefixTrie());
+
+        private final Set<Integer> touched = new HashSet<>();
+
+        synchronized void apply(int id, Consumer<Indexes> change) {
+            touched.add(id);
+            change.accept(indexes);
+        }
+
+        synchronized void load(DeveloperDto developer) {
+            if (!touched.contains(developer.getId())) {
+                indexes.put(developer.getId(), developer.getFirstName(), developer.getLastName(),
+                        developer.getEmail());
+            }
+        }
+    }
+
+    private record Indexes(NgramIndex ngrams, PrefixTrie prefixes) {
+
+        void put(int id, String firstName, String lastName, String email) {
+            ngrams.put(id, firstName, lastName, email);
+            prefixes.put(id, firstName, lastName, email);
+        }
+
+        void remove(int id) {
+            ngrams.remove(id);
+            prefixes.remove(id);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package ru.app.cicd.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Инвертированный индекс по триграммам имени, фамилии и email. Для каждой триграммы хранится
+ * отсортированный массив id; поиск пересекает списки начиная с самого короткого и проверяет
+ * кандидатов подстрокой. Поиски идут параллельно под read-lock, изменения берут write-lock.
+ */
+class NgramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparingInt(Hit::id);
+
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    private final Map<Integer, Document> documents = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(int id, String firstName, String lastName, String email) {
+        Document document = new Document(normalize(firstName), normalize(lastName), normalize(email));
+        Set<String> grams = document.grams();
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(id, document);
+
+            if (Objects.nonNull(previous)) {
+                for (String gram : previous.grams()) {
+                    if (!grams.contains(gram)) {
+                        removePosting(gram, id);
+                    }
+                }
+            }
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+
+            if (Objects.nonNull(previous)) {
+                for (String gram : previous.grams()) {
+                    removePosting(gram, id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removePosting(String gram, int id) {
+        Postings list = postings.get(gram);
+
+        if (Objects.nonNull(list) && list.remove(id) && list.size == 0) {
+            postings.remove(gram);
+        }
+    }
+
+    List<Hit> search(String query, int limit) {
+        String needle = normalize(query).strip();
+
+        if (needle.length() < GRAM_LENGTH) {
+            throw new IllegalArgumentException("Query must be at least " + GRAM_LENGTH + " characters");
+        }
+        PriorityQueue<Hit> top = new PriorityQueue<>(RANKING.reversed());
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>();
+
+            for (String gram : grams(needle)) {
+                Postings list = postings.get(gram);
+
+                if (Objects.isNull(list)) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+            Postings shortest = lists.get(0);
+
+            for (int i = 0; i < shortest.size; i++) {
+                int id = shortest.ids[i];
+
+                if (containedInAll(lists, id)) {
+                    int score = documents.get(id).score(needle);
+
+                    if (score > 0) {
+                        top.offer(new Hit(id, score));
+
+                        if (top.size() > limit) {
+                            top.poll();
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    private static boolean containedInAll(List<Postings> lists, int id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Оценка занимаемой кучи для 64-битной JVM со сжатыми указателями и компактными строками.
+     */
+    long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = hashMapBytes(postings.size()) + hashMapBytes(documents.size());
+
+            for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+                bytes += stringBytes(entry.getKey()) + 24 + align(16 + 4L * entry.getValue().ids.length);
+            }
+            for (Document document : documents.values()) {
+                bytes += 16 + 24 + stringBytes(document.firstName())
+                        + stringBytes(document.lastName()) + stringBytes(document.email());
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static long hashMapBytes(int entries) {
+        long table = Integer.highestOneBit(Math.max(1, (int) (entries / 0.75f)) * 2 - 1);
+        return align(16 + 4 * table) + 32L * entries;
+    }
+
+    static long stringBytes(String value) {
+        return 24 + align(16 + value.length());
+    }
+
+    static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    static String normalize(String value) {
+        return Objects.isNull(value) ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    record Hit(int id, int score) {
+    }
+
+    private record Document(String firstName, String lastName, String email) {
+
+        Set<String> grams() {
+            Set<String> grams = NgramIndex.grams(firstName);
+            grams.addAll(NgramIndex.grams(lastName));
+            grams.addAll(NgramIndex.grams(email));
+            return grams;
+        }
+
+        int score(String needle) {
+            return Math.max(Math.max(nameScore(firstName, needle), nameScore(lastName, needle)), emailScore(needle));
+        }
+
+        private static int nameScore(String name, String needle) {
+            if (name.equals(needle)) {
+                return 4;
+            }
+            if (name.startsWith(needle)) {
+                return 3;
+            }
+            return name.contains(needle) ? 2 : 0;
+        }
+
+        private int emailScore(String needle) {
+            return email.contains(needle) ? 1 : 0;
+        }
+    }
+
+    /**
+     * Отсортированный по возрастанию список id. Новые разработчики получают растущие id,
+     * поэтому вставка почти всегда идёт в конец.
+     */
+    private static final class Postings {
+
+        private int[] ids = new int[4];
+
+        private int size;
+
+        void add(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+
+            if (ids.length > 8 && size < ids.length / 4) {
+                ids = Arrays.copyOf(ids, ids.length / 2);
+            }
+            return true;
+        }
+
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package ru.app.cicd.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Сжатое префиксное дерево (radix trie) по полному имени и email для автодополнения. Узлы неизменяемы:
+ * запись копирует путь от корня до изменённого узла и публикует новый корень через volatile-поле,
+ * поэтому чтение идёт без блокировок по согласованному снимку, а записи сериализуются монитором.
+ */
+class PrefixTrie {
+
+    private static final Node EMPTY = new Node("", new char[0], new Node[0], new Suggestion[0]);
+
+    private volatile Node root = EMPTY;
+
+    private final Map<Integer, String[]> labelsById = new HashMap<>();
+
+    synchronized void put(int id, String firstName, String lastName, String email) {
+        removeLabels(id);
+        String fullName = Stream.of(firstName, lastName)
+                .filter(Objects::nonNull)
+                .map(String::strip)
+                .filter(part -> !part.isEmpty())
+                .reduce((first, last) -> first + " " + last)
+                .orElse("");
+        List<String> labels = new ArrayList<>(2);
+        Node updated = root;
+
+        for (String label : new String[]{fullName, Objects.isNull(email) ? "" : email.strip()}) {
+            if (!label.isEmpty() && labels.stream().noneMatch(label::equalsIgnoreCase)) {
+                labels.add(label);
+                updated = insert(updated, NgramIndex.normalize(label), 0, new Suggestion(id, label));
+            }
+        }
+        labelsById.put(id, labels.toArray(String[]::new));
+        root = updated;
+    }
+
+    synchronized void remove(int id) {
+        removeLabels(id);
+    }
+
+    private void removeLabels(int id) {
+        String[] labels = labelsById.remove(id);
+
+        if (Objects.nonNull(labels)) {
+            Node updated = root;
+
+            for (String label : labels) {
+                updated = delete(updated, NgramIndex.normalize(label), 0, id);
+            }
+            root = updated;
+        }
+    }
+
+    /**
+     * Первые {@code limit} разных разработчиков, чьё имя или email начинается с префикса. Более короткие
+     * совпадения идут раньше, остальные - в лексикографическом порядке ключа.
+     */
+    List<Suggestion> suggest(String prefix, int limit) {
+        String needle = NgramIndex.normalize(prefix).stripLeading();
+
+        if (needle.isEmpty()) {
+            throw new IllegalArgumentException("Prefix must not be blank");
+        }
+        Node node = root;
+        int offset = 0;
+
+        while (offset < needle.length()) {
+            int index = Arrays.binarySearch(node.firsts, needle.charAt(offset));
+
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.edge, needle, offset);
+
+            if (offset + common < needle.length() && common < child.edge.length()) {
+                return List.of();
+            }
+            node = child;
+            offset += common;
+        }
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, 16));
+        collect(node, limit, suggestions, new HashSet<>());
+        return suggestions;
+    }
+
+    private static void collect(Node node, int limit, List<Suggestion> suggestions, Set<Integer> seen) {
+        for (Suggestion suggestion : node.suggestions) {
+            if (suggestions.size() == limit) {
+                return;
+            }
+            if (seen.add(suggestion.id())) {
+                suggestions.add(suggestion);
+            }
+        }
+        for (Node child : node.children) {
+            if (suggestions.size() == limit) {
+                return;
+            }
+            collect(child, limit, suggestions, seen);
+        }
+    }
+
+    synchronized int size() {
+        return labelsById.size();
+    }
+
+    /**
+     * Оценка занимаемой кучи, по тем же допущениям, что и {@link NgramIndex#sizeInBytes()}.
+     */
+    long sizeInBytes() {
+        long labels;
+
+        synchronized (this) {
+            labels = NgramIndex.hashMapBytes(labelsById.size()) + 40L * labelsById.size();
+        }
+        return labels + nodeBytes(root);
+    }
+
+    private static long nodeBytes(Node node) {
+        long bytes = 32 + NgramIndex.stringBytes(node.edge)
+                + NgramIndex.align(16 + 2L * node.firsts.length)
+                + NgramIndex.align(16 + 4L * node.children.length)
+                + NgramIndex.align(16 + 4L * node.suggestions.length);
+
+        for (Suggestion suggestion : node.suggestions) {
+            bytes += 24 + NgramIndex.stringBytes(suggestion.label());
+        }
+        for (Node child : node.children) {
+            bytes += nodeBytes(child);
+        }
+        return bytes;
+    }
+
+    private static Node insert(Node node, String key, int offset, Suggestion suggestion) {
+        if (offset == key.length()) {
+            return node.withSuggestion(suggestion);
+        }
+        char first = key.charAt(offset);
+        int index = Arrays.binarySearch(node.firsts, first);
+
+        if (index < 0) {
+            Node leaf = new Node(key.substring(offset), new char[0], new Node[0], new Suggestion[]{suggestion});
+            return node.withChild(-index - 1, first, leaf);
+        }
+        Node child = node.children[index];
+        int common = commonPrefixLength(child.edge, key, offset);
+
+        if (common < child.edge.length()) {
+            Node tail = new Node(child.edge.substring(common), child.firsts, child.children, child.suggestions);
+            child = new Node(child.edge.substring(0, common), new char[]{tail.edge.charAt(0)}, new Node[]{tail},
+                    new Suggestion[0]);
+        }
+        return node.replaceChild(index, insert(child, key, offset + common, suggestion));
+    }
+
+    /**
+     * Возвращает узел без подсказки, тот же узел, если удалять нечего, или {@code null}, если узел опустел.
+     * Корень ({@code offset == 0}) не удаляется и не склеивается с единственным потомком.
+     */
+    private static Node delete(Node node, String key, int offset, int id) {
+        Node updated;
+
+        if (offset == key.length()) {
+            updated = node.withoutSuggestion(id);
+        } else {
+            int index = Arrays.binarySearch(node.firsts, key.charAt(offset));
+
+            if (index < 0) {
+                return node;
+            }
+            Node child = node.children[index];
+
+            if (!key.startsWith(child.edge, offset)) {
+                return node;
+            }
+            Node updatedChild = delete(child, key, offset + child.edge.length(), id);
+
+            if (updatedChild == child) {
+                return node;
+            }
+            updated = Objects.isNull(updatedChild) ? node.withoutChild(index) : node.replaceChild(index, updatedChild);
+        }
+        if (updated == node || offset == 0 || updated.suggestions.length > 0) {
+            return updated;
+        }
+        if (updated.children.length == 0) {
+            return null;
+        }
+        if (updated.children.length == 1) {
+            Node child = updated.children[0];
+            return new Node(updated.edge + child.edge, child.firsts, child.children, child.suggestions);
+        }
+        return updated;
+    }
+
+    private static int commonPrefixLength(String edge, String key, int offset) {
+        int max = Math.min(edge.length(), key.length() - offset);
+        int length = 0;
+
+        while (length < max && edge.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    record Suggestion(int id, String label) {
+    }
+
+    private static final class Node {
+
+        private final String edge;
+
+        private final char[] firsts;
+
+        private final Node[] children;
+
+        private final Suggestion[] suggestions;
+
+        private Node(String edge, char[] firsts, Node[] children, Suggestion[] suggestions) {
+            this.edge = edge;
+            this.firsts = firsts;
+            this.children = children;
+            this.suggestions = suggestions;
+        }
+
+        private Node withChild(int index, char first, Node child) {
+            char[] newFirsts = new char[firsts.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(firsts, 0, newFirsts, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newFirsts[index] = first;
+            newChildren[index] = child;
+            System.arraycopy(firsts, index, newFirsts, index + 1, firsts.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            return new Node(edge, newFirsts, newChildren, suggestions);
+        }
+
+        private Node replaceChild(int index, Node child) {
+            Node[] newChildren = children.clone();
+            newChildren[index] = child;
+            return new Node(edge, firsts, newChildren, suggestions);
+        }
+
+        private Node withoutChild(int index) {
+            char[] newFirsts = new char[firsts.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(firsts, 0, newFirsts, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(firsts, index + 1, newFirsts, index, newFirsts.length - index);
+            System.arraycopy(children, index + 1, newChildren, index, newChildren.length - index);
+            return new Node(edge, newFirsts, newChildren, suggestions);
+        }
+
+        private Node withSuggestion(Suggestion suggestion) {
+            int position = 0;
+
+            while (position < suggestions.length && suggestions[position].id() < suggestion.id()) {
+                position++;
+            }
+            Suggestion[] newSuggestions;
+
+            if (position < suggestions.length && suggestions[position].id() == suggestion.id()) {
+                newSuggestions = suggestions.clone();
+            } else {
+                newSuggestions = new Suggestion[suggestions.length + 1];
+                System.arraycopy(suggestions, 0, newSuggestions, 0, position);
+                System.arraycopy(suggestions, position, newSuggestions, position + 1, suggestions.length - position);
+            }
+            newSuggestions[position] = suggestion;
+            return new Node(edge, firsts, children, newSuggestions);
+        }
+
+        private Node withoutSuggestion(int id) {
+            for (int i = 0; i < suggestions.length; i++) {
+                if (suggestions[i].id() == id) {
+                    Suggestion[] newSuggestions = new Suggestion[suggestions.length - 1];
+                    System.arraycopy(suggestions, 0, newSuggestions, 0, i);
+                    System.arraycopy(suggestions, i + 1, newSuggestions, i, newSuggestions.length - i);
+                    return new Node(edge, firsts, children, newSuggestions);
+                }
+            }
+            return this;
+        }
+    }
+}
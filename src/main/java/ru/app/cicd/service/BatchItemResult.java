@@ -0,0 +1,31 @@
+package ru.app.cicd.service;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.app.cicd.entity.Developer;
+
+import java.util.Objects;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchItemResult {
+
+    private final int index;
+
+    private final Developer developer;
+
+    private final RuntimeException error;
+
+    public static BatchItemResult created(int index, Developer developer) {
+        return new BatchItemResult(index, developer, null);
+    }
+
+    public static BatchItemResult failed(int index, RuntimeException error) {
+        return new BatchItemResult(index, null, error);
+    }
+
+    public boolean isSuccess() {
+        return Objects.isNull(error);
+    }
+}
@@ -1,24 +1,47 @@
 package ru.app.cicd.service;
 
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperField;
+import ru.app.cicd.dto.DeveloperSuggestionDto;
 import ru.app.cicd.entity.Developer;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface DeveloperService {
 
     Developer saveDeveloper(Developer developer);
 
+    List<BatchItemResult> saveDevelopers(List<Developer> developers);
+
     Developer updateDeveloper(Developer developer);
 
     Developer getDeveloperById(Integer id);
 
+    Optional<Long> getDeveloperVersion(Integer id);
+
+    List<Developer> getDevelopersByIds(Collection<Integer> ids);
+
+    List<DeveloperDto> searchDevelopers(String query, int limit);
+
+    List<DeveloperSuggestionDto> suggestDevelopers(String prefix, int limit);
+
     Developer getDeveloperByEmail(String email);
 
-    List<Developer> getAllDevelopers();
+    List<DeveloperDto> getAllDevelopers(Integer afterId, int limit, Set<DeveloperField> fields);
+
+    List<DeveloperDto> getAllActiveBySpeciality(String speciality, Set<DeveloperField> fields);
 
-    List<Developer> getAllActiveBySpeciality(String speciality);
+    void streamActiveDevelopers(Set<DeveloperField> fields, Consumer<DeveloperDto> consumer);
 
     void softDeleteById(Integer id);
 
     void hardDeleteById(Integer id);
+
+    int softDeleteByIds(Collection<Integer> ids);
+
+    int hardDeleteByIds(Collection<Integer> ids);
 }
@@ -1,85 +1,408 @@
 package ru.app.cicd.service;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import ru.app.cicd.cache.DeveloperCache;
+import ru.app.cicd.cache.EmailFilter;
+import ru.app.cicd.cache.SpecialtyCache;
+import ru.app.cicd.changes.ChangeType;
+import ru.app.cicd.changes.DeveloperChangeFeed;
+import ru.app.cicd.datasource.ReplicaRead;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperSpecialtyDto;
+import ru.app.cicd.dto.DeveloperField;
+import ru.app.cicd.dto.DeveloperSuggestionDto;
 import ru.app.cicd.entity.Developer;
 import ru.app.cicd.entity.Status;
 import ru.app.cicd.exception.DeveloperNotFoundException;
+import ru.app.cicd.exception.DeveloperVersionConflictException;
 import ru.app.cicd.exception.DeveloperWithDuplicateEmailException;
+import ru.app.cicd.exception.SearchIndexNotReadyException;
 import ru.app.cicd.repository.DeveloperRepository;
+import ru.app.cicd.search.DeveloperSearchIndex;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class DeveloperServiceImpl implements DeveloperService {
 
+    private static final int BATCH_SIZE = 50;
+
+    private static final int EMAIL_LOOKUP_CHUNK = 5000;
+
+    private static final int ID_LOOKUP_CHUNK = 1000;
+
     private final DeveloperRepository developerRepository;
 
+    private final EntityManager entityManager;
+
+    private final DeveloperCache developerCache;
+
+    private final SpecialtyCache specialtyCache;
+
+    private final EmailFilter emailFilter;
+
+    private final DeveloperSearchIndex searchIndex;
+
+    private final DeveloperChangeFeed changeFeed;
+
     @Override
+    @Transactional
     public Developer saveDeveloper(Developer developer) {
-        Developer duplicateCandidate = developerRepository.findByEmail(developer.getEmail());
+        developer.setStatus(Status.ACTIVE);
+        developer.setVersion(null);
+        emailFilter.put(developer.getEmail());
+        Developer savedDeveloper;
 
-        if (Objects.nonNull(duplicateCandidate)) {
-            throw new DeveloperWithDuplicateEmailException("Developer with defined email is already exists");
+        try {
+            savedDeveloper = developerRepository.saveAndFlush(developer);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(e);
         }
+        developerCache.put(savedDeveloper);
+        specialtyCache.invalidate(savedDeveloper.getSpecialty());
+        searchIndex.put(savedDeveloper);
+        changeFeed.publish(ChangeType.CREATED, savedDeveloper);
+        return savedDeveloper;
+    }
 
-        developer.setStatus(Status.ACTIVE);
-        return developerRepository.save(developer);
+    @Override
+    @Transactional
+    public List<BatchItemResult> saveDevelopers(List<Developer> developers) {
+        Set<String> takenEmails = findExistingEmails(developers);
+        List<BatchItemResult> results = new ArrayList<>(developers.size());
+        int pending = 0;
+
+        for (int i = 0; i < developers.size(); i++) {
+            Developer developer = developers.get(i);
+            String email = developer.getEmail();
+
+            if (Objects.nonNull(email) && !takenEmails.add(email)) {
+                results.add(BatchItemResult.failed(i,
+                        new DeveloperWithDuplicateEmailException("Developer with defined email is already exists")));
+                continue;
+            }
+
+            developer.setStatus(Status.ACTIVE);
+            developer.setVersion(null);
+            emailFilter.put(email);
+            results.add(BatchItemResult.created(i, developerRepository.save(developer)));
+
+            if (++pending % BATCH_SIZE == 0) {
+                flushBatch();
+            }
+        }
+        flushBatch();
+        List<Developer> created = results.stream()
+                .filter(BatchItemResult::isSuccess)
+                .map(BatchItemResult::getDeveloper)
+                .toList();
+        specialtyCache.invalidateAll(created.stream().map(Developer::getSpecialty).toList());
+        searchIndex.putAll(created);
+        changeFeed.publishAll(ChangeType.CREATED, created);
+        return results;
+    }
+
+    /**
+     * Email, вставленный конкурентно после проверки {@link #findExistingEmails}, всплывает здесь нарушением
+     * уникального индекса; транзакция всей пачки откатывается, а вызывающий может повторить её.
+     */
+    private void flushBatch() {
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            throw translateDuplicateEmail(e);
+        }
+        entityManager.clear();
     }
 
+    private Set<String> findExistingEmails(List<Developer> developers) {
+        List<String> emails = developers.stream()
+                .map(Developer::getEmail)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Set<String> existing = new HashSet<>();
+
+        for (int from = 0; from < emails.size(); from += EMAIL_LOOKUP_CHUNK) {
+            List<String> chunk = emails.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK, emails.size()));
+            existing.addAll(developerRepository.findExistingEmails(chunk));
+        }
+        return existing;
+    }
+
+    /**
+     * Без версии в запросе ожидается версия из кэша или БД, с версией — она сама; если кэш отстал от неё,
+     * прежняя запись перечитывается, иначе сбросилась бы не та специальность. {@link Developer#ANY_VERSION}
+     * блокирует строку и обновляет её без проверки версии: прежнюю специальность нельзя брать из кэша,
+     * когда UPDATE не сверяет версию.
+     */
     @Override
+    @Transactional
     public Developer updateDeveloper(Developer developer) {
-        boolean isExists = developerRepository.existsById(developer.getId());
+        boolean anyVersion = Objects.equals(developer.getVersion(), Developer.ANY_VERSION);
+        Developer previous = anyVersion
+                ? developerRepository.findByIdForUpdate(developer.getId())
+                        .orElseThrow(() -> new DeveloperNotFoundException("Developer not found"))
+                : getDeveloperById(developer.getId());
 
-        if (!isExists) {
-            throw new DeveloperNotFoundException("Developer not found");
+        if (!anyVersion && Objects.nonNull(developer.getVersion())
+                && !developer.getVersion().equals(previous.getVersion())) {
+            previous = developerRepository.findById(developer.getId()).orElse(previous);
         }
-        return developerRepository.save(developer);
+        Long expectedVersion = Objects.isNull(developer.getVersion()) || anyVersion
+                ? previous.getVersion()
+                : developer.getVersion();
+
+        emailFilter.put(developer.getEmail());
+        int updated;
+
+        try {
+            updated = anyVersion
+                    ? developerRepository.updateById(developer.getId(), developer.getFirstName(),
+                            developer.getLastName(), developer.getSpecialty(), developer.getEmail())
+                    : developerRepository.updateIfVersion(developer.getId(), expectedVersion, developer.getFirstName(),
+                            developer.getLastName(), developer.getSpecialty(), developer.getEmail());
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(e);
+        }
+        if (updated == 0) {
+            developerCache.evict(developer.getId());
+
+            if (!developerRepository.existsById(developer.getId())) {
+                throw new DeveloperNotFoundException("Developer not found");
+            }
+            throw new DeveloperVersionConflictException("Developer was modified concurrently");
+        }
+        Developer updatedDeveloper = Developer.builder()
+                .id(developer.getId())
+                .email(developer.getEmail())
+                .firstName(developer.getFirstName())
+                .lastName(developer.getLastName())
+                .specialty(developer.getSpecialty())
+                .status(previous.getStatus())
+                .version(expectedVersion + 1)
+                .build();
+        developerCache.put(updatedDeveloper);
+        specialtyCache.invalidate(previous.getSpecialty());
+        specialtyCache.invalidate(updatedDeveloper.getSpecialty());
+        searchIndex.put(updatedDeveloper);
+        changeFeed.publish(ChangeType.UPDATED, updatedDeveloper);
+        return updatedDeveloper;
+    }
+
+    private static RuntimeException translateDuplicateEmail(RuntimeException e) {
+        Throwable cause = e instanceof ConstraintViolationException ? e : e.getCause();
+
+        if (cause instanceof ConstraintViolationException violation
+                && Objects.nonNull(violation.getConstraintName())
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Developer.EMAIL_UNIQUE_INDEX)) {
+            return new DeveloperWithDuplicateEmailException("Developer with defined email is already exists");
+        }
+        return e;
     }
 
     @Override
+    @ReplicaRead(cached = true)
     public Developer getDeveloperById(Integer id) {
-        return developerRepository.findById(id).orElseThrow(() -> new DeveloperNotFoundException("Developer not found"));
+        return developerCache.getById(id).orElseGet(() -> {
+            Developer obtainedDeveloper = developerRepository.findById(id)
+                    .orElseThrow(() -> new DeveloperNotFoundException("Developer not found"));
+            developerCache.putLoaded(obtainedDeveloper);
+            return obtainedDeveloper;
+        });
+    }
+
+    @Override
+    public List<Developer> getDevelopersByIds(Collection<Integer> ids) {
+        List<Integer> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Integer, Developer> found = new HashMap<>();
+        List<Integer> notCached = new ArrayList<>();
+
+        for (Integer id : distinctIds) {
+            developerCache.getById(id).ifPresentOrElse(developer -> found.put(id, developer), () -> notCached.add(id));
+        }
+        for (int from = 0; from < notCached.size(); from += ID_LOOKUP_CHUNK) {
+            List<Integer> chunk = notCached.subList(from, Math.min(from + ID_LOOKUP_CHUNK, notCached.size()));
+
+            for (Developer developer : developerRepository.findAllById(chunk)) {
+                developerCache.putLoaded(developer);
+                found.put(developer.getId(), developer);
+            }
+        }
+        return distinctIds.stream().map(found::get).filter(Objects::nonNull).toList();
     }
 
     @Override
+    public List<DeveloperDto> searchDevelopers(String query, int limit) {
+        if (!searchIndex.isReady()) {
+            throw new SearchIndexNotReadyException("Search index is not ready yet");
+        }
+        return getDevelopersByIds(searchIndex.search(query, limit)).stream()
+                .filter(developer -> developer.getStatus() == Status.ACTIVE)
+                .map(DeveloperDto::toDeveloperDto)
+                .toList();
+    }
+
+    @Override
+    public List<DeveloperSuggestionDto> suggestDevelopers(String prefix, int limit) {
+        if (!searchIndex.isReady()) {
+            throw new SearchIndexNotReadyException("Search index is not ready yet");
+        }
+        return searchIndex.suggest(prefix, limit);
+    }
+
+    @Override
+    public Optional<Long> getDeveloperVersion(Integer id) {
+        Optional<Developer> cachedDeveloper = developerCache.getById(id);
+
+        if (cachedDeveloper.isPresent()) {
+            return Optional.ofNullable(cachedDeveloper.get().getVersion());
+        }
+        return developerRepository.findVersionById(id);
+    }
+
+    @Override
+    @ReplicaRead(cached = true)
     public Developer getDeveloperByEmail(String email) {
+        Optional<Developer> cachedDeveloper = developerCache.getByEmail(email);
+
+        if (cachedDeveloper.isPresent()) {
+            return cachedDeveloper.get();
+        }
+        if (!emailFilter.mightContain(email)) {
+            throw new DeveloperNotFoundException("Developer not found");
+        }
         Developer obtainedDeveloper = developerRepository.findByEmail(email);
 
         if (Objects.isNull(obtainedDeveloper)) {
             throw new DeveloperNotFoundException("Developer not found");
         }
+        developerCache.putLoaded(obtainedDeveloper);
         return obtainedDeveloper;
     }
 
     @Override
-    public List<Developer> getAllDevelopers() {
-        return developerRepository.findAll().stream().filter(d -> {
-            return d.getStatus().equals(Status.ACTIVE);
-        }).collect(Collectors.toList());
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public List<DeveloperDto> getAllDevelopers(Integer afterId, int limit, Set<DeveloperField> fields) {
+        if (DeveloperField.isAll(fields)) {
+            return developerRepository.findActivePageAfter(afterId, PageRequest.ofSize(limit));
+        }
+        return developerRepository.findActivePageAfter(afterId, limit, fields);
+    }
+
+    @Override
+    @ReplicaRead(cached = true)
+    @Transactional(readOnly = true)
+    public List<DeveloperDto> getAllActiveBySpeciality(String specialty, Set<DeveloperField> fields) {
+        if (DeveloperField.isAll(fields)) {
+            return developerRepository.findAllActiveBySpecialty(specialty);
+        }
+        return developerRepository.findAllActiveBySpecialty(specialty, fields);
     }
 
     @Override
-    public List<Developer> getAllActiveBySpeciality(String specialty) {
-        return developerRepository.findAllActiveBySpecialty(specialty);
+    @Transactional(readOnly = true)
+    public void streamActiveDevelopers(Set<DeveloperField> fields, Consumer<DeveloperDto> consumer) {
+        try (Stream<DeveloperDto> developers = DeveloperField.isAll(fields)
+                ? developerRepository.streamAllActive()
+                : developerRepository.streamAllActive(fields)) {
+            developers.forEach(consumer);
+        }
     }
 
     @Override
+    @Transactional
     public void softDeleteById(Integer id) {
-        Developer obtainedDeveloper = developerRepository.findById(id)
-                .orElseThrow(() -> new DeveloperNotFoundException("Developer not found"));
+        List<String> specialties = specialties(developerRepository.findIdAndSpecialtyByIds(List.of(id)));
+        int updated = developerRepository.updateStatusByIds(List.of(id), Status.DELETED);
+        developerCache.evict(id);
+        specialtyCache.invalidateAll(specialties);
+        searchIndex.removeAll(List.of(id));
+        changeFeed.publishDeleted(ChangeType.SOFT_DELETED, List.of(id));
 
-        obtainedDeveloper.setStatus(Status.DELETED);
-        developerRepository.save(obtainedDeveloper);
+        if (updated == 0) {
+            throw new DeveloperNotFoundException("Developer not found");
+        }
     }
 
     @Override
+    @Transactional
     public void hardDeleteById(Integer id) {
-        Developer obtainedDeveloper = developerRepository.findById(id)
-                .orElseThrow(() -> new DeveloperNotFoundException("Developer not found"));
-        developerRepository.deleteById(obtainedDeveloper.getId());
+        List<String> specialties = specialties(developerRepository.findIdAndSpecialtyByIds(List.of(id)));
+        int deleted = developerRepository.deleteByIds(List.of(id));
+        developerCache.evict(id);
+        emailFilter.recordRemoved(deleted);
+        specialtyCache.invalidateAll(specialties);
+        searchIndex.removeAll(List.of(id));
+        changeFeed.publishDeleted(ChangeType.HARD_DELETED, List.of(id));
+
+        if (deleted == 0) {
+            throw new DeveloperNotFoundException("Developer not found");
+        }
+    }
+
+    @Override
+    @Transactional
+    public int softDeleteByIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<DeveloperSpecialtyDto> existing = developerRepository.findIdAndSpecialtyByIds(ids);
+
+        if (existing.isEmpty()) {
+            return 0;
+        }
+        List<Integer> existingIds = existing.stream().map(DeveloperSpecialtyDto::getId).toList();
+        int updated = developerRepository.updateStatusByIds(existingIds, Status.DELETED);
+        developerCache.evictAll(existingIds);
+        specialtyCache.invalidateAll(specialties(existing));
+        searchIndex.removeAll(existingIds);
+        changeFeed.publishDeleted(ChangeType.SOFT_DELETED, existingIds);
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int hardDeleteByIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<DeveloperSpecialtyDto> existing = developerRepository.findIdAndSpecialtyByIds(ids);
+
+        if (existing.isEmpty()) {
+            return 0;
+        }
+        List<Integer> existingIds = existing.stream().map(DeveloperSpecialtyDto::getId).toList();
+        int deleted = developerRepository.deleteByIds(existingIds);
+        developerCache.evictAll(existingIds);
+        emailFilter.recordRemoved(deleted);
+        specialtyCache.invalidateAll(specialties(existing));
+        searchIndex.removeAll(existingIds);
+        changeFeed.publishDeleted(ChangeType.HARD_DELETED, existingIds);
+        return deleted;
+    }
+
+    private static List<String> specialties(List<DeveloperSpecialtyDto> developers) {
+        return developers.stream().map(DeveloperSpecialtyDto::getSpecialty).distinct().toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package ru.app.cicd.timing;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum Layer {
+    DB("db"),
+    SERVICE("service"),
+    SERIALIZATION("serialization");
+
+    private final String metricName;
+}
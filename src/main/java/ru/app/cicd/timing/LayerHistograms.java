@@ -0,0 +1,182 @@
+package ru.app.cicd.timing;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.HdrHistogram.AtomicHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.WriterReaderPhaser;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HDR-гистограммы времени одного эндпоинта по слоям controller/service/db/serialization.
+ * <p>
+ * Запрос пишет все слои за один вход в фазу {@link WriterReaderPhaser}: это несколько атомарных инкрементов
+ * без часов и без блокировок. Чтение метрик забирает накопленный интервал, переключая фазу, и считает
+ * перцентили по скользящему окну из текущего и предыдущего периода {@link #WINDOW}.
+ * Наружу публикуются {@code developer.request.layer} (количество и суммарное время) и
+ * {@code developer.request.layer.percentile} с тегом {@code phi}, как у клиентских перцентилей Micrometer.
+ * Суммарное время тоже берётся из гистограмм, поэтому его точность, как и у перцентилей, около 1%.
+ */
+public final class LayerHistograms {
+
+    private static final String CONTROLLER_LAYER = "controller";
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private static final long LOWEST_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+
+    private static final long HIGHEST_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private static final String[] LAYER_NAMES = {CONTROLLER_LAYER, Layer.SERVICE.getMetricName(),
+            Layer.DB.getMetricName(), Layer.SERIALIZATION.getMetricName()};
+
+    private final WriterReaderPhaser phaser = new WriterReaderPhaser();
+
+    private final Histogram[] previous = histograms();
+
+    private final Histogram[] recent = histograms();
+
+    private final Histogram merged = histogram();
+
+    private final long[] counts = new long[LAYER_NAMES.length];
+
+    private final double[] totalNanos = new double[LAYER_NAMES.length];
+
+    private volatile AtomicHistogram[] active = atomicHistograms();
+
+    private AtomicHistogram[] inactive = atomicHistograms();
+
+    private long windowStartedAt = System.nanoTime();
+
+    public LayerHistograms(String method, String uri, MeterRegistry meterRegistry) {
+        for (int layer = 0; layer < LAYER_NAMES.length; layer++) {
+            int index = layer;
+            FunctionTimer.builder("developer.request.layer", this, histograms -> histograms.count(index),
+                            histograms -> histograms.totalNanos(index), TimeUnit.NANOSECONDS)
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .tag("layer", LAYER_NAMES[layer])
+                    .register(meterRegistry);
+
+            for (double phi : PERCENTILES) {
+                Gauge.builder("developer.request.layer.percentile", this,
+                                histograms -> histograms.percentileSeconds(index, phi))
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .tag("layer", LAYER_NAMES[layer])
+                        .tag("phi", String.valueOf(phi))
+                        .baseUnit("seconds")
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * Записывает завершённый запрос: controller — всё, что не ушло в сервис и сериализацию,
+     * service — без вложенного времени БД.
+     */
+    public void record(RequestTimings timings) {
+        long service = timings.nanos(Layer.SERVICE);
+        long serialization = timings.nanos(Layer.SERIALIZATION);
+
+        record(Math.max(0, timings.elapsedNanos() - service - serialization),
+                timings.exclusiveNanos(Layer.SERVICE), timings.nanos(Layer.DB), serialization);
+    }
+
+    void record(long controller, long service, long db, long serialization) {
+        long phase = phaser.writerCriticalSectionEnter();
+
+        try {
+            AtomicHistogram[] histograms = active;
+            record(histograms, 0, controller);
+            record(histograms, 1, service);
+            record(histograms, 2, db);
+            record(histograms, 3, serialization);
+        } finally {
+            phaser.writerCriticalSectionExit(phase);
+        }
+    }
+
+    synchronized long count(int layer) {
+        drain();
+        return counts[layer];
+    }
+
+    synchronized double totalNanos(int layer) {
+        drain();
+        return totalNanos[layer];
+    }
+
+    synchronized double percentileSeconds(int layer, double phi) {
+        drain();
+        merged.reset();
+        merged.add(previous[layer]);
+        merged.add(recent[layer]);
+        return merged.getTotalCount() == 0 ? 0
+                : merged.getValueAtPercentile(phi * 100) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static void record(AtomicHistogram[] histograms, int layer, long nanos) {
+        histograms[layer].recordValue(Math.min(nanos, HIGHEST_NANOS));
+    }
+
+    /**
+     * Переносит записанное с прошлого чтения в окно. Вызывается под монитором объекта.
+     */
+    private void drain() {
+        phaser.readerLock();
+
+        try {
+            AtomicHistogram[] interval = active;
+            active = inactive;
+            phaser.flipPhase();
+            inactive = interval;
+        } finally {
+            phaser.readerUnlock();
+        }
+        if (System.nanoTime() - windowStartedAt > WINDOW.toNanos()) {
+            windowStartedAt = System.nanoTime();
+
+            for (int layer = 0; layer < LAYER_NAMES.length; layer++) {
+                previous[layer].reset();
+                previous[layer].add(recent[layer]);
+                recent[layer].reset();
+            }
+        }
+        for (int layer = 0; layer < LAYER_NAMES.length; layer++) {
+            counts[layer] += inactive[layer].getTotalCount();
+            totalNanos[layer] += inactive[layer].getMean() * inactive[layer].getTotalCount();
+            recent[layer].add(inactive[layer]);
+            inactive[layer].reset();
+        }
+    }
+
+    private static Histogram[] histograms() {
+        Histogram[] histograms = new Histogram[LAYER_NAMES.length];
+
+        for (int layer = 0; layer < histograms.length; layer++) {
+            histograms[layer] = histogram();
+        }
+        return histograms;
+    }
+
+    private static Histogram histogram() {
+        return new Histogram(LOWEST_NANOS, HIGHEST_NANOS, SIGNIFICANT_DIGITS);
+    }
+
+    private static AtomicHistogram[] atomicHistograms() {
+        AtomicHistogram[] histograms = new AtomicHistogram[LAYER_NAMES.length];
+
+        for (int layer = 0; layer < histograms.length; layer++) {
+            histograms[layer] = new AtomicHistogram(LOWEST_NANOS, HIGHEST_NANOS, SIGNIFICANT_DIGITS);
+        }
+        return histograms;
+    }
+}
@@ -0,0 +1,29 @@
+package ru.app.cicd.timing;
+
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.Objects;
+
+@RequiredArgsConstructor
+class LayerTimingInterceptor implements MethodInterceptor {
+
+    private final Layer layer;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RequestTimings timings = RequestTimings.current();
+
+        if (Objects.isNull(timings)) {
+            return invocation.proceed();
+        }
+        long startedAt = System.nanoTime();
+
+        try {
+            return invocation.proceed();
+        } finally {
+            timings.record(layer, System.nanoTime() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ru.app.cicd.timing;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+/**
+ * Добавляет замер времени в сервисы и репозитории. Уже созданным прокси (транзакции, Spring Data)
+ * перехватчик добавляется первым в цепочку, чтобы не плодить лишний уровень прокси.
+ */
+@Component
+public class LayerTimingPostProcessor implements BeanPostProcessor {
+
+    private final LayerTimingInterceptor dbInterceptor = new LayerTimingInterceptor(Layer.DB);
+
+    private final LayerTimingInterceptor serviceInterceptor = new LayerTimingInterceptor(Layer.SERVICE);
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        LayerTimingInterceptor interceptor = interceptorFor(bean);
+
+        if (Objects.isNull(interceptor)) {
+            return bean;
+        }
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(AopUtils.getTargetClass(bean).getClassLoader());
+    }
+
+    private LayerTimingInterceptor interceptorFor(Object bean) {
+        if (bean instanceof Repository<?, ?>) {
+            return dbInterceptor;
+        }
+        if (AnnotatedElementUtils.hasAnnotation(AopUtils.getTargetClass(bean), Service.class)) {
+            return serviceInterceptor;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,94 @@
+package ru.app.cicd.timing;
+
+import java.util.Objects;
+
+/**
+ * Время, потраченное текущим запросом в каждом слое. Хранится в {@link ThreadLocal} потока,
+ * обрабатывающего запрос, поэтому накопление не требует синхронизации.
+ * Время сервиса включает вложенные обращения к БД, {@link #exclusiveNanos(Layer)} их вычитает.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private static final Layer[] LAYERS = Layer.values();
+
+    private final long startedAt = System.nanoTime();
+
+    private final long[] nanos = new long[LAYERS.length];
+
+    private RequestTimings() {
+    }
+
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Обнуляет значение, не удаляя запись потока: {@code remove()} чистит слабую ссылку ключа
+     * и на каждом запросе стоит заметно дороже.
+     */
+    public static void clear() {
+        CURRENT.set(null);
+    }
+
+    public static void recordCurrent(Layer layer, long elapsedNanos) {
+        RequestTimings timings = CURRENT.get();
+
+        if (Objects.nonNull(timings)) {
+            timings.record(layer, elapsedNanos);
+        }
+    }
+
+    public void record(Layer layer, long elapsedNanos) {
+        nanos[layer.ordinal()] += elapsedNanos;
+    }
+
+    public long nanos(Layer layer) {
+        return nanos[layer.ordinal()];
+    }
+
+    public long exclusiveNanos(Layer layer) {
+        if (layer == Layer.SERVICE) {
+            return Math.max(0, nanos(Layer.SERVICE) - nanos(Layer.DB));
+        }
+        return nanos(layer);
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(64);
+
+        for (Layer layer : LAYERS) {
+            if (header.length() > 0) {
+                header.append(", ");
+            }
+            header.append(layer.getMetricName()).append(";dur=");
+            appendMillis(header, exclusiveNanos(layer));
+        }
+        return header.toString();
+    }
+
+    private static void appendMillis(StringBuilder header, long nanos) {
+        long micros = nanos / 1000;
+        long fraction = micros % 1000;
+        header.append(micros / 1000).append('.');
+
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        header.append(fraction);
+    }
+}
@@ -0,0 +1,51 @@
+package ru.app.cicd.timing;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Общая для конвертеров Jackson запись тела через буфер с замером времени сериализации.
+ */
+final class TimedSerialization {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private TimedSerialization() {
+    }
+
+    static void write(HttpOutputMessage outputMessage, BodyWriter writer) throws IOException {
+        RequestTimings timings = RequestTimings.current();
+
+        if (Objects.isNull(timings)) {
+            writer.write(outputMessage);
+            return;
+        }
+        long startedAt = System.nanoTime();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        writer.write(new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        timings.record(Layer.SERIALIZATION, System.nanoTime() - startedAt);
+        outputMessage.getHeaders().setContentLength(buffer.size());
+        buffer.writeTo(outputMessage.getBody());
+    }
+
+    @FunctionalInterface
+    interface BodyWriter {
+
+        void write(HttpOutputMessage outputMessage) throws IOException;
+    }
+}
@@ -0,0 +1,27 @@
+package ru.app.cicd.timing;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import ru.app.cicd.format.ResponseFormat;
+import ru.app.cicd.format.ResponseMappers;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * CBOR-конвертер с замером времени сериализации. Наследует стандартный конвертер, поэтому Spring Boot
+ * ставит его на место стандартного, после JSON: клиенты без бинарного типа в {@code Accept} получают JSON.
+ */
+@Component
+public class TimingCborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+
+    public TimingCborHttpMessageConverter(ResponseMappers responseMappers) {
+        super(responseMappers.get(ResponseFormat.CBOR));
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        TimedSerialization.write(outputMessage, message -> super.writeInternal(object, type, message));
+    }
+}
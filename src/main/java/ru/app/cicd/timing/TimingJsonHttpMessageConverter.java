@@ -0,0 +1,26 @@
+package ru.app.cicd.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON-конвертер, который внутри запроса к API сериализует ответ в буфер и замеряет время сериализации.
+ * Заголовки уходят клиенту до тела, поэтому без буфера время сериализации не попало бы в Server-Timing.
+ */
+@Component
+public class TimingJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimingJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        TimedSerialization.write(outputMessage, message -> super.writeInternal(object, type, message));
+    }
+}
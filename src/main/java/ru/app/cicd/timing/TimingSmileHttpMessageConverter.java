@@ -0,0 +1,27 @@
+package ru.app.cicd.timing;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import ru.app.cicd.format.ResponseFormat;
+import ru.app.cicd.format.ResponseMappers;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Smile-конвертер с замером времени сериализации, подменяет стандартный так же, как
+ * {@link TimingCborHttpMessageConverter}.
+ */
+@Component
+public class TimingSmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+
+    public TimingSmileHttpMessageConverter(ResponseMappers responseMappers) {
+        super(responseMappers.get(ResponseFormat.SMILE));
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        TimedSerialization.write(outputMessage, message -> super.writeInternal(object, type, message));
+    }
+}
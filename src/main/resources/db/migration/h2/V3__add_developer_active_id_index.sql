@@ -0,0 +1 @@
+CREATE INDEX ix_developers_active_id ON developers (status, id);
\ No newline at end of file
@@ -0,0 +1,17 @@
+CREATE SEQUENCE developers_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE developers
+(
+    id         INTEGER PRIMARY KEY,
+    email      VARCHAR(255),
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    specialty  VARCHAR(255),
+    status     VARCHAR(255)
+);
+
+CREATE UNIQUE INDEX ux_developers_email ON developers (email);
+
+CREATE INDEX ix_developers_active_specialty ON developers (specialty, id) WHERE status = 'ACTIVE';
+
+CREATE INDEX ix_developers_active_id ON developers (id) WHERE status = 'ACTIVE';
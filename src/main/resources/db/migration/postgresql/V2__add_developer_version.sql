@@ -0,0 +1 @@
+ALTER TABLE developers ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
\ No newline at end of file
@@ -0,0 +1,59 @@
+package ru.app.cicd.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тестируем фильтр Блума для email.
+ */
+public class BloomFilterTests {
+
+    @Test
+    @DisplayName("Test no false negatives functionality")
+    public void givenInsertedEmails_whenMightContain_thenAlwaysTrue() {
+        //given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        //when
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("dev" + i + "@mail.ru");
+        }
+        //then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("dev" + i + "@mail.ru")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Test false positive rate functionality")
+    public void givenFilledFilter_whenCheckUnknownEmails_thenFalsePositiveRateIsBounded() {
+        //given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("dev" + i + "@mail.ru");
+        }
+        //when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("unknown" + i + "@mail.ru")) {
+                falsePositives++;
+            }
+        }
+        //then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.insertions()).isBetween(9_800L, 10_000L);
+    }
+
+    @Test
+    @DisplayName("Test repeated put is not counted functionality")
+    public void givenSameEmailPutTwice_whenInsertions_thenCountedOnce() {
+        //given
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        //when
+        filter.put("dev@mail.ru");
+        filter.put("dev@mail.ru");
+        //then
+        assertThat(filter.insertions()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,123 @@
+package ru.app.cicd.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.app.cicd.entity.Developer;
+import ru.app.cicd.storage.DeveloperStorage;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тестируем кэш разработчиков.
+ */
+public class DeveloperCacheTests {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private DeveloperCache developerCache;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        developerCache = new DeveloperCache(100, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Test get cached developer by id and email functionality")
+    public void givenDeveloperPut_whenGetByIdAndEmail_thenCopyIsReturned() {
+        //given
+        Developer developer = DeveloperStorage.getDeveloperPaulPersisted();
+        developerCache.put(developer);
+        //when
+        Developer byId = developerCache.getById(developer.getId()).orElse(null);
+        Developer byEmail = developerCache.getByEmail(developer.getEmail()).orElse(null);
+        //then
+        assertThat(byId).isEqualTo(developer).isNotSameAs(developer);
+        assertThat(byEmail).isEqualTo(developer).isNotSameAs(developer);
+    }
+
+    @Test
+    @DisplayName("Test email key invalidation on email change functionality")
+    public void givenEmailChanged_whenGetByOldEmail_thenMiss() {
+        //given
+        Developer developer = DeveloperStorage.getDeveloperPaulPersisted();
+        developerCache.put(developer);
+        Developer updated = DeveloperStorage.getDeveloperPaulPersisted();
+        updated.setEmail("updated@mail.ru");
+        //when
+        developerCache.put(updated);
+        //then
+        assertThat(developerCache.getByEmail("paul@mail.ru")).isEmpty();
+        assertThat(developerCache.getByEmail("updated@mail.ru")).contains(updated);
+    }
+
+    @Test
+    @DisplayName("Test loaded developer does not overwrite newer version functionality")
+    public void givenNewerVersionCached_whenPutLoadedStale_thenNewerVersionIsKept() {
+        //given
+        Developer newer = DeveloperStorage.getDeveloperPaulPersisted();
+        newer.setVersion(2L);
+        newer.setEmail("updated@mail.ru");
+        developerCache.put(newer);
+        Developer stale = DeveloperStorage.getDeveloperPaulPersisted();
+        stale.setVersion(1L);
+        //when
+        developerCache.putLoaded(stale);
+        //then
+        assertThat(developerCache.getById(newer.getId())).contains(newer);
+        assertThat(developerCache.getByEmail("updated@mail.ru")).contains(newer);
+        assertThat(developerCache.getByEmail(stale.getEmail())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test loaded developer replaces older version functionality")
+    public void givenOlderVersionCached_whenPutLoaded_thenLoadedVersionIsCached() {
+        //given
+        Developer older = DeveloperStorage.getDeveloperPaulPersisted();
+        older.setVersion(1L);
+        developerCache.put(older);
+        Developer loaded = DeveloperStorage.getDeveloperPaulPersisted();
+        loaded.setVersion(2L);
+        //when
+        developerCache.putLoaded(loaded);
+        //then
+        assertThat(developerCache.getById(loaded.getId())).contains(loaded);
+    }
+
+    @Test
+    @DisplayName("Test evict developers functionality")
+    public void givenDevelopersPut_whenEvictAll_thenBothKeysMiss() {
+        //given
+        Developer paul = DeveloperStorage.getDeveloperPaulPersisted();
+        Developer mia = DeveloperStorage.getDeveloperMiaPersisted();
+        developerCache.put(paul);
+        developerCache.put(mia);
+        //when
+        developerCache.evictAll(List.of(paul.getId(), mia.getId()));
+        //then
+        assertThat(developerCache.getById(paul.getId())).isEmpty();
+        assertThat(developerCache.getByEmail(mia.getEmail())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test cache metrics functionality")
+    public void givenHitAndMiss_whenReadMetrics_thenCountersAreExposed() {
+        //given
+        Developer developer = DeveloperStorage.getDeveloperPaulPersisted();
+        developerCache.put(developer);
+        //when
+        developerCache.getById(developer.getId());
+        developerCache.getById(404);
+        //then
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "developersById").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "developersById").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", "developersById").functionCounter()).isNotNull();
+    }
+}
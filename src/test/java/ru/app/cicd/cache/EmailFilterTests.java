@@ -0,0 +1,94 @@
+package ru.app.cicd.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.app.cicd.repository.DeveloperRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тестируем фильтр существующих email.
+ */
+@ExtendWith(MockitoExtension.class)
+public class EmailFilterTests {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EmailFilter emailFilter;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        emailFilter = new EmailFilter(developerRepository, new TransactionTemplate(transactionManager),
+                meterRegistry, true, 1000, 0.01, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Test filter is permissive before build functionality")
+    public void givenFilterNotBuilt_whenMightContain_thenTrue() {
+        //given
+        //when
+        boolean mightContain = emailFilter.mightContain("unknown@mail.ru");
+        //then
+        assertThat(mightContain).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test filter built from stored emails functionality")
+    public void givenStoredEmails_whenRebuild_thenOnlyStoredAndPutEmailsMightBeContained() {
+        //given
+        BDDMockito.given(developerRepository.streamAllEmails()).willReturn(Stream.of("paul@mail.ru", "mia@mail.ru"));
+        //when
+        emailFilter.rebuild();
+        emailFilter.put("new@mail.ru");
+        //then
+        assertThat(emailFilter.mightContain("paul@mail.ru")).isTrue();
+        assertThat(emailFilter.mightContain("new@mail.ru")).isTrue();
+        assertThat(emailFilter.mightContain("unknown@mail.ru")).isFalse();
+        assertThat(emailFilter.sizeInBytes()).isPositive();
+        assertThat(meterRegistry.get("developer.email.filter.checks").tag("result", "negative").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("developer.email.filter.memory").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Test filter is refreshed with rows written elsewhere functionality")
+    public void givenRowInsertedByAnotherWriter_whenRefreshIntervalPasses_thenEmailMightBeContained()
+            throws InterruptedException {
+        //given
+        AtomicInteger builds = new AtomicInteger();
+        BDDMockito.given(developerRepository.streamAllEmails()).willAnswer(invocation -> builds.incrementAndGet() == 1
+                ? Stream.of("paul@mail.ru")
+                : Stream.of("paul@mail.ru", "seeded@mail.ru"));
+        EmailFilter refreshed = new EmailFilter(developerRepository, new TransactionTemplate(transactionManager),
+                meterRegistry, true, 1000, 0.01, Duration.ofMillis(50));
+        //when
+        refreshed.buildOnStartup();
+
+        for (int i = 0; i < 100 && builds.get() < 3; i++) {
+            Thread.sleep(50);
+        }
+        //then
+        assertThat(builds.get()).isGreaterThanOrEqualTo(3);
+        assertThat(List.of(refreshed.mightContain("seeded@mail.ru"), refreshed.mightContain("paul@mail.ru")))
+                .containsOnly(true);
+    }
+}
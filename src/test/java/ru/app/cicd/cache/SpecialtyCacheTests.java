@@ -0,0 +1,179 @@
+package ru.app.cicd.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.app.cicd.dto.DeveloperField;
+import ru.app.cicd.format.ResponseFormat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Тестируем кэш ответов по специальности.
+ */
+public class SpecialtyCacheTests {
+
+    private SpecialtyCache specialtyCache;
+
+    @BeforeEach
+    public void setUp() {
+        specialtyCache = new SpecialtyCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Test concurrent misses are collapsed functionality")
+    public void givenConcurrentMisses_whenGet_thenLoaderIsCalledOnce() throws Exception {
+        //given
+        int threads = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<CachedResponse>> futures = new ArrayList<>();
+        //when
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return specialtyCache.get("java", ResponseFormat.JSON, DeveloperField.ALL, key -> {
+                    loads.incrementAndGet();
+                    sleep();
+                    return key.getBytes(StandardCharsets.UTF_8);
+                });
+            }));
+        }
+        start.countDown();
+        for (Future<CachedResponse> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS).body()).isEqualTo("java".getBytes(StandardCharsets.UTF_8));
+        }
+        executor.shutdown();
+        //then
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test invalidate only touched specialties functionality")
+    public void givenTwoSpecialtiesCached_whenInvalidateOne_thenOtherStaysCached() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        specialtyCache.get("java", ResponseFormat.JSON, DeveloperField.ALL,
+                key -> new byte[]{(byte) loads.incrementAndGet()});
+        specialtyCache.get("php", ResponseFormat.JSON, DeveloperField.ALL,
+                key -> new byte[]{(byte) loads.incrementAndGet()});
+        //when
+        specialtyCache.invalidate("java");
+        specialtyCache.get("java", ResponseFormat.JSON, DeveloperField.ALL,
+                key -> new byte[]{(byte) loads.incrementAndGet()});
+        specialtyCache.get("php", ResponseFormat.JSON, DeveloperField.ALL,
+                key -> new byte[]{(byte) loads.incrementAndGet()});
+        //then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Test invalidate does not wait for running load functionality")
+    public void givenRunningLoad_whenInvalidate_thenReturnsImmediatelyAndDropsLoadedValue() throws Exception {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<CachedResponse> stale = executor.submit(() -> specialtyCache.get("java", ResponseFormat.JSON,
+                DeveloperField.ALL, key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return new byte[]{1};
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        //when
+        Future<?> invalidation = executor.submit(() -> specialtyCache.invalidate("java"));
+        invalidation.get(5, TimeUnit.SECONDS);
+        release.countDown();
+        stale.get(5, TimeUnit.SECONDS);
+        CachedResponse fresh = specialtyCache.get("java", ResponseFormat.JSON, DeveloperField.ALL,
+                key -> new byte[]{(byte) (loads.incrementAndGet())});
+        executor.shutdown();
+        //then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(fresh.body()).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Test failed load is not cached functionality")
+    public void givenFailingLoader_whenGet_thenExceptionIsThrownAndNextGetLoadsAgain() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        //when
+        assertThatThrownBy(() -> specialtyCache.get("java", ResponseFormat.JSON, DeveloperField.ALL, key -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("db is down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("db is down");
+        specialtyCache.get("java", ResponseFormat.JSON, DeveloperField.ALL,
+                key -> new byte[]{(byte) loads.incrementAndGet()});
+        //then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test formats are cached separately and invalidated together functionality")
+    public void givenSpecialtyCachedInTwoFormats_whenInvalidate_thenBothFormatsAreReloaded() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        CachedResponse json = specialtyCache.get("java", ResponseFormat.JSON, DeveloperField.ALL, key -> new byte[]{1});
+        CachedResponse cbor = specialtyCache.get("java", ResponseFormat.CBOR, DeveloperField.ALL, key -> new byte[]{2});
+        //when
+        specialtyCache.invalidate("java");
+        specialtyCache.get("java", ResponseFormat.JSON, DeveloperField.ALL,
+                key -> new byte[]{(byte) loads.incrementAndGet()});
+        specialtyCache.get("java", ResponseFormat.CBOR, DeveloperField.ALL,
+                key -> new byte[]{(byte) loads.incrementAndGet()});
+        //then
+        assertThat(json.body()).containsExactly(1);
+        assertThat(cbor.body()).containsExactly(2);
+        assertThat(cbor.eTag()).isNotEqualTo(json.eTag());
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test content based eTag functionality")
+    public void givenSameContentForDifferentSpecialties_whenGet_thenETagsAreEqual() {
+        //given
+        byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+        //when
+        CachedResponse java = specialtyCache.get("java", ResponseFormat.JSON, DeveloperField.ALL, key -> body);
+        CachedResponse php = specialtyCache.get("php", ResponseFormat.JSON, DeveloperField.ALL, key -> body);
+        CachedResponse go = specialtyCache.get("go", ResponseFormat.JSON, DeveloperField.ALL,
+                key -> "[{}]".getBytes(StandardCharsets.UTF_8));
+        //then
+        assertThat(java.eTag()).isNotBlank().isEqualTo(php.eTag());
+        assertThat(go.eTag()).isNotEqualTo(java.eTag());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package ru.app.cicd.changes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.app.cicd.dto.DeveloperChangeDto;
+import ru.app.cicd.exception.ChangeFeedOverloadedException;
+import ru.app.cicd.storage.DeveloperStorage;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Тестируем кольцевой буфер и публикацию ленты изменений.
+ */
+public class DeveloperChangeFeedTests {
+
+    private DeveloperChangeFeed changeFeed;
+
+    @BeforeEach
+    public void setUp() {
+        changeFeed = new DeveloperChangeFeed(new SimpleMeterRegistry(), 4, 2, Duration.ofMinutes(1),
+                Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        changeFeed.shutdown();
+    }
+
+    @Test
+    @DisplayName("Test publish outside transaction functionality")
+    public void givenNoTransaction_whenPublish_thenChangeIsAppendedWithSequence() {
+        //given
+        //when
+        changeFeed.publish(ChangeType.CREATED, DeveloperStorage.getDeveloperPaulPersisted());
+        changeFeed.publishDeleted(ChangeType.HARD_DELETED, List.of(7));
+        //then
+        List<DeveloperChangeDto> changes = changeFeed.readAfter(0, 10);
+        assertThat(changes).extracting(DeveloperChangeDto::getSequence).containsExactly(1L, 2L);
+        assertThat(changes.get(0).getDeveloper().getFirstName()).isEqualTo("Paul");
+        assertThat(changes.get(1).getType()).isEqualTo(ChangeType.HARD_DELETED);
+        assertThat(changes.get(1).getDeveloper()).isNull();
+    }
+
+    @Test
+    @DisplayName("Test publish inside transaction is applied after commit functionality")
+    public void givenActiveTransaction_whenPublish_thenChangeIsAppendedOnlyAfterCommit() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //when
+            changeFeed.publishDeleted(ChangeType.SOFT_DELETED, List.of(1, 2));
+            long beforeCommit = changeFeed.lastSequence();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            //then
+            assertThat(beforeCommit).isZero();
+            assertThat(changeFeed.lastSequence()).isEqualTo(2);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Test ring buffer keeps only the latest changes functionality")
+    public void givenMoreChangesThanBuffer_whenReadAfter_thenOldestRetainedAreReturned() {
+        //given
+        changeFeed.publishDeleted(ChangeType.HARD_DELETED, IntStream.rangeClosed(1, 6).boxed().toList());
+        //when
+        List<DeveloperChangeDto> fromStart = changeFeed.readAfter(0, 10);
+        List<DeveloperChangeDto> limited = changeFeed.readAfter(4, 1);
+        List<DeveloperChangeDto> upToDate = changeFeed.readAfter(6, 10);
+        //then
+        assertThat(fromStart).extracting(DeveloperChangeDto::getId).containsExactly(3, 4, 5, 6);
+        assertThat(limited).extracting(DeveloperChangeDto::getSequence).containsExactly(5L);
+        assertThat(upToDate).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test subscribers limit functionality")
+    public void givenMaxSubscribers_whenSubscribe_thenExceptionIsThrown() {
+        //given
+        changeFeed.subscribe(null);
+        changeFeed.subscribe(0L);
+        //when
+        //then
+        assertThat(changeFeed.subscriberCount()).isEqualTo(2);
+        assertThrows(ChangeFeedOverloadedException.class, () -> changeFeed.subscribe(null));
+    }
+}
@@ -0,0 +1,134 @@
+package ru.app.cicd.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import ru.app.cicd.changes.ChangeType;
+import ru.app.cicd.changes.DeveloperChangeFeed;
+import ru.app.cicd.format.ResponseMappers;
+import ru.app.cicd.storage.DeveloperStorage;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@WebMvcTest(DeveloperChangesController.class)
+public class DeveloperChangesControllerTests {
+
+    @TestConfiguration
+    static class ChangesControllerTestConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public DeveloperChangeFeed developerChangeFeed(MeterRegistry meterRegistry) {
+            return new DeveloperChangeFeed(meterRegistry, 100, 2, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        }
+
+        @Bean
+        public ResponseMappers responseMappers(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder builder) {
+            return new ResponseMappers(objectMapper, builder);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DeveloperChangeFeed changeFeed;
+
+    @Test
+    @DisplayName("Test change feed replays after Last-Event-ID and streams new changes functionality")
+    public void givenLastEventId_whenStreamChanges_thenMissedAndNewChangesAreSent() throws Exception {
+        //given
+        changeFeed.publishDeleted(ChangeType.SOFT_DELETED, List.of(10, 11));
+        long lastSeen = changeFeed.lastSequence() - 1;
+        //when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/developers/changes")
+                        .header("Last-Event-ID", String.valueOf(lastSeen)))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        changeFeed.publish(ChangeType.CREATED, DeveloperStorage.getDeveloperPaulPersisted());
+        //then
+        String content = awaitContent(mvcResult, "\"type\":\"CREATED\"");
+        assertThat(content).doesNotContain("id:" + lastSeen + "\n");
+        assertThat(content).contains("id:" + (lastSeen + 1) + "\n", "\"id\":11", "id:" + (lastSeen + 2) + "\n");
+        assertThat(mvcResult.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        mvcResult.getRequest().getAsyncContext().complete();
+    }
+
+    @Test
+    @DisplayName("Test change feed with unknown Last-Event-ID sends reset functionality")
+    public void givenUnknownLastEventId_whenStreamChanges_thenResetIsSent() throws Exception {
+        //given
+        long unknown = changeFeed.lastSequence() + 1000;
+        //when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/developers/changes")
+                        .header("Last-Event-ID", String.valueOf(unknown)))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        //then
+        String content = awaitContent(mvcResult, "event:reset");
+        assertThat(content).contains("data:" + changeFeed.lastSequence());
+        mvcResult.getRequest().getAsyncContext().complete();
+    }
+
+    @Test
+    @DisplayName("Test change feed sends reset after bulk import functionality")
+    public void givenConnectedSubscriber_whenPublishReset_thenResetIsSent() throws Exception {
+        //given
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/developers/changes"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        //when
+        changeFeed.publishReset();
+        //then
+        awaitContent(mvcResult, "event:reset\ndata:" + changeFeed.lastSequence() + "\n");
+        mvcResult.getRequest().getAsyncContext().complete();
+    }
+
+    @Test
+    @DisplayName("Test change feed with invalid Last-Event-ID functionality")
+    public void givenInvalidLastEventId_whenStreamChanges_thenErrorResponse() throws Exception {
+        //given
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers/changes")
+                .header("Last-Event-ID", "abc"));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(400)));
+    }
+
+    private static String awaitContent(MvcResult mvcResult, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String content = mvcResult.getResponse().getContentAsString();
+
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = mvcResult.getResponse().getContentAsString();
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+}
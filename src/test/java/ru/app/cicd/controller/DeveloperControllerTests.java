@@ -1,18 +1,36 @@
 package ru.app.cicd.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ru.app.cicd.cache.SpecialtyCache;
+import ru.app.cicd.changes.DeveloperChangeFeed;
 import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperField;
+import ru.app.cicd.dto.DeveloperPageDto;
+import ru.app.cicd.dto.DeveloperSuggestionDto;
 import ru.app.cicd.entity.Developer;
 import ru.app.cicd.exception.DeveloperNotFoundException;
+import ru.app.cicd.exception.DeveloperVersionConflictException;
 import ru.app.cicd.exception.DeveloperWithDuplicateEmailException;
+import ru.app.cicd.exception.SearchIndexNotReadyException;
+import ru.app.cicd.format.ResponseFormat;
+import ru.app.cicd.format.ResponseMappers;
+import ru.app.cicd.importer.DeveloperImporter;
+import ru.app.cicd.service.BatchItemResult;
 import ru.app.cicd.service.DeveloperService;
 import ru.app.cicd.storage.DeveloperStorage;
 import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.test.web.servlet.ResultActions;
@@ -20,8 +38,20 @@ import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.hamcrest.CoreMatchers;
 
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -29,15 +59,48 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 @WebMvcTest
 public class DeveloperControllerTests {
 
+    @TestConfiguration
+    static class ControllerTestConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public SpecialtyCache specialtyCache(MeterRegistry meterRegistry) {
+            return new SpecialtyCache(100, Duration.ofMinutes(1), meterRegistry);
+        }
+
+        @Bean
+        public DeveloperChangeFeed developerChangeFeed(MeterRegistry meterRegistry) {
+            return new DeveloperChangeFeed(meterRegistry, 100, 10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        }
+
+        @Bean
+        public ResponseMappers responseMappers(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder builder) {
+            return new ResponseMappers(objectMapper, builder);
+        }
+    }
+
     @MockBean
     private DeveloperService developerService;
 
+    @MockBean
+    private DeveloperImporter developerImporter;
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ResponseMappers responseMappers;
+
     @Test
     @DisplayName("Test create developer functionality")
     public void givenDeveloperDto_whenCreateDeveloper_thenSuccessResponse() throws Exception {
@@ -79,6 +142,68 @@ public class DeveloperControllerTests {
                         CoreMatchers.is("Developer with defined email is already exists")));
     }
 
+    @Test
+    @DisplayName("Test batch create developers functionality")
+    public void givenDeveloperDtos_whenCreateDevelopers_thenPerItemResultsAreReturned() throws Exception {
+        //given
+        List<DeveloperDto> dtos = List.of(DeveloperStorage.getJohnDoeDtoTransient(), DeveloperStorage.getJohnDoeDtoTransient());
+        BDDMockito.given(developerService.saveDevelopers(any())).willReturn(List.of(
+                BatchItemResult.created(0, DeveloperStorage.getJohnDoePersisted()),
+                BatchItemResult.failed(1, new DeveloperWithDuplicateEmailException("Developer with defined email is already exists"))));
+        //when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/developers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dtos)));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].index", CoreMatchers.is(0)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].developer.id", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].index", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].error.status", CoreMatchers.is(400)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].error.message",
+                        CoreMatchers.is("Developer with defined email is already exists")));
+    }
+
+    @Test
+    @DisplayName("Test batch create retried after concurrent duplicate functionality")
+    public void givenConcurrentDuplicate_whenCreateDevelopers_thenBatchIsRetriedWithPerItemResults() throws Exception {
+        //given
+        List<DeveloperDto> dtos = List.of(DeveloperStorage.getJohnDoeDtoTransient());
+        BDDMockito.given(developerService.saveDevelopers(any()))
+                .willThrow(new DeveloperWithDuplicateEmailException("Developer with defined email is already exists"))
+                .willReturn(List.of(BatchItemResult.failed(0,
+                        new DeveloperWithDuplicateEmailException("Developer with defined email is already exists"))));
+        //when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/developers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dtos)));
+        //then
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].error.status", CoreMatchers.is(400)));
+        verify(developerService, times(2)).saveDevelopers(any());
+    }
+
+    @Test
+    @DisplayName("Test batch create with persistent duplicate conflicts functionality")
+    public void givenRepeatedConcurrentDuplicates_whenCreateDevelopers_thenConflictResponse() throws Exception {
+        //given
+        List<DeveloperDto> dtos = List.of(DeveloperStorage.getJohnDoeDtoTransient());
+        BDDMockito.given(developerService.saveDevelopers(any()))
+                .willThrow(new DeveloperWithDuplicateEmailException("Developer with defined email is already exists"));
+        //when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/developers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dtos)));
+        //then
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(409)));
+        verify(developerService, times(3)).saveDevelopers(any());
+    }
+
     @Test
     @DisplayName("Test update developer functionality")
     public void givenDeveloperDto_whenUpdateDeveloper_thenSuccessResponse() throws Exception {
@@ -114,12 +239,111 @@ public class DeveloperControllerTests {
         //then
         resultActions
                 .andDo(MockMvcResultHandlers.print())
-                .andExpect(MockMvcResultMatchers.status().isBadRequest())
-                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(400)))
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(404)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message",
                         CoreMatchers.is("Developer not found"))); // тут
     }
 
+    @Test
+    @DisplayName("Test update developer with If-Match functionality")
+    public void givenIfMatch_whenUpdateDeveloper_thenVersionIsPassedAndETagIsReturned() throws Exception {
+        //given
+        DeveloperDto dto = DeveloperStorage.getJohnDoeDtoPersisted();
+        Developer entity = DeveloperStorage.getJohnDoePersisted();
+        entity.setVersion(8L);
+        BDDMockito.given(developerService.updateDeveloper(any(Developer.class))).willReturn(entity);
+        //when
+        ResultActions resultActions = mockMvc.perform(put("/api/v1/developers")
+                .header("If-Match", "\"7\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"8\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.version", CoreMatchers.is(8)));
+        verify(developerService, times(1)).updateDeveloper(argThat(developer -> developer.getVersion() == 7L));
+    }
+
+    @Test
+    @DisplayName("Test update developer with stale If-Match functionality")
+    public void givenStaleIfMatch_whenUpdateDeveloper_thenPreconditionFailedResponse() throws Exception {
+        //given
+        DeveloperDto dto = DeveloperStorage.getJohnDoeDtoPersisted();
+        BDDMockito.given(developerService.updateDeveloper(any(Developer.class)))
+                .willThrow(new DeveloperVersionConflictException("Developer was modified concurrently"));
+        //when
+        ResultActions resultActions = mockMvc.perform(put("/api/v1/developers")
+                .header("If-Match", "\"7\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(412)));
+    }
+
+    @Test
+    @DisplayName("Test update developer with weak If-Match functionality")
+    public void givenWeakIfMatch_whenUpdateDeveloper_thenPreconditionFailedWithoutUpdate() throws Exception {
+        //given
+        DeveloperDto dto = DeveloperStorage.getJohnDoeDtoPersisted();
+        //when
+        ResultActions resultActions = mockMvc.perform(put("/api/v1/developers")
+                .header("If-Match", "W/\"7\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is("If-Match requires a strong entity tag")));
+        verify(developerService, never()).updateDeveloper(any(Developer.class));
+    }
+
+    @Test
+    @DisplayName("Test update developer with If-Match any functionality")
+    public void givenIfMatchAny_whenUpdateDeveloper_thenAnyVersionIsPassed() throws Exception {
+        //given
+        DeveloperDto dto = DeveloperStorage.getJohnDoeDtoPersisted();
+        dto.setVersion(3L);
+        Developer entity = DeveloperStorage.getJohnDoePersisted();
+        entity.setVersion(8L);
+        BDDMockito.given(developerService.updateDeveloper(any(Developer.class))).willReturn(entity);
+        //when
+        ResultActions resultActions = mockMvc.perform(put("/api/v1/developers")
+                .header("If-Match", "*")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"8\""));
+        verify(developerService, times(1))
+                .updateDeveloper(argThat(developer -> developer.getVersion() == Developer.ANY_VERSION));
+    }
+
+    @Test
+    @DisplayName("Test update developer with stale body version functionality")
+    public void givenStaleBodyVersion_whenUpdateDeveloper_thenConflictResponse() throws Exception {
+        //given
+        DeveloperDto dto = DeveloperStorage.getJohnDoeDtoPersisted();
+        dto.setVersion(7L);
+        BDDMockito.given(developerService.updateDeveloper(any(Developer.class)))
+                .willThrow(new DeveloperVersionConflictException("Developer was modified concurrently"));
+        //when
+        ResultActions resultActions = mockMvc.perform(put("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(409)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is("Developer was modified concurrently")));
+    }
+
     @Test
     @DisplayName("Test get developer by id functionality")
     public void givenId_whenGetById_thenSuccessResponse() throws Exception {
@@ -137,6 +361,62 @@ public class DeveloperControllerTests {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is("ACTIVE")));
     }
 
+    @Test
+    @DisplayName("Test get developer by id returns server timing functionality")
+    public void givenId_whenGetById_thenServerTimingHeaderAndLayerTimersAreRecorded() throws Exception {
+        //given
+        BDDMockito.given(developerService.getDeveloperById(anyInt())).willReturn(DeveloperStorage.getJohnDoePersisted());
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers/1").contentType(MediaType.APPLICATION_JSON));
+        //then
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Server-Timing", CoreMatchers.allOf(
+                        CoreMatchers.containsString("db;dur="),
+                        CoreMatchers.containsString("service;dur="),
+                        CoreMatchers.containsString("serialization;dur="))));
+        assertThat(meterRegistry.get("developer.request.layer")
+                .tag("uri", "/api/v1/developers/{id}")
+                .tag("layer", "serialization")
+                .functionTimer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test get developer by id with matching If-None-Match functionality")
+    public void givenMatchingIfNoneMatch_whenGetById_thenNotModifiedWithoutLoadingDeveloper() throws Exception {
+        //given
+        BDDMockito.given(developerService.getDeveloperVersion(1)).willReturn(Optional.of(3L));
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+        verify(developerService, never()).getDeveloperById(anyInt());
+    }
+
+    @Test
+    @DisplayName("Test get developer by id with stale If-None-Match functionality")
+    public void givenStaleIfNoneMatch_whenGetById_thenDeveloperIsReturned() throws Exception {
+        //given
+        Developer johnDoe = DeveloperStorage.getJohnDoePersisted();
+        johnDoe.setVersion(4L);
+        BDDMockito.given(developerService.getDeveloperVersion(1)).willReturn(Optional.of(4L));
+        BDDMockito.given(developerService.getDeveloperById(1)).willReturn(johnDoe);
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.firstName", CoreMatchers.is("John")));
+    }
+
     @Test
     @DisplayName("Test get developer by incorrect id functionality")
     public void givenIncorrectId_whenGetById_thenErrorResponse() throws Exception {
@@ -154,6 +434,391 @@ public class DeveloperControllerTests {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is("Developer not found"))); // тут
     }
 
+    @Test
+    @DisplayName("Test get developers page functionality")
+    public void givenFullPage_whenGetAll_thenNextCursorIsReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllDevelopers(anyInt(), anyInt(), any()))
+                .willReturn(List.of(DeveloperStorage.getJohnDoeDtoPersisted()));
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers?limit=1")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        verify(developerService, times(1)).getAllDevelopers(0, 1, DeveloperField.ALL);
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].firstName", CoreMatchers.is("John")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor",
+                        CoreMatchers.is(DeveloperPageDto.encodeCursor(1))));
+    }
+
+    @Test
+    @DisplayName("Test get developers page with requested fields functionality")
+    public void givenFieldsWithoutId_whenGetAll_thenIdIsSelectedForCursorButNotReturned() throws Exception {
+        //given
+        DeveloperDto developer = DeveloperDto.builder().id(7).email("john@mail.com").build();
+        BDDMockito.given(developerService.getAllDevelopers(anyInt(), anyInt(), any())).willReturn(List.of(developer));
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers?limit=1&fields=email"));
+        //then
+        verify(developerService, times(1)).getAllDevelopers(0, 1,
+                EnumSet.of(DeveloperField.ID, DeveloperField.EMAIL));
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].email", CoreMatchers.is("john@mail.com")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor",
+                        CoreMatchers.is(DeveloperPageDto.encodeCursor(7))));
+    }
+
+    @Test
+    @DisplayName("Test get developers page with unknown field functionality")
+    public void givenUnknownField_whenGetAll_thenErrorResponse() throws Exception {
+        //given
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers?fields=id,salary"));
+        //then
+        verify(developerService, never()).getAllDevelopers(any(), anyInt(), any());
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is("Unknown field salary")));
+    }
+
+    @Test
+    @DisplayName("Test get developers page as Smile functionality")
+    public void givenSmileAccept_whenGetAll_thenPageIsEncodedAsSmile() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllDevelopers(anyInt(), anyInt(), any()))
+                .willReturn(List.of(DeveloperStorage.getJohnDoeDtoPersisted()));
+        //when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/developers?limit=1")
+                        .accept(ResponseFormat.SMILE.getMediaType()))
+                .andDo(MockMvcResultHandlers.print())
+                .andReturn();
+        //then
+        assertThat(mvcResult.getResponse().getStatus()).isEqualTo(200);
+        assertThat(mvcResult.getResponse().getContentType()).isEqualTo(ResponseFormat.APPLICATION_SMILE_VALUE);
+        DeveloperPageDto page = responseMappers.get(ResponseFormat.SMILE)
+                .readValue(mvcResult.getResponse().getContentAsByteArray(), DeveloperPageDto.class);
+        assertThat(page.getItems()).extracting(DeveloperDto::getFirstName).containsExactly("John");
+        assertThat(page.getNextCursor()).isEqualTo(DeveloperPageDto.encodeCursor(1));
+    }
+
+    @Test
+    @DisplayName("Test get developers page with any accept is JSON functionality")
+    public void givenWildcardAccept_whenGetAll_thenPageIsJson() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllDevelopers(anyInt(), anyInt(), any()))
+                .willReturn(List.of(DeveloperStorage.getJohnDoeDtoPersisted()));
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers?limit=1")
+                .accept(MediaType.ALL));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].firstName", CoreMatchers.is("John")));
+    }
+
+    @Test
+    @DisplayName("Test get developers page after cursor functionality")
+    public void givenCursor_whenGetAll_thenPageAfterCursorIsRequested() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllDevelopers(anyInt(), anyInt(), any())).willReturn(List.of());
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers")
+                .param("after", DeveloperPageDto.encodeCursor(42))
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        verify(developerService, times(1)).getAllDevelopers(42, 50, DeveloperField.ALL);
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items").isEmpty())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Test get developers page with invalid cursor functionality")
+    public void givenInvalidCursor_whenGetAll_thenErrorResponse() throws Exception {
+        //given
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers?after=garbage")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        verify(developerService, never()).getAllDevelopers(anyInt(), anyInt(), any());
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is("Invalid cursor")));
+    }
+
+    @Test
+    @DisplayName("Test get developers by ids functionality")
+    public void givenIds_whenGetByIds_thenFoundAndMissingAreReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.getDevelopersByIds(List.of(1, 3, 7)))
+                .willReturn(List.of(DeveloperStorage.getJohnDoePersisted(), DeveloperStorage.getDeveloperMiaPersisted()));
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers?ids=1,3,7"));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].firstName", CoreMatchers.is("John")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].firstName", CoreMatchers.is("Mia")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.missing", CoreMatchers.is(List.of(7))));
+        verify(developerService, never()).getAllDevelopers(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Test lookup developers by ids in body functionality")
+    public void givenIdsInBody_whenLookup_thenFoundAndMissingAreReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.getDevelopersByIds(List.of(3, 4)))
+                .willReturn(List.of(DeveloperStorage.getDeveloperMiaPersisted()));
+        //when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/developers/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[3, 4]"));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", CoreMatchers.is(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.missing", CoreMatchers.is(List.of(4))));
+    }
+
+    @Test
+    @DisplayName("Test search developers functionality")
+    public void givenQuery_whenSearch_thenMatchingDevelopersAreReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.searchDevelopers("mia", 100))
+                .willReturn(List.of(DeveloperDto.toDeveloperDto(DeveloperStorage.getDeveloperMiaPersisted())));
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers/search")
+                .param("q", "mia")
+                .param("limit", "1000"));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].firstName", CoreMatchers.is("Mia")));
+    }
+
+    @Test
+    @DisplayName("Test search developers with short query functionality")
+    public void givenShortQuery_whenSearch_thenErrorResponse() throws Exception {
+        //given
+        BDDMockito.given(developerService.searchDevelopers("mi", 20))
+                .willThrow(new IllegalArgumentException("Query must be at least 3 characters"));
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers/search").param("q", "mi"));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(400)));
+    }
+
+    @Test
+    @DisplayName("Test search developers before index is built functionality")
+    public void givenIndexNotReady_whenSearch_thenServiceUnavailable() throws Exception {
+        //given
+        BDDMockito.given(developerService.searchDevelopers("mia", 20))
+                .willThrow(new SearchIndexNotReadyException("Search index is not ready yet"));
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers/search").param("q", "mia"));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(503)));
+    }
+
+    @Test
+    @DisplayName("Test suggest developers functionality")
+    public void givenPrefix_whenSuggest_thenIdsAndLabelsAreReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.suggestDevelopers("jo", 50))
+                .willReturn(List.of(DeveloperSuggestionDto.builder().id(1).label("John Doe").build()));
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers/suggest")
+                .param("prefix", "jo")
+                .param("limit", "500"));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].label", CoreMatchers.is("John Doe")));
+    }
+
+    @Test
+    @DisplayName("Test suggest developers before index is built functionality")
+    public void givenIndexNotReady_whenSuggest_thenServiceUnavailable() throws Exception {
+        //given
+        BDDMockito.given(developerService.suggestDevelopers("jo", 10))
+                .willThrow(new SearchIndexNotReadyException("Search index is not ready yet"));
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers/suggest").param("prefix", "jo"));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(503)));
+    }
+
+    @Test
+    @DisplayName("Test lookup developers with too many ids functionality")
+    public void givenTooManyIds_whenLookup_thenErrorResponse() throws Exception {
+        //given
+        List<Integer> ids = IntStream.rangeClosed(1, 5001).boxed().toList();
+        //when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/developers/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(400)));
+        verify(developerService, never()).getDevelopersByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Test bulk delete with too many ids functionality")
+    public void givenTooManyIds_whenDeleteByIds_thenErrorResponse() throws Exception {
+        //given
+        String[] ids = IntStream.rangeClosed(1, 5001).mapToObj(String::valueOf).toArray(String[]::new);
+        //when
+        ResultActions resultActions = mockMvc.perform(delete("/api/v1/developers").param("ids", ids));
+        //then
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is("Too many ids, at most 5000 per request")));
+        verify(developerService, never()).softDeleteByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Test export developers as ndjson functionality")
+    public void givenActiveDevelopers_whenExport_thenNdjsonLinesAreStreamed() throws Exception {
+        //given
+        BDDMockito.willAnswer(invocation -> {
+            Consumer<DeveloperDto> consumer = invocation.getArgument(1);
+            consumer.accept(DeveloperStorage.getJohnDoeDtoPersisted());
+            consumer.accept(DeveloperDto.toDeveloperDto(DeveloperStorage.getDeveloperPaulPersisted()));
+            return null;
+        }).given(developerService).streamActiveDevelopers(any(), any());
+        //when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/developers/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON));
+        String[] lines = mvcResult.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], DeveloperDto.class).getFirstName()).isEqualTo("John");
+        assertThat(objectMapper.readValue(lines[1], DeveloperDto.class).getFirstName()).isEqualTo("Paul");
+    }
+
+    @Test
+    @DisplayName("Test get developers by specialty is cached functionality")
+    public void givenSpecialty_whenGetBySpecialtyTwice_thenServiceIsCalledOnce() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllActiveBySpeciality("Kotlin", DeveloperField.ALL))
+                .willReturn(List.of(DeveloperStorage.getJohnDoeDtoPersisted()));
+        //when
+        mockMvc.perform(get("/api/v1/developers/specialty/Kotlin"));
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers/specialty/Kotlin")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        verify(developerService, times(1)).getAllActiveBySpeciality("Kotlin", DeveloperField.ALL);
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].firstName", CoreMatchers.is("John")));
+    }
+
+    @Test
+    @DisplayName("Test get developers by specialty with requested fields functionality")
+    public void givenFields_whenGetBySpecialty_thenNarrowedListIsCachedSeparately() throws Exception {
+        //given
+        Set<DeveloperField> fields = EnumSet.of(DeveloperField.ID, DeveloperField.EMAIL);
+        BDDMockito.given(developerService.getAllActiveBySpeciality("Go", DeveloperField.ALL))
+                .willReturn(List.of(DeveloperStorage.getJohnDoeDtoPersisted()));
+        BDDMockito.given(developerService.getAllActiveBySpeciality("Go", fields))
+                .willReturn(List.of(DeveloperDto.builder().id(1).email("john@mail.com").build()));
+        //when
+        String full = mockMvc.perform(get("/api/v1/developers/specialty/Go"))
+                .andReturn().getResponse().getContentAsString();
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers/specialty/Go?fields=email,id"));
+        //then
+        assertThat(full).contains("John");
+        verify(developerService, times(1)).getAllActiveBySpeciality("Go", fields);
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].email", CoreMatchers.is("john@mail.com")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].firstName").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Test get developers by specialty as CBOR functionality")
+    public void givenCborAccept_whenGetBySpecialty_thenCborIsCachedSeparately() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllActiveBySpeciality("Rust", DeveloperField.ALL))
+                .willReturn(List.of(DeveloperStorage.getJohnDoeDtoPersisted()));
+        String jsonETag = mockMvc.perform(get("/api/v1/developers/specialty/Rust"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        //when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/developers/specialty/Rust")
+                        .header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor"))
+                .andDo(MockMvcResultHandlers.print())
+                .andReturn();
+        //then
+        assertThat(mvcResult.getResponse().getStatus()).isEqualTo(200);
+        assertThat(mvcResult.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+        assertThat(mvcResult.getResponse().getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT);
+        assertThat(mvcResult.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(jsonETag);
+        DeveloperDto[] developers = responseMappers.get(ResponseFormat.CBOR)
+                .readValue(mvcResult.getResponse().getContentAsByteArray(), DeveloperDto[].class);
+        assertThat(developers).extracting(DeveloperDto::getEmail).containsExactly("john.doe@mail.com");
+        verify(developerService, times(2)).getAllActiveBySpeciality("Rust", DeveloperField.ALL);
+    }
+
+    @Test
+    @DisplayName("Test get developers by specialty with matching If-None-Match functionality")
+    public void givenSpecialtyETag_whenGetBySpecialtyWithIfNoneMatch_thenNotModified() throws Exception {
+        //given
+        BDDMockito.given(developerService.getAllActiveBySpeciality("Scala", DeveloperField.ALL))
+                .willReturn(List.of(DeveloperStorage.getJohnDoeDtoPersisted()));
+        String eTag = mockMvc.perform(get("/api/v1/developers/specialty/Scala"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers/specialty/Scala")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+        //then
+        assertThat(eTag).isNotBlank();
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
     @Test
     @DisplayName("Test soft delete by id functionality")
     public void givenId_whenSoftDelete_thenSuccessResponse() throws Exception {
@@ -219,4 +884,39 @@ public class DeveloperControllerTests {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(400)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is("Developer not found")));
     }
+
+    @Test
+    @DisplayName("Test bulk soft delete by ids functionality")
+    public void givenIds_whenBulkSoftDelete_thenDeletedCountIsReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.softDeleteByIds(anyCollection())).willReturn(2);
+        //when
+        ResultActions resultActions = mockMvc.perform(delete("/api/v1/developers?ids=1,2,3")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        verify(developerService, times(1)).softDeleteByIds(Set.of(1, 2, 3));
+        verify(developerService, never()).hardDeleteByIds(anyCollection());
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.requested", CoreMatchers.is(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deleted", CoreMatchers.is(2)));
+    }
+
+    @Test
+    @DisplayName("Test bulk hard delete by ids functionality")
+    public void givenIds_whenBulkHardDelete_thenDeletedCountIsReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.hardDeleteByIds(anyCollection())).willReturn(1);
+        //when
+        ResultActions resultActions = mockMvc.perform(delete("/api/v1/developers?ids=1,2&isHard=true")
+                .contentType(MediaType.APPLICATION_JSON));
+        //then
+        verify(developerService, times(1)).hardDeleteByIds(Set.of(1, 2));
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.requested", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deleted", CoreMatchers.is(1)));
+    }
 }
@@ -0,0 +1,125 @@
+package ru.app.cicd.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import ru.app.cicd.dto.DeveloperImportResultDto;
+import ru.app.cicd.format.ResponseMappers;
+import ru.app.cicd.importer.DeveloperImporter;
+import ru.app.cicd.importer.ImportFormat;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@WebMvcTest(DeveloperImportController.class)
+public class DeveloperImportControllerTests {
+
+    @TestConfiguration
+    static class ImportControllerTestConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public ResponseMappers responseMappers(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder builder) {
+            return new ResponseMappers(objectMapper, builder);
+        }
+    }
+
+    @MockBean
+    private DeveloperImporter developerImporter;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Test import CSV functionality")
+    public void givenCsvBody_whenImportDevelopers_thenResultIsReturned() throws Exception {
+        //given
+        BDDMockito.given(developerImporter.importFrom(any(), eq(ImportFormat.CSV), isNull(), any()))
+                .willReturn(DeveloperImportResultDto.builder().records(3).imported(2).duplicates(1).offset(120).build());
+        //when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/developers/import")
+                .contentType("text/csv")
+                .content("firstName,lastName,specialty,email\nJohn,Doe,java,john@mail.ru\n"));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.records", CoreMatchers.is(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.duplicates", CoreMatchers.is(1)));
+    }
+
+    @Test
+    @DisplayName("Test import NDJSON functionality")
+    public void givenNdjsonBody_whenImportDevelopers_thenNdjsonFormatIsUsed() throws Exception {
+        //given
+        BDDMockito.given(developerImporter.importFrom(any(), eq(ImportFormat.NDJSON), isNull(), any()))
+                .willReturn(DeveloperImportResultDto.builder().records(1).imported(1).build());
+        //when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/developers/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"firstName\":\"John\",\"lastName\":\"Doe\",\"specialty\":\"java\",\"email\":\"john@mail.ru\"}\n"));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported", CoreMatchers.is(1)));
+    }
+
+    @Test
+    @DisplayName("Test import with invalid header functionality")
+    public void givenCsvWithoutRequiredColumn_whenImportDevelopers_thenErrorResponse() throws Exception {
+        //given
+        BDDMockito.given(developerImporter.importFrom(any(), any(), any(), any()))
+                .willThrow(new IllegalArgumentException("CSV header is missing columns [email]"));
+        //when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/developers/import")
+                .contentType("text/csv")
+                .content("firstName,lastName,specialty\n"));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(400)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message",
+                        CoreMatchers.is("CSV header is missing columns [email]")));
+    }
+
+    @Test
+    @DisplayName("Test import with unsupported content type functionality")
+    public void givenJsonBody_whenImportDevelopers_thenUnsupportedMediaType() throws Exception {
+        //given
+        //when
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/developers/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isUnsupportedMediaType());
+        verify(developerImporter, never()).importFrom(any(), any(), any(), any());
+    }
+}
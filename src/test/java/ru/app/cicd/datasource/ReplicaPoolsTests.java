@@ -0,0 +1,85 @@
+package ru.app.cicd.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Тестируем выбор реплики.
+ */
+public class ReplicaPoolsTests {
+
+    private final List<ReplicaPools> created = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        created.forEach(ReplicaPools::close);
+    }
+
+    @Test
+    @DisplayName("Test round robin selection functionality")
+    public void givenTwoReplicas_whenRoundRobin_thenReplicasAlternate() {
+        //given
+        ReplicaPools pools = pools(ReplicaPools.Selection.ROUND_ROBIN);
+        HikariDataSource first = pools.getReplicas().get(0);
+        HikariDataSource second = pools.getReplicas().get(1);
+        //when
+        //then
+        assertThat(List.of(pools.replica(), pools.replica(), pools.replica(), pools.replica()))
+                .containsExactly(first, second, first, second);
+    }
+
+    @Test
+    @DisplayName("Test least connections selection functionality")
+    public void givenBusyReplica_whenLeastConnections_thenIdleReplicaIsSelected() throws Exception {
+        //given
+        ReplicaPools pools = pools(ReplicaPools.Selection.LEAST_CONNECTIONS);
+        HikariDataSource busy = pools.getReplicas().get(0);
+        HikariDataSource idle = pools.getReplicas().get(1);
+        idle.getConnection().close();
+        //when
+        List<HikariDataSource> selected;
+        try (Connection ignored = busy.getConnection()) {
+            selected = List.of(pools.replica(), pools.replica(), pools.replica());
+        }
+        //then
+        assertThat(selected).containsOnly(idle);
+        assertThat(List.of(pools.replica(), pools.replica())).containsExactlyInAnyOrder(busy, idle);
+    }
+
+    @Test
+    @DisplayName("Test pools without replicas functionality")
+    public void givenNoReplicas_whenCreatePools_thenExceptionIsThrown() {
+        //given
+        HikariDataSource primary = pool("primary");
+        //when
+        //then
+        assertThatThrownBy(() -> new ReplicaPools(primary, List.of(), ReplicaPools.Selection.ROUND_ROBIN))
+                .isInstanceOf(IllegalArgumentException.class);
+        primary.close();
+    }
+
+    private ReplicaPools pools(ReplicaPools.Selection selection) {
+        ReplicaPools pools = new ReplicaPools(pool("primary"), List.of(pool("replica0"), pool("replica1")),
+                selection);
+        created.add(pools);
+        return pools;
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-pools;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
@@ -0,0 +1,157 @@
+package ru.app.cicd.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тестируем выбор primary или реплики для транзакций за {@link LazyConnectionDataSourceProxy}.
+ */
+public class ReplicaRoutingDataSourceTests {
+
+    private static final ReplicaRead UNCACHED = AnnotationUtils.synthesizeAnnotation(ReplicaRead.class);
+
+    private static final ReplicaRead CACHED = AnnotationUtils.synthesizeAnnotation(Map.of("cached", true),
+            ReplicaRead.class, null);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ReplicaPools pools;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate readOnly;
+
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    public void setUp() {
+        route(pool("replica", "jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1"));
+        name(pools.getPrimary(), "primary");
+        name(pools.getReplicas().get(0), "replica");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReadRoute.unpin();
+        pools.close();
+    }
+
+    @Test
+    @DisplayName("Test replica read in read-only transaction functionality")
+    public void givenReplicaReadInReadOnlyTransaction_whenQuery_thenReplicaIsUsed() {
+        //given
+        //when
+        String node = readAs(UNCACHED, readOnly);
+        //then
+        assertThat(node).isEqualTo("replica");
+        assertThat(meterRegistry.get("developer.datasource.connections").tag("target", "replica").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test other reads use primary functionality")
+    public void givenNoReplicaReadOrWritableTransaction_whenQuery_thenPrimaryIsUsed() {
+        //given
+        //when
+        String plainReadOnly = readAs(null, readOnly);
+        String replicaReadInWrite = readAs(UNCACHED, readWrite);
+        String withoutTransaction = jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+        //then
+        assertThat(List.of(plainReadOnly, replicaReadInWrite, withoutTransaction)).containsOnly("primary");
+    }
+
+    @Test
+    @DisplayName("Test pinned request reads primary functionality")
+    public void givenPinnedRequest_whenReplicaRead_thenPrimaryIsUsed() {
+        //given
+        ReadRoute.pin();
+        //when
+        String node = readAs(UNCACHED, readOnly);
+        //then
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Test cached read after write uses primary functionality")
+    public void givenRecentWrite_whenCachedReplicaRead_thenPrimaryIsUsedUntilLagPasses() {
+        //given
+        String cachedBeforeWrite = readAs(CACHED, readOnly);
+        //when
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+        String cachedAfterWrite = readAs(CACHED, readOnly);
+        String uncachedAfterWrite = readAs(UNCACHED, readOnly);
+        //then
+        assertThat(cachedBeforeWrite).isEqualTo("replica");
+        assertThat(cachedAfterWrite).isEqualTo("primary");
+        assertThat(uncachedAfterWrite).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Test unavailable replica falls back to primary functionality")
+    public void givenUnavailableReplica_whenReplicaRead_thenPrimaryIsUsed() {
+        //given
+        pools.close();
+        route(pool("missing", "jdbc:h2:mem:missing-routing;IFEXISTS=TRUE"));
+        //when
+        String node = readAs(UNCACHED, readOnly);
+        //then
+        assertThat(node).isEqualTo("primary");
+        assertThat(meterRegistry.get("developer.datasource.replica.failures").counter().count()).isEqualTo(1);
+    }
+
+    private String readAs(ReplicaRead read, TransactionTemplate transactionTemplate) {
+        ReplicaRead previous = ReadRoute.enter(read);
+
+        try {
+            return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node",
+                    String.class));
+        } finally {
+            ReadRoute.exit(previous);
+        }
+    }
+
+    private void route(HikariDataSource replica) {
+        meterRegistry = new SimpleMeterRegistry();
+        pools = new ReplicaPools(pool("primary", "jdbc:h2:mem:primary-routing;DB_CLOSE_DELAY=-1"), List.of(replica),
+                ReplicaPools.Selection.ROUND_ROBIN);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(pools, Duration.ofHours(1), meterRegistry));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    private static void name(HikariDataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+    }
+
+    private static HikariDataSource pool(String name, String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername("sa");
+        dataSource.setPoolName(name);
+        dataSource.setConnectionTimeout(250);
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
@@ -0,0 +1,78 @@
+package ru.app.cicd.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.app.cicd.entity.Status;
+import ru.app.cicd.storage.DeveloperStorage;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Тестируем разбор и применение параметра {@code fields}.
+ */
+public class DeveloperFieldTests {
+
+    @Test
+    @DisplayName("Test parse fields functionality")
+    public void givenFieldNames_whenParse_thenFieldsAreReturned() {
+        //given
+        //when
+        Set<DeveloperField> fields = DeveloperField.parse(" email, id,,email ");
+        //then
+        assertThat(fields).containsExactly(DeveloperField.ID, DeveloperField.EMAIL);
+        assertThat(DeveloperField.parse(null)).isSameAs(DeveloperField.ALL);
+        assertThat(DeveloperField.parse(" , ")).isSameAs(DeveloperField.ALL);
+        assertThat(DeveloperField.parse("id,firstName,lastName,specialty,email,status,version"))
+                .isSameAs(DeveloperField.ALL);
+    }
+
+    @Test
+    @DisplayName("Test parse unknown field functionality")
+    public void givenUnknownFieldName_whenParse_thenExceptionIsThrown() {
+        //given
+        //when
+        //then
+        assertThatThrownBy(() -> DeveloperField.parse("id,salary"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown field salary");
+    }
+
+    @Test
+    @DisplayName("Test project dto functionality")
+    public void givenDtoAndFields_whenProject_thenOnlyRequestedFieldsAreCopied() {
+        //given
+        DeveloperDto dto = DeveloperStorage.getJohnDoeDtoPersisted();
+        //when
+        DeveloperDto projected = DeveloperField.project(dto, EnumSet.of(DeveloperField.ID, DeveloperField.STATUS));
+        //then
+        assertThat(projected).isEqualTo(DeveloperDto.builder().id(dto.getId()).status(dto.getStatus()).build());
+        assertThat(DeveloperField.project(dto, DeveloperField.ALL)).isSameAs(dto);
+    }
+
+    @Test
+    @DisplayName("Test dto from row functionality")
+    public void givenRowInFieldsOrder_whenFromRow_thenDtoIsFilled() {
+        //given
+        Set<DeveloperField> fields = DeveloperField.parse("status,email,id");
+        //when
+        DeveloperDto dto = DeveloperField.fromRow(new Object[]{1, "john@mail.com", Status.ACTIVE}, fields);
+        //then
+        assertThat(dto).isEqualTo(DeveloperDto.builder().id(1).email("john@mail.com").status(Status.ACTIVE).build());
+    }
+
+    @Test
+    @DisplayName("Test with required field functionality")
+    public void givenFieldsWithoutRequired_whenWith_thenRequiredIsAdded() {
+        //given
+        Set<DeveloperField> fields = DeveloperField.parse("email");
+        //when
+        //then
+        assertThat(DeveloperField.with(fields, DeveloperField.ID))
+                .containsExactly(DeveloperField.ID, DeveloperField.EMAIL);
+        assertThat(DeveloperField.with(DeveloperField.ALL, DeveloperField.ID)).isSameAs(DeveloperField.ALL);
+    }
+}
@@ -0,0 +1,99 @@
+package ru.app.cicd.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тестируем ограничение числа одновременных запросов к API.
+ */
+public class AdmissionControlFilterTests {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AdmissionControlFilter admissionControlFilter;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        admissionControlFilter = new AdmissionControlFilter(1, Duration.ofMillis(50), new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Test request passes when permit is available functionality")
+    public void givenFreePermit_whenFilter_thenRequestIsPassedToChain() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/developers");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        //when
+        admissionControlFilter.doFilter(request, response, chain);
+        //then
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("developer.admission.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test request is rejected when all permits are busy functionality")
+    public void givenBusyPermit_whenFilter_thenServiceUnavailableIsReturned() throws Exception {
+        //given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> holder = executor.submit(() -> {
+            admissionControlFilter.doFilter(new MockHttpServletRequest("GET", "/api/v1/developers"),
+                    new MockHttpServletResponse(), (req, res) -> {
+                        entered.countDown();
+                        awaitQuietly(release);
+                    });
+            return null;
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        //when
+        admissionControlFilter.doFilter(new MockHttpServletRequest("GET", "/api/v1/developers"), response, chain);
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        //then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getContentAsString()).contains("Server is busy, try again later");
+        assertThat(meterRegistry.get("developer.admission.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test non api requests are not limited functionality")
+    public void givenActuatorRequest_whenShouldNotFilter_thenTrueIsReturned() {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        //when
+        boolean skipped = admissionControlFilter.shouldNotFilter(request);
+        //then
+        assertThat(skipped).isTrue();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
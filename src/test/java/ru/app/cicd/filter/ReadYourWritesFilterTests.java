@@ -0,0 +1,76 @@
+package ru.app.cicd.filter;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.app.cicd.datasource.ReadRoute;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тестируем привязку к primary после записи клиента.
+ */
+public class ReadYourWritesFilterTests {
+
+    private final ReadYourWritesFilter readYourWritesFilter = new ReadYourWritesFilter(Duration.ofSeconds(2));
+
+    @Test
+    @DisplayName("Test write request is pinned and sets cookie functionality")
+    public void givenPostRequest_whenFilter_thenRequestIsPinnedAndCookieIsSet() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/developers");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean pinned = new AtomicBoolean();
+        long before = System.currentTimeMillis();
+        //when
+        readYourWritesFilter.doFilter(request, response, (req, res) -> pinned.set(ReadRoute.isPinned()));
+        //then
+        assertThat(pinned).isTrue();
+        assertThat(ReadRoute.isPinned()).isFalse();
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.PRIMARY_UNTIL_COOKIE);
+        assertThat(cookie).isNotNull();
+        assertThat(Long.parseLong(cookie.getValue())).isBetween(before + 2000, System.currentTimeMillis() + 2000);
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).contains("Path=/api", "Max-Age=3", "HttpOnly");
+    }
+
+    @Test
+    @DisplayName("Test read with fresh cookie is pinned functionality")
+    public void givenGetWithFreshCookie_whenFilter_thenRequestIsPinned() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/developers/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.PRIMARY_UNTIL_COOKIE,
+                String.valueOf(System.currentTimeMillis() + 60_000)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean pinned = new AtomicBoolean();
+        //when
+        readYourWritesFilter.doFilter(request, response, (req, res) -> pinned.set(ReadRoute.isPinned()));
+        //then
+        assertThat(pinned).isTrue();
+        assertThat(response.getCookie(ReadYourWritesFilter.PRIMARY_UNTIL_COOKIE)).isNull();
+    }
+
+    @Test
+    @DisplayName("Test read with expired or invalid cookie is not pinned functionality")
+    public void givenGetWithExpiredOrInvalidCookie_whenFilter_thenRequestIsNotPinned() throws Exception {
+        //given
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/api/v1/developers/1");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.PRIMARY_UNTIL_COOKIE,
+                String.valueOf(System.currentTimeMillis() - 1)));
+        MockHttpServletRequest invalid = new MockHttpServletRequest("GET", "/api/v1/developers/1");
+        invalid.setCookies(new Cookie(ReadYourWritesFilter.PRIMARY_UNTIL_COOKIE, "soon"));
+        AtomicBoolean pinned = new AtomicBoolean();
+        //when
+        readYourWritesFilter.doFilter(expired, new MockHttpServletResponse(),
+                (req, res) -> pinned.compareAndSet(false, ReadRoute.isPinned()));
+        readYourWritesFilter.doFilter(invalid, new MockHttpServletResponse(),
+                (req, res) -> pinned.compareAndSet(false, ReadRoute.isPinned()));
+        //then
+        assertThat(pinned).isFalse();
+    }
+}
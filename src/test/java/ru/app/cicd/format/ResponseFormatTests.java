@@ -0,0 +1,52 @@
+package ru.app.cicd.format;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тестируем выбор формата ответа по заголовку Accept.
+ */
+public class ResponseFormatTests {
+
+    @Test
+    @DisplayName("Test negotiate without binary types functionality")
+    public void givenMissingOrWildcardAccept_whenNegotiate_thenJsonIsSelected() {
+        //given
+        //when
+        //then
+        assertThat(negotiate("")).isEqualTo(ResponseFormat.JSON);
+        assertThat(negotiate("*/*")).isEqualTo(ResponseFormat.JSON);
+        assertThat(negotiate("application/*")).isEqualTo(ResponseFormat.JSON);
+        assertThat(negotiate("text/html")).isEqualTo(ResponseFormat.JSON);
+    }
+
+    @Test
+    @DisplayName("Test negotiate binary types functionality")
+    public void givenBinaryAccept_whenNegotiate_thenBinaryFormatIsSelected() {
+        //given
+        //when
+        //then
+        assertThat(negotiate("application/cbor")).isEqualTo(ResponseFormat.CBOR);
+        assertThat(negotiate("application/x-jackson-smile")).isEqualTo(ResponseFormat.SMILE);
+        assertThat(negotiate("*/*, application/cbor")).isEqualTo(ResponseFormat.CBOR);
+    }
+
+    @Test
+    @DisplayName("Test negotiate by quality functionality")
+    public void givenQualityValues_whenNegotiate_thenHighestQualityIsSelected() {
+        //given
+        //when
+        //then
+        assertThat(negotiate("application/cbor;q=0.5, application/json")).isEqualTo(ResponseFormat.JSON);
+        assertThat(negotiate("application/json;q=0.8, application/x-jackson-smile;q=0.9"))
+                .isEqualTo(ResponseFormat.SMILE);
+        assertThat(negotiate("application/cbor;q=0, */*;q=0.1")).isEqualTo(ResponseFormat.JSON);
+    }
+
+    private static ResponseFormat negotiate(String accept) {
+        return ResponseFormat.negotiate(MediaType.parseMediaTypes(accept));
+    }
+}
@@ -0,0 +1,204 @@
+package ru.app.cicd.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.app.cicd.cache.EmailFilter;
+import ru.app.cicd.cache.SpecialtyCache;
+import ru.app.cicd.changes.DeveloperChangeFeed;
+import ru.app.cicd.dto.DeveloperImportResultDto;
+import ru.app.cicd.search.DeveloperSearchIndex;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Тестируем импорт на H2 (путь через JDBC batch).
+ */
+@ExtendWith(MockitoExtension.class)
+public class DeveloperImporterTests {
+
+    private static final String HEADER = "firstName,lastName,specialty,email,status\n";
+
+    @Mock
+    private EmailFilter emailFilter;
+
+    @Mock
+    private SpecialtyCache specialtyCache;
+
+    @Mock
+    private DeveloperSearchIndex searchIndex;
+
+    @Mock
+    private DeveloperChangeFeed changeFeed;
+
+    @TempDir
+    private Path tempDir;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private DeveloperImporter importer;
+
+    @BeforeEach
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:import-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        importer = new DeveloperImporter(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                new ObjectMapper(), emailFilter, specialtyCache, searchIndex, changeFeed, 2,
+                ImportRecordReader.DEFAULT_MAX_RECORD_LENGTH);
+    }
+
+    @Test
+    @DisplayName("Test import skips invalid rows and duplicate emails functionality")
+    public void givenCsvWithInvalidAndDuplicateRows_whenImport_thenOnlyValidUniqueRowsAreInserted() throws IOException {
+        //given
+        jdbcTemplate.update("INSERT INTO developers (id, first_name, last_name, specialty, email, status) "
+                + "VALUES (1000000, 'Taken', 'Taken', 'java', 'taken@mail.ru', 'ACTIVE')");
+        String csv = HEADER
+                + "Anna,Petrova,java,anna@mail.ru,\n"
+                + "Anna,Again,java,anna@mail.ru,\n"
+                + "\"Smith, Jr.\",Bob,go,bob@mail.ru,DELETED\n"
+                + "Anna,Later,java,anna@mail.ru,\n"
+                + "Someone,Else,php,taken@mail.ru,\n"
+                + "No,Email,php,not-an-email,\n"
+                + "Bad,Status,php,bad@mail.ru,retired\n";
+        //when
+        DeveloperImportResultDto result = importer.importFrom(channel(csv), ImportFormat.CSV, null, progress -> {
+        });
+        //then
+        assertThat(result.getRecords()).isEqualTo(7);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getDuplicates()).isEqualTo(3);
+        assertThat(result.getInvalid()).isEqualTo(2);
+        assertThat(result.getErrors()).containsExactly("Record 6: invalid email not-an-email",
+                "Record 7: unknown status retired");
+        assertThat(result.getOffset()).isEqualTo(csv.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(jdbcTemplate.queryForList("SELECT last_name FROM developers ORDER BY last_name", String.class))
+                .containsExactly("Bob", "Petrova", "Taken");
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM developers WHERE email = 'bob@mail.ru'",
+                String.class)).isEqualTo("DELETED");
+        verify(emailFilter).put("bob@mail.ru");
+        verify(searchIndex).scheduleRebuild();
+        verify(changeFeed).publishReset();
+    }
+
+    @Test
+    @DisplayName("Test import resumes from checkpoint functionality")
+    public void givenImportFailedAfterFirstBatch_whenResumeFromCheckpoint_thenRemainingRowsAreImportedOnce()
+            throws IOException {
+        //given
+        String csv = HEADER
+                + "A,One,java,a1@mail.ru,\n"
+                + "A,Two,java,a2@mail.ru,\n"
+                + "A,Three,java,a3@mail.ru,\n"
+                + "A,Four,java,a4@mail.ru,\n"
+                + "A,Five,java,a5@mail.ru,\n";
+        Path file = Files.writeString(tempDir.resolve("developers.csv"), csv);
+        AtomicReference<DeveloperImportResultDto> checkpoint = new AtomicReference<>();
+        assertThrows(IllegalStateException.class, () -> importer.importFrom(channel(csv), ImportFormat.CSV, null,
+                progress -> {
+                    checkpoint.set(progress);
+                    throw new IllegalStateException("crash");
+                }));
+        //when
+        DeveloperImportResultDto result;
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            result = importer.importFrom(channel, ImportFormat.CSV, checkpoint.get(), progress -> {
+            });
+        }
+        //then
+        assertThat(checkpoint.get().getRecords()).isEqualTo(2);
+        assertThat(result.getRecords()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(5);
+        assertThat(result.getDuplicates()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM developers", Integer.class)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Test import NDJSON functionality")
+    public void givenNdjson_whenImport_thenDevelopersAreInserted() throws IOException {
+        //given
+        String ndjson = """
+                {"firstName":"Anna","lastName":"Petrova","specialty":"java","email":"anna@mail.ru"}
+                {"firstName":"Bob",
+                {"id":7,"firstName":" Bob ","lastName":"Lee","specialty":"go","email":"bob@mail.ru","status":"DELETED"}
+                """;
+        //when
+        DeveloperImportResultDto result = importer.importFrom(channel(ndjson), ImportFormat.NDJSON, null,
+                progress -> {
+                });
+        //then
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getInvalid()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT first_name || ':' || status FROM developers ORDER BY email",
+                String.class)).containsExactly("Anna:ACTIVE", "Bob:DELETED");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM developers WHERE id = 7", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Test imported ids do not overlap next sequence block functionality")
+    public void givenImportedDevelopers_whenNextSequenceBlockIsTaken_thenItStartsAfterImportedIds()
+            throws IOException {
+        //given
+        StringBuilder csv = new StringBuilder(HEADER);
+
+        for (int i = 0; i < 7; i++) {
+            csv.append("A,B,java,dev").append(i).append("@mail.ru,\n");
+        }
+        importer.importFrom(channel(csv.toString()), ImportFormat.CSV, null, progress -> {
+        });
+        //when
+        long nextBlockEnd = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR developers_seq", Long.class);
+        //then
+        List<Integer> ids = jdbcTemplate.queryForList("SELECT id FROM developers", Integer.class);
+        assertThat(ids).hasSize(7).doesNotHaveDuplicates().allMatch(id -> id > 0 && id <= nextBlockEnd - 50);
+    }
+
+    @Test
+    @DisplayName("Test import without new rows does not rebuild indexes functionality")
+    public void givenOnlyInvalidRows_whenImport_thenSearchIndexIsNotRebuilt() throws IOException {
+        //given
+        String csv = HEADER + "No,Email,php,,\n";
+        //when
+        DeveloperImportResultDto result = importer.importFrom(channel(csv), ImportFormat.CSV, null, progress -> {
+        });
+        //then
+        assertThat(result.getInvalid()).isEqualTo(1);
+        verify(specialtyCache, never()).invalidateAll(anyCollection());
+        verify(searchIndex, never()).scheduleRebuild();
+        verify(changeFeed, never()).publishReset();
+    }
+
+    private static ReadableByteChannel channel(String content) {
+        return Channels.newChannel(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
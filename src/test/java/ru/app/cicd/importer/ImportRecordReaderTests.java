@@ -0,0 +1,178 @@
+package ru.app.cicd.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.entity.Status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Тестируем потоковое чтение файлов импорта.
+ */
+public class ImportRecordReaderTests {
+
+    private static final String CSV = "\uFEFFfirst_name,Last-Name,specialty,email,status\r\n"
+            + "Anna,Petrova,java,anna@mail.ru,active\r\n"
+            + "\r\n"
+            + "\"Smith, Jr.\",\"O\"\"Brien\",\"go\nkotlin\",bob@mail.ru,\r\n"
+            + "Ярослав,Ёлкин,php,yar@mail.ru,DELETED";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Test read quoted CSV fields functionality")
+    public void givenCsvWithQuotesBomAndBlankLines_whenRead_thenRecordsAreParsed() throws IOException {
+        //given
+        ImportRecordReader reader = reader(CSV, ImportFormat.CSV, 7);
+        //when
+        List<ImportRecord> records = readAll(reader);
+        //then
+        assertThat(records).extracting(ImportRecord::number).containsExactly(1L, 2L, 3L);
+        assertThat(records).extracting(ImportRecord::developer).containsExactly(
+                DeveloperDto.builder().firstName("Anna").lastName("Petrova").specialty("java")
+                        .email("anna@mail.ru").status(Status.ACTIVE).build(),
+                DeveloperDto.builder().firstName("Smith, Jr.").lastName("O\"Brien").specialty("go\nkotlin")
+                        .email("bob@mail.ru").build(),
+                DeveloperDto.builder().firstName("Ярослав").lastName("Ёлкин").specialty("php")
+                        .email("yar@mail.ru").status(Status.DELETED).build());
+        assertThat(reader.offset()).isEqualTo(CSV.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("Test broken CSV records are reported functionality")
+    public void givenBrokenCsvRecords_whenRead_thenRecordsFailWithReason() throws IOException {
+        //given
+        String csv = "firstName,lastName,specialty,email\n"
+                + "Anna,Petrova,java\n"
+                + "Bob,\"Lee,go,bob@mail.ru\n";
+        //when
+        List<ImportRecord> records = readAll(reader(csv, ImportFormat.CSV, 64));
+        //then
+        assertThat(records).extracting(ImportRecord::error)
+                .containsExactly("expected 4 columns, got 3", "unterminated quoted field");
+    }
+
+    @Test
+    @DisplayName("Test CSV header without required columns functionality")
+    public void givenCsvHeaderWithoutEmail_whenRead_thenExceptionIsThrown() {
+        //given
+        ImportRecordReader reader = reader("firstName,lastName,specialty\nAnna,Petrova,java\n", ImportFormat.CSV, 64);
+        //when
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, reader::next);
+        //then
+        assertThat(e.getMessage()).contains("email");
+    }
+
+    @Test
+    @DisplayName("Test record longer than limit functionality")
+    public void givenRecordLongerThanLimit_whenRead_thenRecordFailsAndReadingContinues() throws IOException {
+        //given
+        String csv = "firstName,lastName,specialty,email\n"
+                + "Anna,\"" + "x\n".repeat(100) + "\",java,anna@mail.ru\n"
+                + "Bob,Lee,go,bob@mail.ru\n";
+        ImportRecordReader reader = new ImportRecordReader(Channels.newChannel(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))), ImportFormat.CSV, objectMapper, 16, 64);
+        //when
+        List<ImportRecord> records = readAll(reader);
+        //then
+        assertThat(records).extracting(ImportRecord::error).containsExactly("record is longer than 64 bytes", null);
+        assertThat(records.get(1).developer().getEmail()).isEqualTo("bob@mail.ru");
+        assertThat(reader.offset()).isEqualTo(csv.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("Test CSV header longer than limit functionality")
+    public void givenCsvHeaderLongerThanLimit_whenRead_thenExceptionIsThrown() {
+        //given
+        String csv = "firstName,lastName,specialty,email," + "extra,".repeat(20) + "\nAnna,Petrova,java,anna@mail.ru\n";
+        ImportRecordReader reader = new ImportRecordReader(Channels.newChannel(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))), ImportFormat.CSV, objectMapper, 16, 64);
+        //when
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, reader::next);
+        //then
+        assertThat(e.getMessage()).isEqualTo("CSV header is longer than 64 bytes");
+    }
+
+    @Test
+    @DisplayName("Test read NDJSON functionality")
+    public void givenNdjson_whenRead_thenRecordsAreParsedAndBrokenLinesFail() throws IOException {
+        //given
+        String ndjson = "{\"firstName\":\"Anna\",\"lastName\":\"Petrova\",\"specialty\":\"java\",\"email\":\"anna@mail.ru\"}\n"
+                + "{\"firstName\":\"Bob\",\n"
+                + "{\"firstName\":\"Ян\",\"lastName\":\"Ли\",\"specialty\":\"go\",\"email\":\"yan@mail.ru\",\"status\":\"DELETED\"}";
+        //when
+        List<ImportRecord> records = readAll(reader(ndjson, ImportFormat.NDJSON, 16));
+        //then
+        assertThat(records).hasSize(3);
+        assertThat(records.get(0).developer().getEmail()).isEqualTo("anna@mail.ru");
+        assertThat(records.get(1).developer()).isNull();
+        assertThat(records.get(1).error()).isNotBlank();
+        assertThat(records.get(2).developer().getLastName()).isEqualTo("Ли");
+        assertThat(records.get(2).developer().getStatus()).isEqualTo(Status.DELETED);
+    }
+
+    @Test
+    @DisplayName("Test resume from offset functionality")
+    public void givenOffsetOfEachRecord_whenSeek_thenReadingContinuesWithNextRecord() throws IOException {
+        //given
+        List<ImportRecord> records = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+        ImportRecordReader reader = reader(CSV, ImportFormat.CSV, 5);
+        ImportRecord record;
+
+        while (Objects.nonNull(record = reader.next())) {
+            records.add(record);
+            offsets.add(reader.offset());
+        }
+        Path file = Files.writeString(tempDir.resolve("developers.csv"), CSV);
+        //when
+        for (int i = 0; i < records.size(); i++) {
+            ImportRecordReader streamed = reader(CSV, ImportFormat.CSV, 5);
+            streamed.seek(offsets.get(i), i + 1);
+
+            try (FileChannel channel = FileChannel.open(file)) {
+                ImportRecordReader seeked = new ImportRecordReader(channel, ImportFormat.CSV, objectMapper, 5);
+                seeked.seek(offsets.get(i), i + 1);
+                //then
+                List<ImportRecord> expected = records.subList(i + 1, records.size());
+                assertThat(readAll(streamed)).isEqualTo(expected);
+                assertThat(readAll(seeked)).isEqualTo(expected);
+            }
+        }
+    }
+
+    private ImportRecordReader reader(String content, ImportFormat format, int bufferSize) {
+        ReadableByteChannel channel = Channels.newChannel(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        return new ImportRecordReader(channel, format, objectMapper, bufferSize);
+    }
+
+    private static List<ImportRecord> readAll(ImportRecordReader reader) throws IOException {
+        List<ImportRecord> records = new ArrayList<>();
+        ImportRecord record;
+
+        while (Objects.nonNull(record = reader.next())) {
+            records.add(record);
+        }
+        return records;
+    }
+}
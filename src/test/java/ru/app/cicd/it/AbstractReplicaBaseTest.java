@@ -0,0 +1,67 @@
+package ru.app.cicd.it;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Primary и потоковая реплика в testcontainers. Реплика клонируется с primary через pg_basebackup
+ * и дальше читает его WAL, как сервис db-replica в docker-compose.
+ */
+public abstract class AbstractReplicaBaseTest {
+
+    private static final String REPLICATION_HBA =
+            "echo 'host replication all all scram-sha-256' >> \"$PGDATA/pg_hba.conf\"\n";
+
+    private static final String START_REPLICA = """
+            until pg_basebackup -h primary -U postgres -D /var/lib/postgresql/replica -R -X stream; do
+              rm -rf /var/lib/postgresql/replica; sleep 1;
+            done
+            exec postgres -D /var/lib/postgresql/replica
+            """;
+
+    @Container
+    static final PostgreSQLContainer<?> PRIMARY;
+
+    @Container
+    static final GenericContainer<?> REPLICA;
+
+    static {
+        Network network = Network.newNetwork();
+        DockerImageName postgres = DockerImageName.parse("postgres:latest");
+
+        PRIMARY = new PostgreSQLContainer<>(postgres)
+                .withUsername("postgres")
+                .withPassword("postgres")
+                .withDatabaseName("cicd_replica")
+                .withNetwork(network)
+                .withNetworkAliases("primary")
+                .withCommand("postgres", "-c", "fsync=off", "-c", "wal_level=replica", "-c", "max_wal_senders=4")
+                .withCopyToContainer(Transferable.of(REPLICATION_HBA), "/docker-entrypoint-initdb.d/replication.sh");
+        PRIMARY.start();
+
+        REPLICA = new GenericContainer<>(postgres)
+                .withNetwork(network)
+                .withEnv("PGPASSWORD", "postgres")
+                .withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres"))
+                .withCommand("bash", "-c", START_REPLICA)
+                .withExposedPorts(PostgreSQLContainer.POSTGRESQL_PORT)
+                .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1));
+        REPLICA.start();
+    }
+
+    @DynamicPropertySource
+    public static void dynamicPropertySource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PRIMARY::getJdbcUrl);
+        registry.add("spring.datasource.username", PRIMARY::getUsername);
+        registry.add("spring.datasource.password", PRIMARY::getPassword);
+        registry.add("developer.datasource.replica-urls", () -> "jdbc:postgresql://" + REPLICA.getHost() + ":"
+                + REPLICA.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/cicd_replica");
+    }
+}
@@ -0,0 +1,78 @@
+package ru.app.cicd.it;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.app.cicd.dto.DeveloperImportResultDto;
+import ru.app.cicd.entity.Developer;
+import ru.app.cicd.importer.DeveloperImporter;
+import ru.app.cicd.importer.ImportFormat;
+import ru.app.cicd.repository.DeveloperRepository;
+import ru.app.cicd.storage.DeveloperStorage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Проверяем импорт через COPY на Postgres.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@SpringBootTest
+public class ItDeveloperImportWithTestContainersTests extends AbstractRestControllerBaseTest {
+
+    @Autowired
+    private DeveloperImporter developerImporter;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.execute("TRUNCATE developers");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("TRUNCATE developers");
+    }
+
+    @Test
+    @DisplayName("Test import CSV through COPY functionality")
+    public void givenCsvWithExistingEmail_whenImport_thenNewRowsAreCopiedAndDuplicatesSkipped() throws IOException {
+        //given
+        developerRepository.save(DeveloperStorage.getDeveloperTransient());
+        String csv = "firstName,lastName,specialty,email,status\n"
+                + "\"Smith, Jr.\",\"O\"\"Brien\",java,smith@mail.ru,\n"
+                + "Someone,Else,php,haha@mail.ru,\n"
+                + "Anna,Petrova,go,anna@mail.ru,DELETED\n";
+        //when
+        DeveloperImportResultDto result = developerImporter.importFrom(
+                Channels.newChannel(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))),
+                ImportFormat.CSV, null, progress -> {
+                });
+        Developer savedAfterImport = developerRepository.save(DeveloperStorage.getJohnDoeTransient());
+        //then
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT first_name || '|' || last_name FROM developers "
+                + "WHERE email = 'smith@mail.ru'", String.class)).isEqualTo("Smith, Jr.|O\"Brien");
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM developers WHERE email = 'anna@mail.ru'",
+                String.class)).isEqualTo("DELETED");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM developers", Integer.class)).isEqualTo(4);
+        assertThat(savedAfterImport.getId()).isNotNull();
+    }
+}
@@ -0,0 +1,71 @@
+package ru.app.cicd.it;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Проверяем через EXPLAIN, что запросы по email и по специальности используют индексы из миграций.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@SpringBootTest
+public class ItDeveloperIndexUsageWithTestContainersTests extends AbstractRestControllerBaseTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.execute("TRUNCATE developers");
+        jdbcTemplate.execute("""
+                INSERT INTO developers (id, email, first_name, last_name, specialty, status)
+                SELECT n, 'dev' || n || '@mail.com', 'First' || n, 'Last' || n, 'specialty' || (n % 200),
+                       CASE WHEN n % 10 = 0 THEN 'DELETED' ELSE 'ACTIVE' END
+                FROM generate_series(1, 50000) AS n
+                """);
+        jdbcTemplate.execute("ANALYZE developers");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("TRUNCATE developers");
+    }
+
+    @Test
+    @DisplayName("Test find by email uses unique index")
+    public void givenManyDevelopers_whenExplainFindByEmail_thenUniqueIndexIsUsed() {
+        //given
+        String query = "SELECT * FROM developers d WHERE d.email = 'dev4242@mail.com'";
+        //when
+        String plan = explain(query);
+        //then
+        assertThat(plan).contains("ux_developers_email").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("Test find active by specialty uses partial index")
+    public void givenManyDevelopers_whenExplainFindAllActiveBySpecialty_thenPartialIndexIsUsed() {
+        //given
+        String query = "SELECT * FROM developers d WHERE d.status = 'ACTIVE' AND d.specialty = 'specialty42'";
+        //when
+        String plan = explain(query);
+        //then
+        assertThat(plan).contains("ix_developers_active_specialty").doesNotContain("Seq Scan");
+    }
+
+    private String explain(String query) {
+        List<String> rows = jdbcTemplate.queryForList("EXPLAIN " + query, String.class);
+        return String.join("\n", rows);
+    }
+}
@@ -0,0 +1,154 @@
+package ru.app.cicd.it;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.app.cicd.datasource.ReplicaPools;
+import ru.app.cicd.entity.Developer;
+import ru.app.cicd.repository.DeveloperRepository;
+import ru.app.cicd.service.DeveloperService;
+import ru.app.cicd.storage.DeveloperStorage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Проверяем маршрутизацию чтений на потоковую реплику и read-your-writes для клиента после записи.
+ */
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Testcontainers
+@SpringBootTest(properties = "developer.datasource.replica-lag=1m")
+public class ItDeveloperReplicaRoutingWithTestContainersTests extends AbstractReplicaBaseTest {
+
+    private static final String PRIMARY_UNTIL_COOKIE = "developer-primary-until";
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private ReplicaPools replicaPools;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        replica = new JdbcTemplate(replicaPools.getReplicas().get(0));
+        awaitReplicated("SELECT count(*) = 0 FROM developers");
+    }
+
+    @Test
+    @DisplayName("Test replica is a streaming standby functionality")
+    public void givenReplicaPool_whenQueryRecoveryState_thenReplicaIsInRecovery() {
+        //given
+        JdbcTemplate primary = new JdbcTemplate(replicaPools.getPrimary());
+        //when
+        Boolean replicaInRecovery = replica.queryForObject("SELECT pg_is_in_recovery()", Boolean.class);
+        Boolean primaryInRecovery = primary.queryForObject("SELECT pg_is_in_recovery()", Boolean.class);
+        //then
+        assertThat(replicaInRecovery).isTrue();
+        assertThat(primaryInRecovery).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test page is read from replica functionality")
+    public void givenReplicatedDeveloper_whenGetPage_thenReplicaServesRead() throws Exception {
+        //given
+        developerService.saveDeveloper(DeveloperStorage.getJohnDoeTransient());
+        awaitReplicated("SELECT count(*) = 1 FROM developers");
+        double replicaBefore = connections("replica");
+        //when
+        mockMvc.perform(get("/api/v1/developers"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].email",
+                        CoreMatchers.is("john.doe@mail.com")));
+        //then
+        assertThat(connections("replica")).isEqualTo(replicaBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Test client reads own write from primary functionality")
+    public void givenCreatedDeveloper_whenGetPageWithCookie_thenPrimaryServesRead() throws Exception {
+        //given
+        MvcResult created = mockMvc.perform(post("/api/v1/developers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(DeveloperStorage.getJohnDoeDtoTransient())))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+        Cookie cookie = created.getResponse().getCookie(PRIMARY_UNTIL_COOKIE);
+        double replicaBefore = connections("replica");
+        //when
+        mockMvc.perform(get("/api/v1/developers").cookie(cookie))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].email",
+                        CoreMatchers.is("john.doe@mail.com")));
+        //then
+        assertThat(cookie).isNotNull();
+        assertThat(connections("replica")).isEqualTo(replicaBefore);
+    }
+
+    @Test
+    @DisplayName("Test cached read after write is served by primary functionality")
+    public void givenRecentWrite_whenGetBySpecialty_thenPrimaryServesRead() throws Exception {
+        //given
+        Developer developer = DeveloperStorage.getJohnDoeTransient();
+        developer.setSpecialty("Replicated");
+        developerService.saveDeveloper(developer);
+        double replicaBefore = connections("replica");
+        //when
+        mockMvc.perform(get("/api/v1/developers/specialty/Replicated"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].email", CoreMatchers.is("john.doe@mail.com")));
+        //then
+        assertThat(connections("replica")).isEqualTo(replicaBefore);
+    }
+
+    private double connections(String target) {
+        return meterRegistry.get("developer.datasource.connections").tag("target", target).counter().count();
+    }
+
+    private void awaitReplicated(String condition) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+
+        while (!Boolean.TRUE.equals(replica.queryForObject(condition, Boolean.class))) {
+            assertThat(System.nanoTime()).as("replica caught up").isLessThan(deadline);
+            sleep();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -4,7 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import ru.app.cicd.dto.DeveloperDto;
 import ru.app.cicd.entity.Developer;
 import ru.app.cicd.entity.Status;
+import ru.app.cicd.exception.DeveloperWithDuplicateEmailException;
 import ru.app.cicd.repository.DeveloperRepository;
+import ru.app.cicd.service.DeveloperService;
 import ru.app.cicd.storage.DeveloperStorage;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +23,14 @@ import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -39,6 +49,9 @@ public class ItDeveloperRestControllerWithTestContainersTests extends AbstractRe
     @Autowired
     private DeveloperRepository developerRepository;
 
+    @Autowired
+    private DeveloperService developerService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -93,6 +106,39 @@ public class ItDeveloperRestControllerWithTestContainersTests extends AbstractRe
                         CoreMatchers.is("Developer with defined email is already exists"))); // тут
     }
 
+    @Test
+    @DisplayName("Test concurrent create developers with same email functionality")
+    public void givenParallelCreatesWithSameEmail_whenSaveDeveloper_thenExactlyOneWins() throws Exception {
+        //given
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        //when
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    developerService.saveDeveloper(DeveloperStorage.getJohnDoeTransient());
+                    return true;
+                } catch (DeveloperWithDuplicateEmailException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        int created = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(30, TimeUnit.SECONDS)) {
+                created++;
+            }
+        }
+        executor.shutdown();
+        //then
+        assertThat(created).isEqualTo(1);
+        assertThat(developerRepository.count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Test update developer functionality")
     public void givenDeveloperDto_whenUpdateDeveloper_thenSuccessResponse() throws Exception {
@@ -133,12 +179,83 @@ public class ItDeveloperRestControllerWithTestContainersTests extends AbstractRe
         //then
         resultActions
                 .andDo(MockMvcResultHandlers.print())
-                .andExpect(MockMvcResultMatchers.status().isBadRequest())
-                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(400)))
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(404)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message",
                         CoreMatchers.is("Developer not found"))); // тут
     }
 
+    @Test
+    @DisplayName("Test concurrent updates with the same version functionality")
+    public void givenTwoUpdatesOfSameVersion_whenUpdateDeveloper_thenSecondGetsConflict() throws Exception {
+        //given
+        Developer developer = DeveloperStorage.getJohnDoeTransient();
+        developerRepository.save(developer);
+        DeveloperDto first = DeveloperDto.toDeveloperDto(developer);
+        first.setFirstName("First");
+        DeveloperDto second = DeveloperDto.toDeveloperDto(developer);
+        second.setFirstName("Second");
+        //when
+        ResultActions firstResult = mockMvc.perform(put("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(first)));
+        ResultActions secondResult = mockMvc.perform(put("/api/v1/developers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(second)));
+        //then
+        firstResult
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"1\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.version", CoreMatchers.is(1)));
+        secondResult
+                .andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(409)));
+        assertThat(developerRepository.findById(developer.getId()).orElseThrow().getFirstName()).isEqualTo("First");
+    }
+
+    @Test
+    @DisplayName("Test conditional update with stale If-Match functionality")
+    public void givenStaleIfMatch_whenUpdateDeveloper_thenPreconditionFailed() throws Exception {
+        //given
+        Developer developer = DeveloperStorage.getJohnDoeTransient();
+        developerRepository.save(developer);
+        DeveloperDto dto = DeveloperDto.toDeveloperDto(developer);
+        dto.setVersion(null);
+        //when
+        ResultActions resultActions = mockMvc.perform(put("/api/v1/developers")
+                .header("If-Match", "\"42\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(412)));
+    }
+
+    @Test
+    @DisplayName("Test unconditional update with If-Match any functionality")
+    public void givenModifiedDeveloper_whenUpdateWithIfMatchAny_thenLatestVersionIsOverwritten() throws Exception {
+        //given
+        Developer developer = DeveloperStorage.getJohnDoeTransient();
+        developerRepository.save(developer);
+        developer.setFirstName("Changed");
+        developerRepository.save(developer);
+        DeveloperDto dto = DeveloperDto.toDeveloperDto(developer);
+        dto.setFirstName("Overwritten");
+        dto.setVersion(0L);
+        //when
+        ResultActions resultActions = mockMvc.perform(put("/api/v1/developers")
+                .header("If-Match", "*")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+        //then
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"2\""));
+        assertThat(developerRepository.findById(developer.getId()).orElseThrow().getFirstName())
+                .isEqualTo("Overwritten");
+    }
+
     @Test
     @DisplayName("Test get developer by id functionality")
     public void givenId_whenGetById_thenSuccessResponse() throws Exception {
@@ -159,6 +276,27 @@ public class ItDeveloperRestControllerWithTestContainersTests extends AbstractRe
                 .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is("ACTIVE")));
     }
 
+    @Test
+    @DisplayName("Test get developers by ids functionality")
+    public void givenSavedDevelopers_whenGetByIds_thenFoundAndMissingAreReturned() throws Exception {
+        //given
+        Developer john = developerRepository.save(DeveloperStorage.getJohnDoeTransient());
+        Developer halo = developerRepository.save(DeveloperStorage.getDeveloperHaloTransient());
+        int missingId = halo.getId() + 1000;
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/developers")
+                .param("ids", halo.getId() + "," + missingId + "," + john.getId()));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", CoreMatchers.is(halo.getId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].id", CoreMatchers.is(john.getId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.missing", CoreMatchers.is(List.of(missingId))));
+    }
+
     @Test
     @DisplayName("Test get developer by incorrect id functionality")
     public void givenIncorrectId_whenGetById_thenErrorResponse() throws Exception {
@@ -1,14 +1,21 @@
 package ru.app.cicd.repository;
 
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperField;
+import ru.app.cicd.dto.DeveloperSpecialtyDto;
 import ru.app.cicd.entity.Developer;
+import ru.app.cicd.entity.Status;
 import ru.app.cicd.storage.DeveloperStorage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -104,6 +111,18 @@ public class DeveloperRepositoryTests {
         assertThat(obtainedDev.getEmail()).isEqualTo(developer.getEmail());
     }
 
+    @Test
+    @DisplayName("Test find existing emails functionality")
+    public void givenDeveloperSaved_whenFindExistingEmails_thenOnlyStoredEmailsAreReturned() {
+        //given
+        Developer developer = DeveloperStorage.getDeveloperTransient();
+        developerRepository.save(developer);
+        //when
+        List<String> existingEmails = developerRepository.findExistingEmails(List.of(developer.getEmail(), "absent@mail.ru"));
+        //then
+        assertThat(existingEmails).containsExactly(developer.getEmail());
+    }
+
     @Test
     @DisplayName("Test get developer with status ACTIVE functionality")
     public void givenThreeDevelopersActive_whenFindAllActiveBySpeciality_thenReturnedDevelopers() {
@@ -113,10 +132,124 @@ public class DeveloperRepositoryTests {
         Developer developer3 = DeveloperStorage.getDeveloperNinaTransient();
         developerRepository.saveAll(List.of(developer1, developer2, developer3));
         //when
-        List<Developer> developerEntities = developerRepository.findAllActiveBySpecialty("java");
+        List<DeveloperDto> developerDtos = developerRepository.findAllActiveBySpecialty("java");
         //then
-        assertThat(developerEntities.isEmpty()).isFalse();
-        assertThat(developerEntities.size()).isEqualTo(3);
+        assertThat(developerDtos.isEmpty()).isFalse();
+        assertThat(developerDtos.size()).isEqualTo(3);
+        assertThat(developerDtos).extracting(DeveloperDto::getEmail)
+                .containsExactlyInAnyOrder(developer1.getEmail(), developer2.getEmail(), developer3.getEmail());
+    }
+
+    @Test
+    @DisplayName("Test keyset page of active developers functionality")
+    public void givenActiveAndDeletedDevelopers_whenFindActivePageAfter_thenOnlyActiveAfterCursorAreReturned() {
+        //given
+        Developer developer1 = DeveloperStorage.getDeveloperTransient();
+        Developer developer2 = DeveloperStorage.getDeveloperHaloTransient();
+        developer2.setStatus(Status.DELETED);
+        Developer developer3 = DeveloperStorage.getDeveloperNinaTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        List<DeveloperDto> firstPage = developerRepository.findActivePageAfter(0, PageRequest.ofSize(1));
+        List<DeveloperDto> secondPage = developerRepository.findActivePageAfter(firstPage.get(0).getId(),
+                PageRequest.ofSize(1));
+        //then
+        assertThat(firstPage).extracting(DeveloperDto::getId).containsExactly(developer1.getId());
+        assertThat(secondPage).extracting(DeveloperDto::getId).containsExactly(developer3.getId());
+    }
+
+    @Test
+    @DisplayName("Test keyset page with requested fields functionality")
+    public void givenActiveDevelopers_whenFindActivePageAfterWithFields_thenOnlyRequestedFieldsAreSelected() {
+        //given
+        Developer developer1 = DeveloperStorage.getDeveloperTransient();
+        Developer developer2 = DeveloperStorage.getDeveloperHaloTransient();
+        developer2.setStatus(Status.DELETED);
+        Developer developer3 = DeveloperStorage.getDeveloperNinaTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        List<DeveloperDto> page = developerRepository.findActivePageAfter(0, 10, DeveloperField.parse("email,id"));
+        //then
+        assertThat(page).extracting(DeveloperDto::getId).containsExactly(developer1.getId(), developer3.getId());
+        assertThat(page).extracting(DeveloperDto::getEmail)
+                .containsExactly(developer1.getEmail(), developer3.getEmail());
+        assertThat(page).extracting(DeveloperDto::getFirstName).containsOnlyNulls();
+        assertThat(page).extracting(DeveloperDto::getStatus).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("Test single requested field functionality")
+    public void givenActiveDevelopers_whenFindAllActiveBySpecialtyWithOneField_thenOnlyThatFieldIsSelected() {
+        //given
+        Developer developer1 = DeveloperStorage.getDeveloperTransient();
+        Developer developer2 = DeveloperStorage.getDeveloperHaloTransient();
+        developerRepository.saveAll(List.of(developer1, developer2));
+        //when
+        List<DeveloperDto> developerDtos = developerRepository.findAllActiveBySpecialty("java",
+                DeveloperField.parse("email"));
+        List<DeveloperDto> streamed;
+        try (Stream<DeveloperDto> developers = developerRepository.streamAllActive(DeveloperField.parse("id"))) {
+            streamed = developers.toList();
+        }
+        //then
+        assertThat(developerDtos).extracting(DeveloperDto::getEmail)
+                .containsExactlyInAnyOrder(developer1.getEmail(), developer2.getEmail());
+        assertThat(developerDtos).extracting(DeveloperDto::getId).containsOnlyNulls();
+        assertThat(streamed).extracting(DeveloperDto::getId).containsExactly(developer1.getId(), developer2.getId());
+        assertThat(streamed).extracting(DeveloperDto::getEmail).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("Test find version by id functionality")
+    public void givenSavedDeveloper_whenFindVersionById_thenOnlyVersionIsReturned() {
+        //given
+        Developer developer = DeveloperStorage.getDeveloperTransient();
+        developerRepository.saveAndFlush(developer);
+        //when
+        Optional<Long> version = developerRepository.findVersionById(developer.getId());
+        Optional<Long> missing = developerRepository.findVersionById(developer.getId() + 1000);
+        //then
+        assertThat(version).contains(developer.getVersion());
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test versioned update functionality")
+    public void givenSavedDeveloper_whenUpdateIfVersion_thenOnlyMatchingVersionIsUpdated() {
+        //given
+        Developer developer = DeveloperStorage.getDeveloperTransient();
+        developerRepository.saveAndFlush(developer);
+        Long version = developer.getVersion();
+        //when
+        int staleUpdated = developerRepository.updateIfVersion(developer.getId(), version + 1,
+                "Stale", "Stale", "php", developer.getEmail());
+        int updated = developerRepository.updateIfVersion(developer.getId(), version,
+                "Fresh", "Fresh", "php", developer.getEmail());
+        //then
+        assertThat(staleUpdated).isZero();
+        assertThat(updated).isEqualTo(1);
+        Developer obtainedDev = developerRepository.findById(developer.getId()).orElse(null);
+        assertThat(obtainedDev).isNotNull();
+        assertThat(obtainedDev.getFirstName()).isEqualTo("Fresh");
+        assertThat(obtainedDev.getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    @DisplayName("Test stream all active developers functionality")
+    public void givenActiveAndDeletedDevelopers_whenStreamAllActive_thenOnlyActiveAreStreamed() {
+        //given
+        Developer developer1 = DeveloperStorage.getDeveloperTransient();
+        Developer developer2 = DeveloperStorage.getDeveloperHaloTransient();
+        developer2.setStatus(Status.DELETED);
+        Developer developer3 = DeveloperStorage.getDeveloperNinaTransient();
+        developerRepository.saveAll(List.of(developer1, developer2, developer3));
+        //when
+        List<DeveloperDto> streamed;
+        try (Stream<DeveloperDto> developers = developerRepository.streamAllActive()) {
+            streamed = developers.toList();
+        }
+        //then
+        assertThat(streamed).extracting(DeveloperDto::getId).containsExactly(developer1.getId(), developer3.getId());
     }
 
     @Test
@@ -131,4 +264,47 @@ public class DeveloperRepositoryTests {
         Developer obtainedDev = developerRepository.findById(developer.getId()).orElse(null);
         assertThat(obtainedDev).isNull();
     }
+
+    @Test
+    @DisplayName("Test bulk status update functionality")
+    public void givenDevelopersSaved_whenUpdateStatusByIds_thenAffectedRowsAreUpdated() {
+        //given
+        Developer developer1 = DeveloperStorage.getDeveloperTransient();
+        Developer developer2 = DeveloperStorage.getDeveloperHaloTransient();
+        developerRepository.saveAll(List.of(developer1, developer2));
+        //when
+        int updated = developerRepository.updateStatusByIds(List.of(developer1.getId(), 999_999), Status.DELETED);
+        //then
+        assertThat(updated).isEqualTo(1);
+        assertThat(developerRepository.findById(developer1.getId()).orElseThrow().getStatus()).isEqualTo(Status.DELETED);
+        assertThat(developerRepository.findById(developer2.getId()).orElseThrow().getStatus()).isEqualTo(Status.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("Test bulk delete by ids functionality")
+    public void givenDevelopersSaved_whenDeleteByIds_thenAffectedRowsAreRemoved() {
+        //given
+        Developer developer1 = DeveloperStorage.getDeveloperTransient();
+        Developer developer2 = DeveloperStorage.getDeveloperHaloTransient();
+        developerRepository.saveAll(List.of(developer1, developer2));
+        //when
+        int deleted = developerRepository.deleteByIds(List.of(developer1.getId(), developer2.getId(), 999_999));
+        //then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(developerRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test find id and specialty by ids functionality")
+    public void givenDevelopersSaved_whenFindIdAndSpecialtyByIds_thenOnlyExistingIdsAreReturned() {
+        //given
+        Developer developer1 = DeveloperStorage.getDeveloperTransient();
+        Developer developer2 = DeveloperStorage.getDeveloperHaloTransient();
+        developerRepository.saveAll(List.of(developer1, developer2));
+        //when
+        List<DeveloperSpecialtyDto> existing =
+                developerRepository.findIdAndSpecialtyByIds(List.of(developer1.getId(), 999_999));
+        //then
+        assertThat(existing).containsExactly(new DeveloperSpecialtyDto(developer1.getId(), developer1.getSpecialty()));
+    }
 }
@@ -0,0 +1,213 @@
+package ru.app.cicd.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperSuggestionDto;
+import ru.app.cicd.entity.Developer;
+import ru.app.cicd.entity.Status;
+import ru.app.cicd.repository.DeveloperRepository;
+import ru.app.cicd.storage.DeveloperStorage;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тестируем поисковый индекс разработчиков.
+ */
+@ExtendWith(MockitoExtension.class)
+public class DeveloperSearchIndexTests {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private DeveloperSearchIndex searchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchIndex = new DeveloperSearchIndex(developerRepository, new TransactionTemplate(transactionManager),
+                meterRegistry, true);
+    }
+
+    @Test
+    @DisplayName("Test index is not ready before build functionality")
+    public void givenIndexNotBuilt_whenSearch_thenNotReadyAndEmpty() {
+        //given
+        //when
+        List<Integer> hits = searchIndex.search("paul", 10);
+        //then
+        assertThat(searchIndex.isReady()).isFalse();
+        assertThat(hits).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test index built from active developers functionality")
+    public void givenActiveDevelopers_whenRebuild_thenSearchFindsThemAndMemoryIsReported() {
+        //given
+        BDDMockito.given(developerRepository.streamAllActive()).willReturn(Stream.of(
+                DeveloperStorage.getJohnDoeDtoPersisted()));
+        //when
+        searchIndex.rebuild();
+        //then
+        assertThat(searchIndex.isReady()).isTrue();
+        assertThat(searchIndex.search("doe", 10)).containsExactly(1);
+        assertThat(meterRegistry.get("developer.search.index.memory.per.developer").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Test put and remove outside transaction functionality")
+    public void givenBuiltIndex_whenPutAndRemove_thenAppliedImmediately() {
+        //given
+        BDDMockito.given(developerRepository.streamAllActive()).willReturn(Stream.empty());
+        searchIndex.rebuild();
+        Developer paul = DeveloperStorage.getDeveloperPaulPersisted();
+        //when
+        searchIndex.put(paul);
+        List<Integer> afterPut = searchIndex.search(paul.getFirstName(), 10);
+        searchIndex.removeAll(List.of(paul.getId()));
+        //then
+        assertThat(afterPut).containsExactly(paul.getId());
+        assertThat(searchIndex.search(paul.getFirstName(), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test suggest after put functionality")
+    public void givenBuiltIndex_whenPut_thenSuggestReturnsIdAndLabel() {
+        //given
+        BDDMockito.given(developerRepository.streamAllActive()).willReturn(Stream.of(
+                DeveloperStorage.getJohnDoeDtoPersisted()));
+        searchIndex.rebuild();
+        //when
+        searchIndex.put(DeveloperStorage.getDeveloperPaulPersisted());
+        List<DeveloperSuggestionDto> suggestions = searchIndex.suggest("p", 10);
+        //then
+        assertThat(suggestions).containsExactly(DeveloperSuggestionDto.builder().id(2).label("Paul Rysef").build());
+        assertThat(searchIndex.suggest("john.", 10)).extracting(DeveloperSuggestionDto::getId).containsExactly(1);
+        assertThat(searchIndex.suggestSizeInBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Test soft deleted developer is removed functionality")
+    public void givenIndexedDeveloper_whenPutWithDeletedStatus_thenRemoved() {
+        //given
+        BDDMockito.given(developerRepository.streamAllActive()).willReturn(Stream.empty());
+        searchIndex.rebuild();
+        Developer paul = DeveloperStorage.getDeveloperPaulPersisted();
+        searchIndex.put(paul);
+        //when
+        paul.setStatus(Status.DELETED);
+        searchIndex.put(paul);
+        //then
+        assertThat(searchIndex.search(paul.getFirstName(), 10)).isEmpty();
+        assertThat(searchIndex.suggest(paul.getFirstName(), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test put inside transaction is applied after commit functionality")
+    public void givenActiveTransaction_whenPut_thenAppliedOnlyAfterCommit() {
+        //given
+        BDDMockito.given(developerRepository.streamAllActive()).willReturn(Stream.empty());
+        searchIndex.rebuild();
+        Developer paul = DeveloperStorage.getDeveloperPaulPersisted();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //when
+            searchIndex.put(paul);
+            List<Integer> beforeCommit = searchIndex.search(paul.getFirstName(), 10);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            //then
+            assertThat(beforeCommit).isEmpty();
+            assertThat(searchIndex.search(paul.getFirstName(), 10)).containsExactly(paul.getId());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Test delete during rebuild is not reverted by stream functionality")
+    public void givenDeleteBeforeStreamReachesRow_whenRebuild_thenDeveloperStaysRemoved() {
+        //given
+        BDDMockito.given(developerRepository.streamAllActive()).willReturn(Stream.of(
+                        DeveloperDto.toDeveloperDto(DeveloperStorage.getDeveloperPaulPersisted()),
+                        DeveloperStorage.getJohnDoeDtoPersisted())
+                .peek(developer -> {
+                    if (developer.getId() == 2) {
+                        searchIndex.removeAll(List.of(1));
+                    }
+                }));
+        //when
+        searchIndex.rebuild();
+        //then
+        assertThat(searchIndex.search("doe", 10)).isEmpty();
+        assertThat(searchIndex.search("paul", 10)).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Test update during rebuild wins over stale stream row functionality")
+    public void givenUpdateBeforeStreamReachesRow_whenRebuild_thenNewerValueIsKept() {
+        //given
+        Developer renamed = DeveloperStorage.getJohnDoePersisted();
+        renamed.setLastName("Smith");
+        renamed.setEmail("john.smith@mail.com");
+        BDDMockito.given(developerRepository.streamAllActive()).willReturn(Stream.of(
+                        DeveloperDto.toDeveloperDto(DeveloperStorage.getDeveloperPaulPersisted()),
+                        DeveloperStorage.getJohnDoeDtoPersisted())
+                .peek(developer -> {
+                    if (developer.getId() == 2) {
+                        searchIndex.put(renamed);
+                    }
+                }));
+        //when
+        searchIndex.rebuild();
+        //then
+        assertThat(searchIndex.search("smith", 10)).containsExactly(1);
+        assertThat(searchIndex.search("doe", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test writes racing the index swap are not lost functionality")
+    public void givenConcurrentWrites_whenRebuildSwapsIndexes_thenEveryWriteIsVisible() {
+        //given
+        Queue<DeveloperDto> committed = new ConcurrentLinkedQueue<>();
+        BDDMockito.given(developerRepository.streamAllActive())
+                .willAnswer(invocation -> List.copyOf(committed).stream());
+        searchIndex.rebuild();
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (int id = 101; id <= 600; id++) {
+                Developer developer = DeveloperStorage.getDeveloperPaulPersisted();
+                developer.setId(id);
+                committed.add(DeveloperDto.toDeveloperDto(developer));
+                searchIndex.put(developer);
+            }
+        });
+        //when
+        while (!writer.isDone()) {
+            searchIndex.rebuild();
+        }
+        writer.join();
+        //then
+        assertThat(searchIndex.search("paul", 1000))
+                .containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(101, 600).boxed().toList());
+    }
+}
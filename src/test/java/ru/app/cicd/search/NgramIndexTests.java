@@ -0,0 +1,94 @@
+package ru.app.cicd.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Тестируем триграммный индекс.
+ */
+public class NgramIndexTests {
+
+    private NgramIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new NgramIndex();
+        index.put(1, "Anna", "Petrova", "anna@mail.ru");
+        index.put(2, "Joanna", "Smith", "js@mail.ru");
+        index.put(3, "Ivan", "Annenkov", "ivan@corp.com");
+        index.put(4, "Paul", "Brown", "paul.annals@mail.ru");
+    }
+
+    @Test
+    @DisplayName("Test search ranks exact, prefix, infix and email matches functionality")
+    public void givenIndexedDevelopers_whenSearch_thenHitsAreRanked() {
+        //given
+        //when
+        List<Integer> hits = index.search("ANN", 10).stream().map(NgramIndex.Hit::id).toList();
+        //then
+        assertThat(hits).containsExactly(1, 3, 2, 4);
+    }
+
+    @Test
+    @DisplayName("Test search respects limit functionality")
+    public void givenManyMatches_whenSearchWithLimit_thenOnlyBestAreReturned() {
+        //given
+        //when
+        List<NgramIndex.Hit> hits = index.search("ann", 2);
+        //then
+        assertThat(hits).extracting(NgramIndex.Hit::id).containsExactly(1, 3);
+    }
+
+    @Test
+    @DisplayName("Test search verifies substring not only grams functionality")
+    public void givenAllGramsPresentButNotAdjacent_whenSearch_thenNoFalsePositive() {
+        //given
+        index.put(5, "abcxbcd", "", "");
+        //when
+        List<NgramIndex.Hit> hits = index.search("abcd", 10);
+        //then
+        assertThat(hits).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test update and remove keep postings consistent functionality")
+    public void givenUpdatedAndRemovedDevelopers_whenSearch_thenOnlyCurrentValuesMatch() {
+        //given
+        index.put(1, "Maria", "Petrova", "maria@mail.ru");
+        index.remove(3);
+        //when
+        List<Integer> annHits = index.search("ann", 10).stream().map(NgramIndex.Hit::id).toList();
+        List<Integer> mariaHits = index.search("mari", 10).stream().map(NgramIndex.Hit::id).toList();
+        //then
+        assertThat(annHits).containsExactly(2, 4);
+        assertThat(mariaHits).containsExactly(1);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Test too short query functionality")
+    public void givenTwoCharacterQuery_whenSearch_thenExceptionIsThrown() {
+        //given
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> index.search(" an ", 10));
+    }
+
+    @Test
+    @DisplayName("Test memory estimate shrinks after removal functionality")
+    public void givenIndexedDevelopers_whenRemoveAll_thenMemoryEstimateDrops() {
+        //given
+        long before = index.sizeInBytes();
+        //when
+        List.of(1, 2, 3, 4).forEach(index::remove);
+        //then
+        assertThat(before).isGreaterThan(index.sizeInBytes());
+        assertThat(index.search("ann", 10)).isEmpty();
+    }
+}
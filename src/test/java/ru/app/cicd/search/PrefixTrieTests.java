@@ -0,0 +1,123 @@
+package ru.app.cicd.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Тестируем префиксное дерево автодополнения.
+ */
+public class PrefixTrieTests {
+
+    private PrefixTrie trie;
+
+    @BeforeEach
+    public void setUp() {
+        trie = new PrefixTrie();
+        trie.put(1, "Anna", "Petrova", "anna@mail.ru");
+        trie.put(2, "Anton", "Smith", "tony@mail.ru");
+        trie.put(3, "Ann", "Lee", "lee@corp.com");
+    }
+
+    @Test
+    @DisplayName("Test suggest by name and email prefix functionality")
+    public void givenDevelopers_whenSuggest_thenPrefixMatchesAreReturned() {
+        //given
+        //when
+        List<PrefixTrie.Suggestion> byName = trie.suggest("AN", 10);
+        List<PrefixTrie.Suggestion> byEmail = trie.suggest("tony@", 10);
+        //then
+        assertThat(byName).extracting(PrefixTrie.Suggestion::label)
+                .containsExactly("Ann Lee", "Anna Petrova", "Anton Smith");
+        assertThat(byEmail).containsExactly(new PrefixTrie.Suggestion(2, "tony@mail.ru"));
+    }
+
+    @Test
+    @DisplayName("Test suggest returns each developer once functionality")
+    public void givenNameAndEmailMatch_whenSuggest_thenDeveloperIsReturnedOnce() {
+        //given
+        //when
+        List<PrefixTrie.Suggestion> suggestions = trie.suggest("anna", 10);
+        //then
+        assertThat(suggestions).containsExactly(new PrefixTrie.Suggestion(1, "Anna Petrova"));
+    }
+
+    @Test
+    @DisplayName("Test suggest respects limit functionality")
+    public void givenManyMatches_whenSuggestWithLimit_thenOnlyFirstAreReturned() {
+        //given
+        //when
+        List<PrefixTrie.Suggestion> suggestions = trie.suggest("an", 2);
+        //then
+        assertThat(suggestions).extracting(PrefixTrie.Suggestion::id).containsExactly(3, 1);
+    }
+
+    @Test
+    @DisplayName("Test prefix ending inside an edge functionality")
+    public void givenPrefixInsideCompressedEdge_whenSuggest_thenMatchesAreReturned() {
+        //given
+        //when
+        List<PrefixTrie.Suggestion> matching = trie.suggest("anna pet", 10);
+        List<PrefixTrie.Suggestion> diverging = trie.suggest("anna pex", 10);
+        //then
+        assertThat(matching).extracting(PrefixTrie.Suggestion::id).containsExactly(1);
+        assertThat(diverging).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test update and remove functionality")
+    public void givenUpdatedAndRemovedDevelopers_whenSuggest_thenOnlyCurrentValuesMatch() {
+        //given
+        trie.put(1, "Maria", "Petrova", "maria@mail.ru");
+        trie.remove(3);
+        //when
+        List<PrefixTrie.Suggestion> an = trie.suggest("an", 10);
+        List<PrefixTrie.Suggestion> mar = trie.suggest("mar", 10);
+        //then
+        assertThat(an).extracting(PrefixTrie.Suggestion::id).containsExactly(2);
+        assertThat(mar).extracting(PrefixTrie.Suggestion::label).containsExactly("Maria Petrova");
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test removing everything leaves empty trie functionality")
+    public void givenManyDevelopers_whenAllRemoved_thenNothingIsSuggested() {
+        //given
+        IntStream.range(10, 1010).forEach(id -> trie.put(id, "Dev" + id, "Test", "dev" + id + "@mail.ru"));
+        long populated = trie.sizeInBytes();
+        //when
+        IntStream.range(1, 1010).forEach(trie::remove);
+        //then
+        assertThat(trie.suggest("d", 10)).isEmpty();
+        assertThat(trie.suggest("a", 10)).isEmpty();
+        assertThat(trie.size()).isZero();
+        assertThat(trie.sizeInBytes()).isLessThan(populated);
+    }
+
+    @Test
+    @DisplayName("Test snapshot is not affected by later writes functionality")
+    public void givenReaderSnapshot_whenWriterRemoves_thenReturnedSuggestionsStayIntact() {
+        //given
+        List<PrefixTrie.Suggestion> before = trie.suggest("an", 10);
+        //when
+        trie.remove(1);
+        //then
+        assertThat(before).hasSize(3);
+        assertThat(trie.suggest("an", 10)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Test blank prefix functionality")
+    public void givenBlankPrefix_whenSuggest_thenExceptionIsThrown() {
+        //given
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> trie.suggest("  ", 10));
+    }
+}
@@ -1,9 +1,24 @@
 package ru.app.cicd.service;
 
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ru.app.cicd.cache.DeveloperCache;
+import ru.app.cicd.cache.EmailFilter;
+import ru.app.cicd.cache.SpecialtyCache;
+import ru.app.cicd.changes.ChangeType;
+import ru.app.cicd.changes.DeveloperChangeFeed;
+import ru.app.cicd.dto.DeveloperDto;
+import ru.app.cicd.dto.DeveloperSpecialtyDto;
+import ru.app.cicd.dto.DeveloperField;
+import ru.app.cicd.dto.DeveloperSuggestionDto;
 import ru.app.cicd.entity.Developer;
+import ru.app.cicd.entity.Status;
 import ru.app.cicd.exception.DeveloperNotFoundException;
+import ru.app.cicd.exception.DeveloperVersionConflictException;
 import ru.app.cicd.exception.DeveloperWithDuplicateEmailException;
+import ru.app.cicd.exception.SearchIndexNotReadyException;
 import ru.app.cicd.repository.DeveloperRepository;
+import ru.app.cicd.search.DeveloperSearchIndex;
 import ru.app.cicd.storage.DeveloperStorage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,19 +26,32 @@ import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
 
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * Тестирование (unit) сервисного слоя при помощи Mockito.
@@ -33,6 +61,18 @@ public class DeveloperServiceImplTests {
 
     @Mock
     private DeveloperRepository developerRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private DeveloperCache developerCache;
+    @Mock
+    private SpecialtyCache specialtyCache;
+    @Mock
+    private EmailFilter emailFilter;
+    @Mock
+    private DeveloperSearchIndex searchIndex;
+    @Mock
+    private DeveloperChangeFeed changeFeed;
     @InjectMocks
     private DeveloperServiceImpl developerService;
 
@@ -41,13 +81,15 @@ public class DeveloperServiceImplTests {
     public void givenDeveloperToSave_whenSaveDeveloper_thenRepositoryIsCalled() {
         //given
         Developer developerToSave = DeveloperStorage.getDeveloperTransient();
-        BDDMockito.given(developerRepository.findByEmail(anyString())).willReturn(null);
-        BDDMockito.given(developerRepository.save(any(Developer.class)))
+        BDDMockito.given(developerRepository.saveAndFlush(any(Developer.class)))
                 .willReturn(DeveloperStorage.getDeveloperPaulPersisted());
         //when
         Developer savedDeveloper = developerService.saveDeveloper(developerToSave);
         //then
         assertThat(savedDeveloper).isNotNull();
+        verify(developerRepository, never()).findByEmail(anyString());
+        verify(searchIndex, times(1)).put(savedDeveloper);
+        verify(changeFeed, times(1)).publish(ChangeType.CREATED, savedDeveloper);
     }
 
     @Test
@@ -55,25 +97,68 @@ public class DeveloperServiceImplTests {
     public void givenDeveloperToSaveWithDuplicateEmail_whenSaveDeveloper_thenExceptionIsThrown() {
         //given
         Developer developerToSave = DeveloperStorage.getDeveloperTransient();
-        BDDMockito.given(developerRepository.findByEmail(anyString())).willReturn(DeveloperStorage.getDeveloperTransient());
+        BDDMockito.given(developerRepository.saveAndFlush(any(Developer.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate key", new ConstraintViolationException(
+                        "duplicate key", new SQLException("duplicate key", "23505"), Developer.EMAIL_UNIQUE_INDEX)));
         //when
         assertThrows(DeveloperWithDuplicateEmailException.class, () -> developerService.saveDeveloper(developerToSave));
         //then
-        verify(developerRepository, never()).save((any(Developer.class)));
+        verify(developerCache, never()).put(any(Developer.class));
+    }
+
+    @Test
+    @DisplayName("Test save developer with other constraint violation functionality")
+    public void givenOtherConstraintViolation_whenSaveDeveloper_thenExceptionIsNotTranslated() {
+        //given
+        Developer developerToSave = DeveloperStorage.getDeveloperTransient();
+        BDDMockito.given(developerRepository.saveAndFlush(any(Developer.class)))
+                .willThrow(new DataIntegrityViolationException("not null", new ConstraintViolationException(
+                        "not null", new SQLException("not null", "23502"), "developers_pkey")));
+        //when
+        assertThrows(DataIntegrityViolationException.class, () -> developerService.saveDeveloper(developerToSave));
+        //then
+    }
+
+    @Test
+    @DisplayName("Test batch save developers functionality")
+    public void givenDevelopersWithDuplicates_whenSaveDevelopers_thenOnlyUniqueAreSaved() {
+        //given
+        Developer existing = DeveloperStorage.getDeveloperTransient();
+        Developer halo = DeveloperStorage.getDeveloperHaloTransient();
+        Developer haloAgain = DeveloperStorage.getDeveloperHaloTransient();
+        BDDMockito.given(developerRepository.findExistingEmails(anyCollection())).willReturn(List.of(existing.getEmail()));
+        BDDMockito.given(developerRepository.save(any(Developer.class))).willAnswer(invocation -> invocation.getArgument(0));
+        //when
+        List<BatchItemResult> results = developerService.saveDevelopers(List.of(existing, halo, haloAgain));
+        //then
+        assertThat(results).extracting(BatchItemResult::isSuccess).containsExactly(false, true, false);
+        assertThat(results.get(0).getError()).isInstanceOf(DeveloperWithDuplicateEmailException.class);
+        assertThat(results.get(1).getDeveloper().getStatus()).isEqualTo(Status.ACTIVE);
+        verify(developerRepository, times(1)).findExistingEmails(anyCollection());
+        verify(developerRepository, times(1)).save(halo);
+        verify(developerRepository, never()).findByEmail(anyString());
+        verify(emailFilter, never()).mightContain(anyString());
     }
 
     @Test
     @DisplayName("Test update developer functionality")
-    public void givenDeveloperToUpdate_whenUpdateDeveloper_thenRepositoryIsCalled() {
+    public void givenDeveloperToUpdate_whenUpdateDeveloper_thenSingleVersionedUpdateIsExecuted() {
         //given
+        Developer stored = DeveloperStorage.getDeveloperMiaPersisted();
+        stored.setVersion(3L);
         Developer developerToUpdate = DeveloperStorage.getDeveloperMiaPersisted();
-        BDDMockito.given(developerRepository.existsById(anyInt())).willReturn(true);
-        BDDMockito.given(developerRepository.save(any(Developer.class))).willReturn(developerToUpdate);
+        developerToUpdate.setFirstName("Maria");
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.of(stored));
+        BDDMockito.given(developerRepository.updateIfVersion(3, 3L, "Maria", "Milova", "php", "mia@mail.ru"))
+                .willReturn(1);
         //when
         Developer updatedDeveloper = developerService.updateDeveloper(developerToUpdate);
         //then
-        assertThat(updatedDeveloper).isNotNull();
-        verify(developerRepository, times(1)).save((any(Developer.class)));
+        assertThat(updatedDeveloper.getFirstName()).isEqualTo("Maria");
+        assertThat(updatedDeveloper.getVersion()).isEqualTo(4L);
+        assertThat(updatedDeveloper.getStatus()).isEqualTo(stored.getStatus());
+        verify(developerRepository, never()).saveAndFlush((any(Developer.class)));
+        verify(developerRepository, never()).existsById(anyInt());
     }
 
     @Test
@@ -81,11 +166,47 @@ public class DeveloperServiceImplTests {
     public void givenDeveloperToUpdateWithIncorrectId_whenUpdateDeveloper_thenExceptionIsThrown() {
         //given
         Developer developerToUpdate = DeveloperStorage.getDeveloperMiaPersisted();
-        BDDMockito.given(developerRepository.existsById(anyInt())).willReturn(false);
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.empty());
         //when
         assertThrows(DeveloperNotFoundException.class, () -> developerService.updateDeveloper(developerToUpdate));
         //then
-        verify(developerRepository, never()).save((any(Developer.class)));
+        verify(developerRepository, never()).updateIfVersion(anyInt(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Test update developer with stale version functionality")
+    public void givenStaleVersion_whenUpdateDeveloper_thenConflictIsThrownAndCacheEvicted() {
+        //given
+        Developer stored = DeveloperStorage.getDeveloperMiaPersisted();
+        stored.setVersion(5L);
+        Developer developerToUpdate = DeveloperStorage.getDeveloperMiaPersisted();
+        developerToUpdate.setVersion(4L);
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.of(stored));
+        BDDMockito.given(developerRepository.updateIfVersion(anyInt(), any(), any(), any(), any(), any())).willReturn(0);
+        BDDMockito.given(developerRepository.existsById(3)).willReturn(true);
+        //when
+        assertThrows(DeveloperVersionConflictException.class, () -> developerService.updateDeveloper(developerToUpdate));
+        //then
+        verify(developerRepository, times(1)).updateIfVersion(3, 4L, "Mia", "Milova", "php", "mia@mail.ru");
+        verify(developerCache, times(1)).evict(3);
+        verify(developerCache, times(1)).putLoaded(any(Developer.class));
+        verify(developerCache, times(1)).putLoaded(stored);
+    }
+
+    @Test
+    @DisplayName("Test update developer deleted concurrently functionality")
+    public void givenDeveloperDeletedBeforeUpdate_whenUpdateDeveloper_thenNotFoundIsThrown() {
+        //given
+        Developer stored = DeveloperStorage.getDeveloperMiaPersisted();
+        stored.setVersion(0L);
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.of(stored));
+        BDDMockito.given(developerRepository.updateIfVersion(anyInt(), any(), any(), any(), any(), any())).willReturn(0);
+        BDDMockito.given(developerRepository.existsById(3)).willReturn(false);
+        //when
+        assertThrows(DeveloperNotFoundException.class,
+                () -> developerService.updateDeveloper(DeveloperStorage.getDeveloperMiaPersisted()));
+        //then
+        verify(specialtyCache, never()).invalidate(anyString());
     }
 
     @Test
@@ -109,11 +230,147 @@ public class DeveloperServiceImplTests {
         //then
     }
 
+    @Test
+    @DisplayName("Test get cached developer by id functionality")
+    public void givenCachedId_whenGetById_thenRepositoryIsNotCalled() {
+        // given
+        BDDMockito.given(developerCache.getById(anyInt())).willReturn(Optional.of(DeveloperStorage.getDeveloperMiaPersisted()));
+        // when
+        Developer developer = developerService.getDeveloperById(3);
+        // then
+        assertThat(developer).isNotNull();
+        verify(developerRepository, never()).findById(anyInt());
+    }
+
+    @Test
+    @DisplayName("Test get developer by id populates cache functionality")
+    public void givenNotCachedId_whenGetById_thenDeveloperIsCached() {
+        // given
+        Developer mia = DeveloperStorage.getDeveloperMiaPersisted();
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.of(mia));
+        // when
+        developerService.getDeveloperById(3);
+        // then
+        verify(developerCache, times(1)).putLoaded(mia);
+    }
+
+    @Test
+    @DisplayName("Test get developers by ids functionality")
+    public void givenCachedAndNotCachedIds_whenGetDevelopersByIds_thenOnlyNotCachedAreQueried() {
+        // given
+        Developer mia = DeveloperStorage.getDeveloperMiaPersisted();
+        Developer john = DeveloperStorage.getJohnDoePersisted();
+        BDDMockito.given(developerCache.getById(anyInt())).willReturn(Optional.empty());
+        BDDMockito.given(developerCache.getById(3)).willReturn(Optional.of(mia));
+        BDDMockito.given(developerRepository.findAllById(List.of(1, 7))).willReturn(List.of(john));
+        // when
+        List<Developer> developers = developerService.getDevelopersByIds(List.of(1, 3, 7, 3));
+        // then
+        assertThat(developers).containsExactly(john, mia);
+        verify(developerRepository, times(1)).findAllById(anyCollection());
+        verify(developerCache, times(1)).putLoaded(john);
+    }
+
+    @Test
+    @DisplayName("Test get developers by ids is chunked functionality")
+    public void givenManyIds_whenGetDevelopersByIds_thenQueriedInChunks() {
+        // given
+        List<Integer> ids = IntStream.rangeClosed(1, 2500).boxed().toList();
+        BDDMockito.given(developerRepository.findAllById(anyCollection())).willReturn(List.of());
+        // when
+        List<Developer> developers = developerService.getDevelopersByIds(ids);
+        // then
+        assertThat(developers).isEmpty();
+        verify(developerRepository, times(3)).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Test search developers functionality")
+    public void givenReadyIndex_whenSearchDevelopers_thenOnlyActiveDevelopersAreReturned() {
+        // given
+        Developer john = DeveloperStorage.getJohnDoePersisted();
+        Developer deletedMia = DeveloperStorage.getDeveloperMiaPersisted();
+        BDDMockito.given(searchIndex.isReady()).willReturn(true);
+        BDDMockito.given(searchIndex.search("mil", 10)).willReturn(List.of(3, 1));
+        BDDMockito.given(developerCache.getById(anyInt())).willReturn(Optional.empty());
+        BDDMockito.given(developerRepository.findAllById(List.of(3, 1))).willReturn(List.of(deletedMia, john));
+        // when
+        List<DeveloperDto> developers = developerService.searchDevelopers("mil", 10);
+        // then
+        assertThat(developers).extracting(DeveloperDto::getId).containsExactly(john.getId());
+    }
+
+    @Test
+    @DisplayName("Test search developers before index is built functionality")
+    public void givenIndexNotReady_whenSearchDevelopers_thenExceptionIsThrown() {
+        // given
+        BDDMockito.given(searchIndex.isReady()).willReturn(false);
+        // when
+        assertThrows(SearchIndexNotReadyException.class, () -> developerService.searchDevelopers("mia", 10));
+        // then
+        verifyNoInteractions(developerRepository);
+    }
+
+    @Test
+    @DisplayName("Test suggest developers functionality")
+    public void givenReadyIndex_whenSuggestDevelopers_thenIndexIsUsedWithoutRepository() {
+        // given
+        List<DeveloperSuggestionDto> expected = List.of(DeveloperSuggestionDto.builder().id(1).label("John Doe").build());
+        BDDMockito.given(searchIndex.isReady()).willReturn(true);
+        BDDMockito.given(searchIndex.suggest("jo", 5)).willReturn(expected);
+        // when
+        List<DeveloperSuggestionDto> suggestions = developerService.suggestDevelopers("jo", 5);
+        // then
+        assertThat(suggestions).isEqualTo(expected);
+        verifyNoInteractions(developerRepository, developerCache);
+    }
+
+    @Test
+    @DisplayName("Test get cached developer version functionality")
+    public void givenCachedId_whenGetDeveloperVersion_thenRepositoryIsNotCalled() {
+        // given
+        Developer mia = DeveloperStorage.getDeveloperMiaPersisted();
+        mia.setVersion(2L);
+        BDDMockito.given(developerCache.getById(3)).willReturn(Optional.of(mia));
+        // when
+        Optional<Long> version = developerService.getDeveloperVersion(3);
+        // then
+        assertThat(version).contains(2L);
+        verify(developerRepository, never()).findVersionById(anyInt());
+        verify(developerRepository, never()).findById(anyInt());
+    }
+
+    @Test
+    @DisplayName("Test get developer version reads only version functionality")
+    public void givenNotCachedId_whenGetDeveloperVersion_thenOnlyVersionIsQueried() {
+        // given
+        BDDMockito.given(developerRepository.findVersionById(3)).willReturn(Optional.of(5L));
+        // when
+        Optional<Long> version = developerService.getDeveloperVersion(3);
+        // then
+        assertThat(version).contains(5L);
+        verify(developerRepository, never()).findById(anyInt());
+        verify(developerCache, never()).putLoaded(any(Developer.class));
+    }
+
+    @Test
+    @DisplayName("Test get cached developer by email functionality")
+    public void givenCachedEmail_whenGetDeveloperByEmail_thenRepositoryIsNotCalled() {
+        //given
+        BDDMockito.given(developerCache.getByEmail(anyString())).willReturn(Optional.of(DeveloperStorage.getDeveloperPaulPersisted()));
+        //when
+        Developer developer = developerService.getDeveloperByEmail("paul@mail.ru");
+        //then
+        assertThat(developer).isNotNull();
+        verify(developerRepository, never()).findByEmail(anyString());
+    }
+
     @Test
     @DisplayName("Test get developer by email functionality")
     public void givenEmail_whenGetDeveloperByEmail_thenDeveloperIsReturned() {
         //given
         String updatedEmail = "paul@mail.ru";
+        BDDMockito.given(emailFilter.mightContain(anyString())).willReturn(true);
         BDDMockito.given(developerRepository.findByEmail(anyString())).willReturn(DeveloperStorage.getDeveloperPaulPersisted());
         //when
         Developer developer = developerService.getDeveloperByEmail(updatedEmail);
@@ -126,12 +383,24 @@ public class DeveloperServiceImplTests {
     public void givenIncorrectEmail_whenGetDeveloperByEmail_thenExceptionIsThrown() {
         //given
         String updatedEmail = "paul@mail.ru";
+        BDDMockito.given(emailFilter.mightContain(anyString())).willReturn(true);
         BDDMockito.given(developerRepository.findByEmail(anyString())).willThrow(DeveloperNotFoundException.class);
         //when
         assertThrows(DeveloperNotFoundException.class, () -> developerService.getDeveloperByEmail(updatedEmail));
         //then
     }
 
+    @Test
+    @DisplayName("Test get developer by unknown email skips database functionality")
+    public void givenEmailRejectedByFilter_whenGetDeveloperByEmail_thenRepositoryIsNotCalled() {
+        //given
+        BDDMockito.given(emailFilter.mightContain(anyString())).willReturn(false);
+        //when
+        assertThrows(DeveloperNotFoundException.class, () -> developerService.getDeveloperByEmail("unknown@mail.ru"));
+        //then
+        verify(developerRepository, never()).findByEmail(anyString());
+    }
+
     @Test
     @DisplayName("Test get all developers functionality")
     public void givenThreeDeveloper_whenGetAll_thenOnlyActiveAreReturned() {
@@ -140,13 +409,30 @@ public class DeveloperServiceImplTests {
         Developer developer2 = DeveloperStorage.getDeveloperHaloTransient();
         Developer developer3 = DeveloperStorage.getDeveloperNinaTransient();
 
-        List<Developer> developerEntities = List.of(developer1, developer2, developer3);
-        BDDMockito.given(developerRepository.findAll()).willReturn(developerEntities);
+        List<DeveloperDto> developerDtos = Stream.of(developer1, developer2, developer3)
+                .map(DeveloperDto::toDeveloperDto)
+                .toList();
+        BDDMockito.given(developerRepository.findActivePageAfter(anyInt(), any(Pageable.class))).willReturn(developerDtos);
         //whe
-        List<Developer> obtainedDevelopers = developerService.getAllDevelopers();
+        List<DeveloperDto> obtainedDevelopers = developerService.getAllDevelopers(0, 10, DeveloperField.ALL);
         //then
         assertThat(obtainedDevelopers.isEmpty()).isFalse();
         assertThat(obtainedDevelopers.size()).isEqualTo(3);
+        verify(developerRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Test get all developers with requested fields functionality")
+    public void givenRequestedFields_whenGetAll_thenNarrowedProjectionIsUsed() {
+        //given
+        Set<DeveloperField> fields = DeveloperField.parse("id,email");
+        DeveloperDto developer = DeveloperDto.builder().id(1).email("john@mail.com").build();
+        BDDMockito.given(developerRepository.findActivePageAfter(0, 10, fields)).willReturn(List.of(developer));
+        //when
+        List<DeveloperDto> obtainedDevelopers = developerService.getAllDevelopers(0, 10, fields);
+        //then
+        assertThat(obtainedDevelopers).containsExactly(developer);
+        verify(developerRepository, never()).findActivePageAfter(anyInt(), any(Pageable.class));
     }
 
     @Test
@@ -156,24 +442,41 @@ public class DeveloperServiceImplTests {
         Developer developer2 = DeveloperStorage.getDeveloperPaulPersisted();
         Developer developer3 = DeveloperStorage.getDeveloperMiaPersisted();
 
-        List<Developer> developerEntities = List.of(developer2, developer3);
-        BDDMockito.given(developerRepository.findAllActiveBySpecialty(anyString())).willReturn(developerEntities);
+        List<DeveloperDto> developerDtos = Stream.of(developer2, developer3).map(DeveloperDto::toDeveloperDto).toList();
+        BDDMockito.given(developerRepository.findAllActiveBySpecialty(anyString())).willReturn(developerDtos);
         //when
-        List<Developer> obtainedDevelopers = developerService.getAllActiveBySpeciality("java34343");
+        List<DeveloperDto> obtainedDevelopers = developerService.getAllActiveBySpeciality("java34343", DeveloperField.ALL);
         //then
         assertThat(obtainedDevelopers.isEmpty()).isFalse();
         assertThat(obtainedDevelopers.size()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("Test stream active developers functionality")
+    public void givenActiveDevelopers_whenStreamActiveDevelopers_thenEachIsConsumedWithoutEntities() {
+        //given
+        DeveloperDto developer1 = DeveloperDto.toDeveloperDto(DeveloperStorage.getDeveloperPaulPersisted());
+        DeveloperDto developer2 = DeveloperDto.toDeveloperDto(DeveloperStorage.getJohnDoePersisted());
+        BDDMockito.given(developerRepository.streamAllActive()).willReturn(Stream.of(developer1, developer2));
+        List<DeveloperDto> consumed = new ArrayList<>();
+        //when
+        developerService.streamActiveDevelopers(DeveloperField.ALL, consumed::add);
+        //then
+        assertThat(consumed).containsExactly(developer1, developer2);
+        verifyNoInteractions(entityManager);
+    }
+
     @Test
     @DisplayName("Test soft delete by id functionality")
-    public void givenId_whenSoftDeleteById_thenRepositorySaveMethodIsCalled() {
+    public void givenId_whenSoftDeleteById_thenStatusIsUpdatedInOneStatement() {
         //given
-        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.of(DeveloperStorage.getDeveloperMiaPersisted()));
+        BDDMockito.given(developerRepository.updateStatusByIds(anyCollection(), any(Status.class))).willReturn(1);
         //when
         developerService.softDeleteById(1);
         //then
-        verify(developerRepository, times(1)).save((any(Developer.class)));
+        verify(developerRepository, times(1)).updateStatusByIds(List.of(1), Status.DELETED);
+        verify(developerRepository, never()).findById(anyInt());
+        verify(developerRepository, never()).save((any(Developer.class)));
         verify(developerRepository, never()).deleteById((anyInt()));
     }
 
@@ -181,7 +484,7 @@ public class DeveloperServiceImplTests {
     @DisplayName("Test soft delete by id functionality")
     public void givenIncorrectId_whenSoftDeleteById_thenExceptionIsThrown() {
         //given
-        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.empty());
+        BDDMockito.given(developerRepository.updateStatusByIds(anyCollection(), any(Status.class))).willReturn(0);
         //when
         assertThrows(DeveloperNotFoundException.class, () -> developerService.softDeleteById(1));
         //then
@@ -192,21 +495,248 @@ public class DeveloperServiceImplTests {
     @DisplayName("Test hard delete by id functionality")
     public void givenCorrectId_whenHardDeleteById_thenDeleteRepoMethodIsCalled() {
         //given
-        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.of(DeveloperStorage.getDeveloperMiaPersisted()));
+        BDDMockito.given(developerRepository.deleteByIds(anyCollection())).willReturn(1);
         //when
         developerService.hardDeleteById(1);
         //then
-        verify(developerRepository, times(1)).deleteById((anyInt()));
+        verify(developerRepository, times(1)).deleteByIds(List.of(1));
+        verify(developerRepository, never()).findById(anyInt());
     }
 
     @Test
     @DisplayName("Test hard delete by id functionality")
     public void givenIncorrectId_whenHardDeleteById_thenExceptionIsThrown() {
         //given
-        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.empty());
+        BDDMockito.given(developerRepository.deleteByIds(anyCollection())).willReturn(0);
         //when
         assertThrows(DeveloperNotFoundException.class, () -> developerService.hardDeleteById(1));
         //then
         verify(developerRepository, never()).deleteById((anyInt()));
     }
+
+    @Test
+    @DisplayName("Test update developer refreshes cache functionality")
+    public void givenDeveloperToUpdate_whenUpdateDeveloper_thenCacheIsRefreshed() {
+        //given
+        Developer developerToUpdate = DeveloperStorage.getDeveloperMiaPersisted();
+        developerToUpdate.setVersion(0L);
+        BDDMockito.given(developerCache.getById(3)).willReturn(Optional.of(developerToUpdate));
+        BDDMockito.given(developerRepository.updateIfVersion(anyInt(), any(), any(), any(), any(), any())).willReturn(1);
+        //when
+        Developer updatedDeveloper = developerService.updateDeveloper(developerToUpdate);
+        //then
+        verify(developerCache, times(1)).put(updatedDeveloper);
+        verify(developerRepository, never()).findById(anyInt());
+    }
+
+    @Test
+    @DisplayName("Test stale read does not overwrite concurrent update in cache functionality")
+    public void givenUpdateDuringRead_whenGetDeveloperById_thenCacheKeepsUpdatedDeveloper() {
+        //given
+        DeveloperCache cache = new DeveloperCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        DeveloperServiceImpl service = new DeveloperServiceImpl(developerRepository, entityManager, cache,
+                specialtyCache, emailFilter, searchIndex, changeFeed);
+        Developer stale = DeveloperStorage.getDeveloperMiaPersisted();
+        stale.setVersion(0L);
+        Developer update = DeveloperStorage.getDeveloperMiaPersisted();
+        update.setVersion(0L);
+        update.setFirstName("Maria");
+        AtomicInteger reads = new AtomicInteger();
+        BDDMockito.given(developerRepository.findById(3)).willAnswer(invocation -> {
+            if (reads.getAndIncrement() == 0) {
+                service.updateDeveloper(update);
+            }
+            return Optional.of(stale);
+        });
+        BDDMockito.given(developerRepository.updateIfVersion(anyInt(), any(), any(), any(), any(), any())).willReturn(1);
+        //when
+        Developer obtained = service.getDeveloperById(3);
+        //then
+        assertThat(obtained.getVersion()).isEqualTo(0L);
+        assertThat(cache.getById(3)).hasValueSatisfying(cached -> {
+            assertThat(cached.getVersion()).isEqualTo(1L);
+            assertThat(cached.getFirstName()).isEqualTo("Maria");
+        });
+    }
+
+    @Test
+    @DisplayName("Test batch save with email inserted concurrently functionality")
+    public void givenEmailInsertedAfterCheck_whenSaveDevelopers_thenDuplicateEmailExceptionIsThrown() {
+        //given
+        Developer halo = DeveloperStorage.getDeveloperHaloTransient();
+        BDDMockito.given(developerRepository.findExistingEmails(anyCollection())).willReturn(List.of());
+        BDDMockito.given(developerRepository.save(any(Developer.class))).willAnswer(invocation -> invocation.getArgument(0));
+        BDDMockito.willThrow(new ConstraintViolationException("duplicate key", new SQLException(),
+                Developer.EMAIL_UNIQUE_INDEX)).given(entityManager).flush();
+        //when
+        assertThrows(DeveloperWithDuplicateEmailException.class, () -> developerService.saveDevelopers(List.of(halo)));
+        //then
+        verify(changeFeed, never()).publishAll(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("Test update developer with any version functionality")
+    public void givenAnyVersion_whenUpdateDeveloper_thenLockedRowIsUpdatedWithoutVersionCheck() {
+        //given
+        Developer stored = DeveloperStorage.getDeveloperMiaPersisted();
+        stored.setSpecialty("go");
+        stored.setVersion(4L);
+        Developer developerToUpdate = DeveloperStorage.getDeveloperMiaPersisted();
+        developerToUpdate.setVersion(Developer.ANY_VERSION);
+        BDDMockito.given(developerRepository.findByIdForUpdate(3)).willReturn(Optional.of(stored));
+        BDDMockito.given(developerRepository.updateById(anyInt(), any(), any(), any(), any())).willReturn(1);
+        //when
+        Developer updatedDeveloper = developerService.updateDeveloper(developerToUpdate);
+        //then
+        assertThat(updatedDeveloper.getVersion()).isEqualTo(5L);
+        verify(developerRepository, never()).updateIfVersion(anyInt(), any(), any(), any(), any(), any());
+        verify(developerCache, never()).getById(anyInt());
+        verify(specialtyCache, times(1)).invalidate("go");
+    }
+
+    @Test
+    @DisplayName("Test update developer with version newer than cache functionality")
+    public void givenCacheBehindRequestedVersion_whenUpdateDeveloper_thenPreviousIsReloaded() {
+        //given
+        Developer cached = DeveloperStorage.getDeveloperMiaPersisted();
+        cached.setVersion(0L);
+        Developer stored = DeveloperStorage.getDeveloperMiaPersisted();
+        stored.setSpecialty("go");
+        stored.setVersion(1L);
+        Developer developerToUpdate = DeveloperStorage.getDeveloperMiaPersisted();
+        developerToUpdate.setVersion(1L);
+        BDDMockito.given(developerCache.getById(3)).willReturn(Optional.of(cached));
+        BDDMockito.given(developerRepository.findById(3)).willReturn(Optional.of(stored));
+        BDDMockito.given(developerRepository.updateIfVersion(anyInt(), any(), any(), any(), any(), any())).willReturn(1);
+        //when
+        developerService.updateDeveloper(developerToUpdate);
+        //then
+        verify(developerRepository, times(1)).updateIfVersion(eq(3), eq(1L), any(), any(), any(), any());
+        verify(specialtyCache, times(1)).invalidate("go");
+    }
+
+    @Test
+    @DisplayName("Test update developer invalidates old and new specialty functionality")
+    public void givenSpecialtyChanged_whenUpdateDeveloper_thenBothSpecialtiesAreInvalidated() {
+        //given
+        Developer stored = DeveloperStorage.getDeveloperPaulPersisted();
+        stored.setSpecialty("php");
+        stored.setVersion(0L);
+        Developer developerToUpdate = DeveloperStorage.getDeveloperPaulPersisted();
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.of(stored));
+        BDDMockito.given(developerRepository.updateIfVersion(anyInt(), any(), any(), any(), any(), any())).willReturn(1);
+        //when
+        developerService.updateDeveloper(developerToUpdate);
+        //then
+        verify(specialtyCache, times(1)).invalidate("php");
+        verify(specialtyCache, times(1)).invalidate("java");
+    }
+
+    @Test
+    @DisplayName("Test save developer invalidates its specialty functionality")
+    public void givenDeveloperToSave_whenSaveDeveloper_thenSpecialtyIsInvalidated() {
+        //given
+        BDDMockito.given(developerRepository.saveAndFlush(any(Developer.class)))
+                .willReturn(DeveloperStorage.getDeveloperPaulPersisted());
+        //when
+        developerService.saveDeveloper(DeveloperStorage.getDeveloperTransient());
+        //then
+        verify(specialtyCache, times(1)).invalidate("java");
+    }
+
+    @Test
+    @DisplayName("Test soft delete invalidates affected specialties functionality")
+    public void givenIds_whenSoftDeleteByIds_thenAffectedSpecialtiesAreInvalidated() {
+        //given
+        List<Integer> ids = List.of(2, 3);
+        BDDMockito.given(developerRepository.findIdAndSpecialtyByIds(ids)).willReturn(List.of(
+                new DeveloperSpecialtyDto(2, "java"), new DeveloperSpecialtyDto(3, "php")));
+        BDDMockito.given(developerRepository.updateStatusByIds(ids, Status.DELETED)).willReturn(2);
+        //when
+        developerService.softDeleteByIds(ids);
+        //then
+        verify(specialtyCache, times(1)).invalidateAll(List.of("java", "php"));
+    }
+
+    @Test
+    @DisplayName("Test bulk hard delete removes developers from search index functionality")
+    public void givenIds_whenHardDeleteByIds_thenSearchIndexIsUpdated() {
+        //given
+        List<Integer> ids = List.of(2, 3);
+        BDDMockito.given(developerRepository.findIdAndSpecialtyByIds(ids)).willReturn(List.of(
+                new DeveloperSpecialtyDto(2, "java"), new DeveloperSpecialtyDto(3, "java")));
+        BDDMockito.given(developerRepository.deleteByIds(ids)).willReturn(2);
+        //when
+        developerService.hardDeleteByIds(ids);
+        //then
+        verify(searchIndex, times(1)).removeAll(ids);
+        verify(changeFeed, times(1)).publishDeleted(ChangeType.HARD_DELETED, ids);
+    }
+
+    @Test
+    @DisplayName("Test bulk hard delete skips missing ids functionality")
+    public void givenMissingIds_whenHardDeleteByIds_thenOnlyExistingIdsArePublished() {
+        //given
+        List<Integer> ids = List.of(2, 999_999);
+        BDDMockito.given(developerRepository.findIdAndSpecialtyByIds(ids))
+                .willReturn(List.of(new DeveloperSpecialtyDto(2, "java")));
+        BDDMockito.given(developerRepository.deleteByIds(List.of(2))).willReturn(1);
+        //when
+        int deleted = developerService.hardDeleteByIds(ids);
+        //then
+        assertThat(deleted).isEqualTo(1);
+        verify(developerCache, times(1)).evictAll(List.of(2));
+        verify(searchIndex, times(1)).removeAll(List.of(2));
+        verify(changeFeed, times(1)).publishDeleted(ChangeType.HARD_DELETED, List.of(2));
+    }
+
+    @Test
+    @DisplayName("Test bulk soft delete of missing ids functionality")
+    public void givenOnlyMissingIds_whenSoftDeleteByIds_thenNothingIsPublished() {
+        //given
+        List<Integer> ids = List.of(999_998, 999_999);
+        BDDMockito.given(developerRepository.findIdAndSpecialtyByIds(ids)).willReturn(List.of());
+        //when
+        int deleted = developerService.softDeleteByIds(ids);
+        //then
+        assertThat(deleted).isEqualTo(0);
+        verify(developerRepository, never()).updateStatusByIds(anyCollection(), any(Status.class));
+        verifyNoInteractions(searchIndex, changeFeed);
+    }
+
+    @Test
+    @DisplayName("Test delete evicts cache functionality")
+    public void givenId_whenHardDeleteById_thenCacheIsEvicted() {
+        //given
+        BDDMockito.given(developerRepository.deleteByIds(anyCollection())).willReturn(1);
+        //when
+        developerService.hardDeleteById(1);
+        //then
+        verify(developerCache, times(1)).evict(1);
+    }
+
+    @Test
+    @DisplayName("Test bulk soft delete by ids functionality")
+    public void givenIds_whenSoftDeleteByIds_thenAffectedCountIsReturned() {
+        //given
+        List<Integer> ids = List.of(1, 2, 3);
+        BDDMockito.given(developerRepository.findIdAndSpecialtyByIds(ids)).willReturn(List.of(
+                new DeveloperSpecialtyDto(1, "java"), new DeveloperSpecialtyDto(2, "java")));
+        BDDMockito.given(developerRepository.updateStatusByIds(List.of(1, 2), Status.DELETED)).willReturn(2);
+        //when
+        int deleted = developerService.softDeleteByIds(ids);
+        //then
+        assertThat(deleted).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test bulk hard delete by empty ids functionality")
+    public void givenNoIds_whenHardDeleteByIds_thenRepositoryIsNotCalled() {
+        //given
+        //when
+        int deleted = developerService.hardDeleteByIds(List.of());
+        //then
+        assertThat(deleted).isEqualTo(0);
+        verify(developerRepository, never()).deleteByIds(anyCollection());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package ru.app.cicd.timing;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Тестируем HDR-гистограммы эндпоинта и их публикацию в Micrometer.
+ */
+public class LayerHistogramsTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final LayerHistograms histograms = new LayerHistograms("GET", "/api/v1/developers/{id}", meterRegistry);
+
+    @Test
+    @DisplayName("Test recorded layers are published as function timers functionality")
+    public void givenRecordedRequests_whenReadTimer_thenCountAndTotalArePublished() {
+        //given
+        histograms.record(1_000_000, 2_000_000, 3_000_000, 4_000_000);
+        histograms.record(1_000_000, 2_000_000, 5_000_000, 4_000_000);
+        //when
+        FunctionTimer db = timer("db");
+        FunctionTimer controller = timer("controller");
+        //then
+        assertThat(db.count()).isEqualTo(2);
+        assertThat(db.totalTime(TimeUnit.MILLISECONDS)).isCloseTo(8, within(0.08));
+        assertThat(controller.count()).isEqualTo(2);
+        assertThat(controller.totalTime(TimeUnit.MILLISECONDS)).isCloseTo(2, within(0.02));
+    }
+
+    @Test
+    @DisplayName("Test percentile gauges functionality")
+    public void givenSkewedLatencies_whenReadPercentiles_thenTailIsVisible() {
+        //given
+        for (int i = 0; i < 998; i++) {
+            histograms.record(0, 0, 1_000_000, 0);
+        }
+        histograms.record(0, 0, 100_000_000, 0);
+        histograms.record(0, 0, 100_000_000, 0);
+        //when
+        double median = percentile("db", "0.5");
+        double p999 = percentile("db", "0.999");
+        //then
+        assertThat(median).isCloseTo(0.001, within(0.00001));
+        assertThat(p999).isCloseTo(0.1, within(0.001));
+        assertThat(percentile("service", "0.99")).isLessThan(0.000_001);
+    }
+
+    @Test
+    @DisplayName("Test request timings are split into layers functionality")
+    public void givenRequestTimings_whenRecord_thenServiceExcludesDbTime() {
+        //given
+        RequestTimings timings = RequestTimings.start();
+        timings.record(Layer.SERVICE, 5_000_000);
+        timings.record(Layer.DB, 3_000_000);
+        RequestTimings.clear();
+        //when
+        histograms.record(timings);
+        //then
+        assertThat(timer("service").totalTime(TimeUnit.MILLISECONDS)).isCloseTo(2, within(0.02));
+        assertThat(timer("db").totalTime(TimeUnit.MILLISECONDS)).isCloseTo(3, within(0.03));
+        assertThat(timer("serialization").count()).isEqualTo(1);
+        assertThat(RequestTimings.current()).isNull();
+    }
+
+    private FunctionTimer timer(String layer) {
+        return meterRegistry.get("developer.request.layer").tag("layer", layer).functionTimer();
+    }
+
+    private double percentile(String layer, String phi) {
+        return meterRegistry.get("developer.request.layer.percentile")
+                .tag("layer", layer)
+                .tag("phi", phi)
+                .gauge()
+                .value();
+    }
+}
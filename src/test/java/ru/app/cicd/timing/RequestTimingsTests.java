@@ -0,0 +1,69 @@
+package ru.app.cicd.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тестируем накопление времени по слоям и формат заголовка Server-Timing.
+ */
+public class RequestTimingsTests {
+
+    @AfterEach
+    public void tearDown() {
+        RequestTimings.clear();
+    }
+
+    @Test
+    @DisplayName("Test service time excludes nested db time functionality")
+    public void givenServiceAndDbTime_whenExclusiveNanos_thenDbIsSubtractedFromService() {
+        //given
+        RequestTimings timings = RequestTimings.start();
+        timings.record(Layer.SERVICE, 5_000_000);
+        timings.record(Layer.DB, 2_000_000);
+        timings.record(Layer.DB, 1_000_000);
+        //when
+        long service = timings.exclusiveNanos(Layer.SERVICE);
+        long db = timings.exclusiveNanos(Layer.DB);
+        //then
+        assertThat(service).isEqualTo(2_000_000);
+        assertThat(db).isEqualTo(3_000_000);
+        assertThat(RequestTimings.current()).isSameAs(timings);
+    }
+
+    @Test
+    @DisplayName("Test server timing header format functionality")
+    public void givenRecordedTimings_whenToServerTiming_thenMillisWithThreeDecimalsAreReturned() {
+        //given
+        RequestTimings timings = RequestTimings.start();
+        timings.record(Layer.DB, 1_234_567);
+        timings.record(Layer.SERVICE, 1_250_000);
+        timings.record(Layer.SERIALIZATION, 12_000_000);
+        //when
+        String header = timings.toServerTiming();
+        //then
+        assertThat(header).isEqualTo("db;dur=1.234, service;dur=0.015, serialization;dur=12.000");
+    }
+
+    @Test
+    @DisplayName("Test layer interceptor records time inside request functionality")
+    public void givenRequestTimings_whenInterceptedCall_thenLayerTimeIsRecorded() {
+        //given
+        RequestTimings timings = RequestTimings.start();
+        ProxyFactory proxyFactory = new ProxyFactory((Supplier<String>) () -> "result");
+        proxyFactory.addAdvice(new LayerTimingInterceptor(Layer.DB));
+        @SuppressWarnings("unchecked")
+        Supplier<String> proxy = (Supplier<String>) proxyFactory.getProxy();
+        //when
+        String result = proxy.get();
+        //then
+        assertThat(result).isEqualTo("result");
+        assertThat(timings.nanos(Layer.DB)).isPositive();
+        assertThat(timings.nanos(Layer.SERVICE)).isZero();
+    }
+}